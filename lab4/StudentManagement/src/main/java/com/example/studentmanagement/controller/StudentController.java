@@ -0,0 +1,250 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.dao.StudentDAO;
+import com.example.studentmanagement.listener.AppContextListener;
+import com.example.studentmanagement.model.Student;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Handles every student page: loads or saves data through StudentDAO, then forwards to a view
+ * under /WEB-INF/views that only renders it.
+ */
+@WebServlet("/student")
+public class StudentController extends HttpServlet {
+
+    private static final int RECORDS_PER_PAGE = 10;
+
+    private static final String CODE_PATTERN = "[A-Z]{2}[0-9]{3,}";
+    private static final String EMAIL_PATTERN = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+
+    private StudentDAO studentDAO;
+
+    @Override
+    public void init() {
+        studentDAO = (StudentDAO) getServletContext().getAttribute(AppContextListener.STUDENT_DAO);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String action = request.getParameter("action");
+        if (action == null) {
+            action = "list";
+        }
+
+        switch (action) {
+            case "new":
+                forward(request, response, "add_student.jsp");
+                break;
+            case "edit":
+                showEditForm(request, response);
+                break;
+            case "delete":
+                deleteStudent(request, response);
+                break;
+            default:
+                listStudents(request, response);
+                break;
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        request.setCharacterEncoding("UTF-8");
+        String action = request.getParameter("action");
+
+        if ("insert".equals(action)) {
+            insertStudent(request, response);
+        } else if ("update".equals(action)) {
+            updateStudent(request, response);
+        } else if ("delete".equals(action)) {
+            deleteStudent(request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+        }
+    }
+
+    private void listStudents(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String keyword = request.getParameter("keyword");
+        if (keyword != null && keyword.trim().isEmpty()) {
+            keyword = null;
+        }
+        int page = parseInt(request.getParameter("page"), 1);
+
+        try {
+            request.setAttribute("studentPage", studentDAO.findPage(keyword, page, RECORDS_PER_PAGE));
+        } catch (SQLException e) {
+            e.printStackTrace();
+            request.setAttribute("dbError", "Database Error: " + e.getMessage());
+        }
+        forward(request, response, "list_students.jsp");
+    }
+
+    private void showEditForm(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        int id = parseInt(request.getParameter("id"), -1);
+        if (id <= 0) {
+            redirect(response, "error", "Invalid student ID");
+            return;
+        }
+
+        try {
+            Student student = studentDAO.getStudentById(id);
+            if (student == null) {
+                redirect(response, "error", "Student not found");
+                return;
+            }
+            request.setAttribute("student", student);
+            forward(request, response, "edit_student.jsp");
+        } catch (SQLException e) {
+            e.printStackTrace();
+            redirect(response, "error", "Database error");
+        }
+    }
+
+    private void insertStudent(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        Student student = readForm(request);
+        String error = validate(student, true);
+
+        if (error == null) {
+            try {
+                if (studentDAO.addStudent(student)) {
+                    redirect(response, "message", "Student added successfully");
+                    return;
+                }
+                error = "Failed to add student";
+            } catch (SQLException e) {
+                e.printStackTrace();
+                error = e.getErrorCode() == StudentDAO.ER_DUP_ENTRY
+                        ? "Student code already exists" : "Database error";
+            }
+        }
+
+        // Back to the form with what was typed
+        request.setAttribute("error", error);
+        request.setAttribute("student", student);
+        forward(request, response, "add_student.jsp");
+    }
+
+    private void updateStudent(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        Student student = readForm(request);
+        student.setId(parseInt(request.getParameter("id"), -1));
+        if (student.getId() <= 0) {
+            redirect(response, "error", "Invalid student ID");
+            return;
+        }
+        String error = validate(student, false);
+
+        if (error == null) {
+            try {
+                if (studentDAO.updateStudent(student)) {
+                    redirect(response, "message", "Student updated successfully");
+                    return;
+                }
+                error = "Update failed";
+            } catch (SQLException e) {
+                e.printStackTrace();
+                error = "Error occurred";
+            }
+        }
+
+        request.setAttribute("error", error);
+        request.setAttribute("student", student);
+        forward(request, response, "edit_student.jsp");
+    }
+
+    private void deleteStudent(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        int id = parseInt(request.getParameter("id"), -1);
+        if (id <= 0) {
+            redirect(response, "error", "Invalid ID");
+            return;
+        }
+
+        try {
+            if (studentDAO.deleteStudent(id)) {
+                redirect(response, "message", "Student deleted successfully");
+            } else {
+                redirect(response, "error", "Student not found");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            if (e.getErrorCode() == StudentDAO.ER_ROW_IS_REFERENCED) {
+                redirect(response, "error", "Cannot delete: has related records");
+            } else {
+                redirect(response, "error", "Database error");
+            }
+        }
+    }
+
+    private Student readForm(HttpServletRequest request) {
+        return new Student(
+                trimToNull(request.getParameter("student_code")),
+                trimToNull(request.getParameter("full_name")),
+                trimToNull(request.getParameter("email")),
+                trimToNull(request.getParameter("major")));
+    }
+
+    /**
+     * @return the message to show, or null if the student can be saved
+     */
+    private String validate(Student student, boolean isNew) {
+        if (student.getFullName() == null || (isNew && student.getStudentCode() == null)) {
+            return "Required fields are missing";
+        }
+        if (isNew && !student.getStudentCode().matches(CODE_PATTERN)) {
+            return "Student code must be 2 uppercase letters followed by 3+ digits (e.g., SV001)";
+        }
+        if (student.getEmail() != null && !student.getEmail().matches(EMAIL_PATTERN)) {
+            return "Invalid email format";
+        }
+        return null;
+    }
+
+    private void forward(HttpServletRequest request, HttpServletResponse response, String view)
+            throws ServletException, IOException {
+        request.getRequestDispatcher("/WEB-INF/views/" + view).forward(request, response);
+    }
+
+    private void redirect(HttpServletResponse response, String param, String text) throws IOException {
+        response.sendRedirect("student?" + param + "=" + URLEncoder.encode(text, StandardCharsets.UTF_8));
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.studentmanagement.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of MySQL connections, created once per application by AppContextListener.
+ * Connections handed out are proxies; closing one puts the physical connection back.
+ *
+ * Connections live as long as the application, so with cachePrepStmts and useServerPrepStmts
+ * in the URL the driver keeps each statement prepared on the server and reuses it the next
+ * time any request asks for the same SQL on that connection.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30_000;
+
+    private static final class Idle {
+        final Connection connection;
+        final long returnedAt;
+
+        Idle(Connection connection, long returnedAt) {
+            this.connection = connection;
+            this.returnedAt = returnedAt;
+        }
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final long timeoutMillis;
+
+    // Permits = connections that may still be handed out
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Idle> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long timeoutMillis) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(maxSize, true);
+        try {
+            // The webapp class loader isn't searched by DriverManager's service lookup
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("MySQL Driver not found", e);
+        }
+    }
+
+    /**
+     * Borrow a connection, waiting up to the configured timeout when all are in use.
+     * Close it to give it back.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            return wrap(takeIdleOrOpen());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Idle entry;
+        while ((entry = idle.pollFirst()) != null) {
+            closeQuietly(entry.connection);
+        }
+    }
+
+    private Connection takeIdleOrOpen() throws SQLException {
+        Idle entry;
+        // Most recently returned first: it is the least likely to have been dropped by the server
+        while ((entry = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - entry.returnedAt < VALIDATE_AFTER_IDLE_MILLIS
+                    || entry.connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return entry.connection;
+            }
+            closeQuietly(entry.connection);
+        }
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    private void giveBack(Connection connection) {
+        try {
+            if (closed || connection.isClosed()) {
+                closeQuietly(connection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            idle.offerFirst(new Idle(connection, System.currentTimeMillis()));
+        } catch (SQLException e) {
+            closeQuietly(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Connection wrap(Connection physical) {
+        boolean[] returned = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!returned[0]) {
+                                returned[0] = true;
+                                giveBack(physical);
+                            }
+                            return null;
+                        case "isClosed":
+                            return returned[0] || physical.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Pooled" + physical;
+                        default:
+                            if (returned[0]) {
+                                throw new SQLException("Connection has been returned to the pool");
+                            }
+                            try {
+                                return method.invoke(physical, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
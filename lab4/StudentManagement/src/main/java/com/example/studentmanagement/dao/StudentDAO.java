@@ -0,0 +1,153 @@
+package com.example.studentmanagement.dao;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All SQL of the application. Statements are fixed strings with parameters only, so the
+ * driver's per-connection statement cache can reuse them across requests.
+ * Errors are thrown to the caller, which decides what the user is told.
+ */
+public class StudentDAO {
+
+    // MySQL error codes the pages report in their own words
+    public static final int ER_DUP_ENTRY = 1062;
+    public static final int ER_ROW_IS_REFERENCED = 1451;
+
+    private static final String COLUMNS = "id, student_code, full_name, email, major, created_at";
+
+    private static final String SQL_COUNT = "SELECT COUNT(*) FROM students";
+    private static final String SQL_COUNT_SEARCH =
+            "SELECT COUNT(*) FROM students WHERE full_name LIKE ? OR student_code LIKE ?";
+    private static final String SQL_PAGE =
+            "SELECT " + COLUMNS + " FROM students ORDER BY id DESC LIMIT ? OFFSET ?";
+    private static final String SQL_PAGE_SEARCH =
+            "SELECT " + COLUMNS + " FROM students WHERE full_name LIKE ? OR student_code LIKE ?"
+                    + " ORDER BY id DESC LIMIT ? OFFSET ?";
+    private static final String SQL_GET_BY_ID = "SELECT " + COLUMNS + " FROM students WHERE id = ?";
+    private static final String SQL_INSERT =
+            "INSERT INTO students (student_code, full_name, email, major) VALUES (?, ?, ?, ?)";
+    private static final String SQL_UPDATE =
+            "UPDATE students SET full_name = ?, email = ?, major = ? WHERE id = ?";
+    private static final String SQL_DELETE = "DELETE FROM students WHERE id = ?";
+
+    private final ConnectionPool pool;
+
+    public StudentDAO(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Load one page of students, newest first, optionally filtered by name or code.
+     * A page number past the end is clamped to the last page.
+     * @param keyword search text, or null for all students
+     */
+    public StudentPage findPage(String keyword, int page, int pageSize) throws SQLException {
+        String pattern = keyword != null ? "%" + escapeLike(keyword) + "%" : null;
+
+        try (Connection conn = pool.getConnection()) {
+            int totalRecords;
+            try (PreparedStatement pstmt = conn.prepareStatement(pattern != null ? SQL_COUNT_SEARCH : SQL_COUNT)) {
+                if (pattern != null) {
+                    pstmt.setString(1, pattern);
+                    pstmt.setString(2, pattern);
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    totalRecords = rs.getInt(1);
+                }
+            }
+
+            int totalPages = Math.max(1, (totalRecords + pageSize - 1) / pageSize);
+            int currentPage = Math.min(Math.max(page, 1), totalPages);
+            List<Student> students = new ArrayList<>(pageSize);
+
+            if (totalRecords > 0) {
+                try (PreparedStatement pstmt = conn.prepareStatement(pattern != null ? SQL_PAGE_SEARCH : SQL_PAGE)) {
+                    int index = 1;
+                    if (pattern != null) {
+                        pstmt.setString(index++, pattern);
+                        pstmt.setString(index++, pattern);
+                    }
+                    pstmt.setInt(index++, pageSize);
+                    pstmt.setInt(index, (currentPage - 1) * pageSize);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            students.add(mapRow(rs));
+                        }
+                    }
+                }
+            }
+            return new StudentPage(students, currentPage, pageSize, totalRecords, keyword);
+        }
+    }
+
+    /**
+     * @return the student, or null if there is none with this id
+     */
+    public Student getStudentById(int id) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_GET_BY_ID)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapRow(rs) : null;
+            }
+        }
+    }
+
+    public boolean addStudent(Student student) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_INSERT)) {
+            pstmt.setString(1, student.getStudentCode());
+            pstmt.setString(2, student.getFullName());
+            pstmt.setString(3, student.getEmail());
+            pstmt.setString(4, student.getMajor());
+            return pstmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Update name, email and major; the student code never changes
+     */
+    public boolean updateStudent(Student student) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_UPDATE)) {
+            pstmt.setString(1, student.getFullName());
+            pstmt.setString(2, student.getEmail());
+            pstmt.setString(3, student.getMajor());
+            pstmt.setInt(4, student.getId());
+            return pstmt.executeUpdate() > 0;
+        }
+    }
+
+    public boolean deleteStudent(int id) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_DELETE)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        }
+    }
+
+    private Student mapRow(ResultSet rs) throws SQLException {
+        Student student = new Student();
+        student.setId(rs.getInt(1));
+        student.setStudentCode(rs.getString(2));
+        student.setFullName(rs.getString(3));
+        student.setEmail(rs.getString(4));
+        student.setMajor(rs.getString(5));
+        student.setCreatedAt(rs.getTimestamp(6));
+        return student;
+    }
+
+    // Search text is matched literally, so % and _ typed by the user are not wildcards
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.studentmanagement.listener;
+
+import com.example.studentmanagement.dao.ConnectionPool;
+import com.example.studentmanagement.dao.StudentDAO;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Creates the connection pool and the DAO when the application starts and closes the pool on undeploy.
+ */
+@WebListener
+public class AppContextListener implements ServletContextListener {
+
+    // ServletContext attribute names
+    public static final String CONNECTION_POOL = "connectionPool";
+    public static final String STUDENT_DAO = "studentDAO";
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3307/student_management"
+            + "?useSSL=false"
+            + "&allowPublicKeyRetrieval=true"
+            + "&serverTimezone=UTC"
+            + "&cachePrepStmts=true"
+            + "&useServerPrepStmts=true"
+            + "&prepStmtCacheSize=64";
+    private static final int DEFAULT_POOL_SIZE = 20;
+    private static final long DEFAULT_POOL_TIMEOUT_MILLIS = 5000;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        ServletContext context = sce.getServletContext();
+
+        ConnectionPool pool = new ConnectionPool(
+                param(context, "db.url", DEFAULT_URL),
+                param(context, "db.user", "user1"),
+                param(context, "db.password", "user1"),
+                Integer.parseInt(param(context, "db.pool.maxSize", String.valueOf(DEFAULT_POOL_SIZE))),
+                Long.parseLong(param(context, "db.pool.timeoutMillis", String.valueOf(DEFAULT_POOL_TIMEOUT_MILLIS))));
+        context.setAttribute(CONNECTION_POOL, pool);
+        context.setAttribute(STUDENT_DAO, new StudentDAO(pool));
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        ConnectionPool pool = (ConnectionPool) sce.getServletContext().getAttribute(CONNECTION_POOL);
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static String param(ServletContext context, String name, String defaultValue) {
+        String value = context.getInitParameter(name);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+}
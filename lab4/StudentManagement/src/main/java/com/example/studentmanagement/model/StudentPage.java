@@ -0,0 +1,62 @@
+package com.example.studentmanagement.model;
+
+import java.util.List;
+
+/**
+ * One page of the student list, with what the view needs to draw the page links.
+ */
+public class StudentPage {
+
+    // Page links shown on each side of the current page
+    private static final int LINK_RADIUS = 3;
+
+    private final List<Student> students;
+    private final int page;
+    private final int pageSize;
+    private final int totalRecords;
+    private final String keyword;
+
+    public StudentPage(List<Student> students, int page, int pageSize, int totalRecords, String keyword) {
+        this.students = students;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.totalRecords = totalRecords;
+        this.keyword = keyword;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getTotalRecords() {
+        return totalRecords;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public boolean isSearch() {
+        return keyword != null;
+    }
+
+    public int getTotalPages() {
+        return (totalRecords + pageSize - 1) / pageSize;
+    }
+
+    public int getFirstLink() {
+        return Math.max(1, page - LINK_RADIUS);
+    }
+
+    public int getLastLink() {
+        return Math.min(getTotalPages(), page + LINK_RADIUS);
+    }
+}
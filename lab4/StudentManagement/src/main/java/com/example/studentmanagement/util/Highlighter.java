@@ -0,0 +1,58 @@
+package com.example.studentmanagement.util;
+
+import java.util.Locale;
+
+/**
+ * EL function (see WEB-INF/student.tld) that marks search matches in the student list.
+ */
+public final class Highlighter {
+
+    private Highlighter() {
+    }
+
+    /**
+     * @return the text as HTML, with every case-insensitive occurrence of the keyword in a mark element
+     */
+    public static String highlight(String text, String keyword) {
+        if (text == null) {
+            return "";
+        }
+        if (keyword == null || keyword.isEmpty()) {
+            return escape(text);
+        }
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        if (lowerText.length() != text.length()) {
+            // Lower-casing changed the length, so indexes wouldn't line up; show it unmarked
+            return escape(text);
+        }
+
+        StringBuilder html = new StringBuilder(text.length() + 16);
+        int from = 0;
+        int match;
+        while ((match = lowerText.indexOf(lowerKeyword, from)) >= 0) {
+            html.append(escape(text.substring(from, match)))
+                    .append("<mark>")
+                    .append(escape(text.substring(match, match + keyword.length())))
+                    .append("</mark>");
+            from = match + keyword.length();
+        }
+        return html.append(escape(text.substring(from))).toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder html = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': html.append("&lt;"); break;
+                case '>': html.append("&gt;"); break;
+                case '&': html.append("&amp;"); break;
+                case '"': html.append("&#034;"); break;
+                case '\'': html.append("&#039;"); break;
+                default: html.append(c);
+            }
+        }
+        return html.toString();
+    }
+}
@@ -1,4 +1,5 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="jakarta.tags.core" prefix="c" %>
 <!DOCTYPE html>
 <html>
 <head>
@@ -73,16 +74,18 @@
 <div class="container">
     <h2>➕ Add New Student</h2>
 
-    <% if (request.getParameter("error") != null) { %>
+    <c:if test="${not empty error}">
     <div class="error">
-        <%= request.getParameter("error") %>
+        <c:out value="${error}"/>
     </div>
-    <% } %>
+    </c:if>
 
-    <form action="process_add.jsp" method="POST" onsubmit="return submitForm(this)">
+    <form action="student" method="POST" onsubmit="return submitForm(this)">
+        <input type="hidden" name="action" value="insert">
         <div class="form-group">
             <label for="student_code">Student Code <span class="required">*</span></label>
             <input type="text" id="student_code" name="student_code"
+                   value="<c:out value='${student.studentCode}'/>"
                    placeholder="e.g., SV001" required
                    pattern="[A-Z]{2}[0-9]{3,}"
                    title="Format: 2 uppercase letters + 3+ digits">
@@ -91,23 +94,26 @@
         <div class="form-group">
             <label for="full_name">Full Name <span class="required">*</span></label>
             <input type="text" id="full_name" name="full_name"
+                   value="<c:out value='${student.fullName}'/>"
                    placeholder="Enter full name" required>
         </div>
 
         <div class="form-group">
             <label for="email">Email</label>
             <input type="email" id="email" name="email"
+                   value="<c:out value='${student.email}'/>"
                    placeholder="student@email.com">
         </div>
 
         <div class="form-group">
             <label for="major">Major</label>
             <input type="text" id="major" name="major"
+                   value="<c:out value='${student.major}'/>"
                    placeholder="e.g., Computer Science">
         </div>
 
         <button type="submit" class="btn-submit">💾 Save Student</button>
-        <a href="list_students.jsp" class="btn-cancel">Cancel</a>
+        <a href="student" class="btn-cancel">Cancel</a>
     </form>
 </div>
 
@@ -0,0 +1,70 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="jakarta.tags.core" prefix="c" %>
+<!DOCTYPE html>
+<html>
+<head>
+  <meta charset="UTF-8">
+  <title>Edit Student</title>
+  <style>
+    /* Same CSS as add_student.jsp */
+    body { font-family: Arial, sans-serif; margin: 20px; background: #f5f5f5; }
+    .container {
+      max-width: 600px; margin: 50px auto; background: white;
+      padding: 30px; border-radius: 10px; box-shadow: 0 2px 10px rgba(0,0,0,0.1);
+    }
+    .form-group { margin-bottom: 20px; }
+    label { display: block; margin-bottom: 5px; font-weight: bold; }
+    input[type="text"], input[type="email"] {
+      width: 100%; padding: 10px; border: 1px solid #ddd;
+      border-radius: 5px; box-sizing: border-box;
+    }
+    .btn-submit {
+      background: #ffc107; color: #333; padding: 12px 30px;
+      border: none; border-radius: 5px; cursor: pointer;
+    }
+    .btn-cancel {
+      background: #6c757d; color: white; padding: 12px 30px;
+      text-decoration: none; display: inline-block; border-radius: 5px;
+    }
+    .error { background: #f8d7da; color: #721c24; padding: 10px; border-radius: 5px; margin-bottom: 20px; }
+  </style>
+</head>
+<body>
+<div class="container">
+  <h2>✏️ Edit Student Information</h2>
+
+  <c:if test="${not empty error}">
+  <div class="error"><c:out value="${error}"/></div>
+  </c:if>
+
+  <form action="student" method="POST">
+    <input type="hidden" name="action" value="update">
+    <input type="hidden" name="id" value="${student.id}">
+
+    <div class="form-group">
+      <label>Student Code</label>
+      <input type="text" name="student_code" value="<c:out value='${student.studentCode}'/>" readonly>
+      <small style="color: #666;">Cannot be changed</small>
+    </div>
+
+    <div class="form-group">
+      <label>Full Name *</label>
+      <input type="text" name="full_name" value="<c:out value='${student.fullName}'/>" required>
+    </div>
+
+    <div class="form-group">
+      <label>Email</label>
+      <input type="email" name="email" value="<c:out value='${student.email}'/>">
+    </div>
+
+    <div class="form-group">
+      <label>Major</label>
+      <input type="text" name="major" value="<c:out value='${student.major}'/>">
+    </div>
+
+    <button type="submit" class="btn-submit">💾 Update</button>
+    <a href="student" class="btn-cancel">Cancel</a>
+  </form>
+</div>
+</body>
+</html>
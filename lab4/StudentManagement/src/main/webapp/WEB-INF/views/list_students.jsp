@@ -0,0 +1,217 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="jakarta.tags.core" prefix="c" %>
+<%@ taglib uri="/WEB-INF/student.tld" prefix="sm" %>
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8">
+    <title>Student List</title>
+    <style>
+        body {
+            font-family: Arial, sans-serif;
+            margin: 20px;
+            background-color: #f5f5f5;
+        }
+        h1 { color: #333; }
+
+        .message {
+            padding: 10px;
+            margin-bottom: 20px;
+            border-radius: 5px;
+            display: flex;
+            align-items: center;
+        }
+        .message i {
+            margin-right: 10px;
+            font-size: 1.2em;
+        }
+        .success {
+            background-color: #d4edda;
+            color: #155724;
+            border: 1px solid #c3e6cb;
+        }
+        .error {
+            background-color: #f8d7da;
+            color: #721c24;
+            border: 1px solid #f5c6cb;
+        }
+        .btn {
+            display: inline-block;
+            padding: 10px 20px;
+            margin-bottom: 20px;
+            background-color: #007bff;
+            color: white;
+            text-decoration: none;
+            border-radius: 5px;
+            border: none;
+            cursor: pointer;
+        }
+        table {
+            width: 100%;
+            border-collapse: collapse;
+            background-color: white;
+        }
+        th {
+            background-color: #007bff;
+            color: white;
+            padding: 12px;
+            text-align: left;
+        }
+        td {
+            padding: 10px;
+            border-bottom: 1px solid #ddd;
+        }
+        tr:hover { background-color: #f8f9fa; }
+        .action-link {
+            color: #007bff;
+            text-decoration: none;
+            margin-right: 10px;
+        }
+        .delete-link { color: #dc3545; }
+        mark {
+            background-color: yellow;
+            font-weight: bold;
+            padding: 2px;
+        }
+
+        .pagination {
+            margin-top: 20px;
+            text-align: center;
+        }
+        .pagination a, .pagination strong {
+            padding: 8px 12px;
+            margin: 0 4px;
+            border: 1px solid #ddd;
+            text-decoration: none;
+            color: #007bff;
+            border-radius: 5px;
+        }
+        .pagination strong {
+            background-color: #007bff;
+            color: white;
+            border-color: #007bff;
+        }
+
+        .table-responsive {
+            overflow-x: auto;
+        }
+        @media (max-width: 768px) {
+            table {
+                font-size: 12px;
+            }
+            th, td {
+                padding: 5px;
+            }
+        }
+    </style>
+    <link rel="stylesheet" href="https://cdnjs.cloudflare.com/ajax/libs/font-awesome/6.0.0-beta3/css/all.min.css">
+</head>
+<body>
+<h1>📚 Student Management System</h1>
+
+<c:if test="${not empty param.message}">
+<div class="message success">
+    <i class="fas fa-check-circle"></i> <c:out value="${param.message}"/>
+</div>
+</c:if>
+
+<c:if test="${not empty param.error}">
+<div class="message error">
+    <i class="fas fa-times-circle"></i> <c:out value="${param.error}"/>
+</div>
+</c:if>
+
+<a href="student?action=new" class="btn">➕ Add New Student</a>
+
+<form action="student" method="GET">
+    <input type="text" name="keyword" placeholder="Search by name or code..."
+           value="<c:out value='${studentPage.keyword}'/>">
+    <button type="submit" class="btn">Search</button>
+    <c:if test="${studentPage.search}">
+    <a href="student" class="btn" style="background-color: #6c757d;">Clear Search</a>
+    </c:if>
+</form>
+
+<div class="table-responsive">
+    <table>
+        <thead>
+        <tr>
+            <th>ID</th>
+            <th>Student Code</th>
+            <th>Full Name</th>
+            <th>Email</th>
+            <th>Major</th>
+            <th>Created At</th>
+            <th>Actions</th>
+        </tr>
+        </thead>
+        <tbody>
+        <c:if test="${not empty dbError}">
+        <tr><td colspan="7"><c:out value="${dbError}"/></td></tr>
+        </c:if>
+        <c:forEach var="student" items="${studentPage.students}">
+        <tr>
+            <td>${student.id}</td>
+            <td>${sm:highlight(student.studentCode, studentPage.keyword)}</td>
+            <td>${sm:highlight(student.fullName, studentPage.keyword)}</td>
+            <td><c:out value="${student.email}" default="N/A"/></td>
+            <td><c:out value="${student.major}" default="N/A"/></td>
+            <td>${student.createdAt}</td>
+            <td>
+                <a href="student?action=edit&id=${student.id}" class="action-link">✏️ Edit</a>
+                <a href="student?action=delete&id=${student.id}"
+                   class="action-link delete-link"
+                   onclick="return confirm('Are you sure?')">🗑️ Delete</a>
+            </td>
+        </tr>
+        </c:forEach>
+        </tbody>
+    </table>
+</div>
+
+<c:if test="${studentPage.totalPages > 1}">
+<c:url var="pageUrl" value="student">
+    <c:if test="${studentPage.search}"><c:param name="keyword" value="${studentPage.keyword}"/></c:if>
+</c:url>
+<c:set var="pageUrl" value="${pageUrl}${studentPage.search ? '&' : '?'}page="/>
+<div class="pagination">
+    <c:if test="${studentPage.page > 1}">
+    <a href="${pageUrl}${studentPage.page - 1}">Previous</a>
+    </c:if>
+
+    <c:if test="${studentPage.firstLink > 1}">
+    <a href="${pageUrl}1">1</a>
+    <c:if test="${studentPage.firstLink > 2}">…</c:if>
+    </c:if>
+    <c:forEach var="i" begin="${studentPage.firstLink}" end="${studentPage.lastLink}">
+        <c:choose>
+            <c:when test="${i == studentPage.page}"><strong>${i}</strong></c:when>
+            <c:otherwise><a href="${pageUrl}${i}">${i}</a></c:otherwise>
+        </c:choose>
+    </c:forEach>
+    <c:if test="${studentPage.lastLink < page.totalPages}">
+    <c:if test="${studentPage.lastLink < page.totalPages - 1}">…</c:if>
+    <a href="${pageUrl}${studentPage.totalPages}">${studentPage.totalPages}</a>
+    </c:if>
+
+    <c:if test="${studentPage.page < page.totalPages}">
+    <a href="${pageUrl}${studentPage.page + 1}">Next</a>
+    </c:if>
+</div>
+</c:if>
+
+<script>
+    setTimeout(function() {
+        var messages = document.querySelectorAll('.message');
+        messages.forEach(function(msg) {
+            msg.style.opacity = '0';
+            msg.style.transition = 'opacity 1s ease-out';
+
+            setTimeout(function() {
+                msg.style.display = 'none';
+            }, 1000);
+        });
+    }, 3000);
+</script>
+</body>
+</html>
\ No newline at end of file
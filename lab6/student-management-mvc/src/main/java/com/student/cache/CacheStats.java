@@ -0,0 +1,44 @@
+package com.student.cache;
+
+/**
+ * Point-in-time counters of one cache region, shown on the admin stats page.
+ */
+public class CacheStats {
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+
+    CacheStats(String name, int size, int maxSize, long ttlMillis, long hits, long misses,
+               long evictions, long expirations, long invalidations) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+    }
+
+    public String getName() { return name; }
+    public int getSize() { return size; }
+    public int getMaxSize() { return maxSize; }
+    public long getTtlMillis() { return ttlMillis; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public long getExpirations() { return expirations; }
+    public long getInvalidations() { return invalidations; }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,165 @@
+package com.student.cache;
+
+import com.student.dao.StudentChangeListener;
+import com.student.model.Student;
+import com.student.model.StudentPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the hottest StudentDAO reads: single students by id, the total
+ * count, per-major lists and the first page of each listing.
+ *
+ * Registered as a {@link StudentChangeListener}, so every insert, update and delete drops
+ * exactly the entries it can affect: the row itself, the count, and the lists and first
+ * pages of the old and new major (plus the unfiltered first pages). Entries also expire
+ * after the TTL, which bounds staleness from writes made outside this application.
+ */
+public class StudentCache implements StudentChangeListener {
+
+    private static final String TOTAL_KEY = "total";
+
+    // First page of a listing; major is "" for the unfiltered list
+    private static final class FirstPageKey {
+        final String major;
+        final String sortColumn;
+        final String order;
+        final int size;
+
+        FirstPageKey(String major, String sortColumn, String order, int size) {
+            this.major = major;
+            this.sortColumn = sortColumn;
+            this.order = order;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FirstPageKey)) {
+                return false;
+            }
+            FirstPageKey other = (FirstPageKey) o;
+            return size == other.size && major.equals(other.major)
+                    && sortColumn.equals(other.sortColumn) && order.equals(other.order);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(major, sortColumn, order, size);
+        }
+    }
+
+    private final LruCache<Integer, Student> byId;
+    private final LruCache<String, Integer> counts;
+    private final LruCache<String, List<Student>> byMajor;
+    private final LruCache<FirstPageKey, StudentPage> firstPages;
+
+    public StudentCache(int maxStudents, long ttlMillis) {
+        byId = new LruCache<>("Students by id", maxStudents, ttlMillis);
+        counts = new LruCache<>("Total count", 1, ttlMillis);
+        byMajor = new LruCache<>("Lists by major", 64, ttlMillis);
+        firstPages = new LruCache<>("First pages", 256, ttlMillis);
+    }
+
+    public Student getStudent(int id, Function<Integer, Student> loader) {
+        // Callers may edit what they get back, so never hand out the cached instance
+        return copyOf(byId.get(id, key -> copyOf(loader.apply(key))));
+    }
+
+    public int getTotalStudents(Supplier<Integer> loader) {
+        return counts.get(TOTAL_KEY, key -> loader.get());
+    }
+
+    public List<Student> getStudentsByMajor(String major, Supplier<List<Student>> loader) {
+        return byMajor.get(majorKey(major), key -> Collections.unmodifiableList(loader.get()));
+    }
+
+    /**
+     * @param major      filter value, null or empty for all majors
+     * @param sortColumn already whitelisted sort column
+     * @param order      "ASC" or "DESC"
+     */
+    public StudentPage getFirstPage(String major, String sortColumn, String order, int size,
+                                    Supplier<StudentPage> loader) {
+        FirstPageKey key = new FirstPageKey(majorKey(major), sortColumn, order, size);
+        return firstPages.get(key, k -> {
+            StudentPage page = loader.get();
+            return new StudentPage(Collections.unmodifiableList(page.getStudents()),
+                    page.getNextCursor(), page.getPreviousCursor(), page.getPageSize());
+        });
+    }
+
+    @Override
+    public void studentAdded(Student student) {
+        counts.invalidate(TOTAL_KEY);
+        invalidateMajor(student.getMajor());
+    }
+
+    @Override
+    public void studentUpdated(Student before, Student after) {
+        byId.invalidate(after.getId());
+        if (before == null) {
+            invalidateMajor(null);
+        } else {
+            invalidateMajor(before.getMajor());
+        }
+        invalidateMajor(after.getMajor());
+    }
+
+    @Override
+    public void studentDeleted(Student before) {
+        byId.invalidate(before.getId());
+        counts.invalidate(TOTAL_KEY);
+        invalidateMajor(before.getMajor());
+    }
+
+    // A null major means we don't know which lists the row was in, so drop them all
+    private void invalidateMajor(String major) {
+        if (major == null) {
+            byMajor.clear();
+            firstPages.clear();
+            return;
+        }
+        String majorKey = majorKey(major);
+        byMajor.invalidate(majorKey);
+        firstPages.invalidateIf(key -> key.major.isEmpty() || key.major.equals(majorKey));
+    }
+
+    // MySQL compares majors case-insensitively and ignoring trailing spaces, so key them the same way
+    private static String majorKey(String major) {
+        return major == null ? "" : major.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public void clear() {
+        byId.clear();
+        counts.clear();
+        byMajor.clear();
+        firstPages.clear();
+    }
+
+    public List<CacheStats> getStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        stats.add(byId.stats());
+        stats.add(counts.stats());
+        stats.add(byMajor.stats());
+        stats.add(firstPages.stats());
+        return stats;
+    }
+
+    private static Student copyOf(Student student) {
+        if (student == null) {
+            return null;
+        }
+        Student copy = new Student(student.getStudentCode(), student.getFullName(),
+                student.getEmail(), student.getMajor());
+        copy.setId(student.getId());
+        copy.setCreatedAt(student.getCreatedAt());
+        return copy;
+    }
+}
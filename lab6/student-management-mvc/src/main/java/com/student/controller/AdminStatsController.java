@@ -0,0 +1,67 @@
+package com.student.controller;
+
+import com.student.cache.StudentCache;
+import com.student.dao.ConnectionPool;
+import com.student.dao.LastLoginWriter;
+import com.student.listener.AppContextListener;
+import com.student.metrics.AppMetrics;
+import com.student.search.StudentSearchIndex;
+import com.student.security.LoginExecutor;
+import com.student.security.LoginThrottle;
+import com.student.session.SessionStore;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Admin-only page with live runtime statistics.
+ * Access is enforced by AdminFilter.
+ */
+@WebServlet("/admin/stats")
+public class AdminStatsController extends HttpServlet {
+
+    private ConnectionPool connectionPool;
+    private StudentSearchIndex searchIndex;
+    private LastLoginWriter lastLoginWriter;
+    private LoginExecutor loginExecutor;
+    private LoginThrottle loginThrottle;
+    private StudentCache studentCache;
+    private AppMetrics metrics;
+    private SessionStore sessionStore;
+
+    @Override
+    public void init() {
+        connectionPool = (ConnectionPool) getServletContext().getAttribute(AppContextListener.CONNECTION_POOL);
+        searchIndex = (StudentSearchIndex) getServletContext().getAttribute(AppContextListener.SEARCH_INDEX);
+        lastLoginWriter = (LastLoginWriter) getServletContext().getAttribute(AppContextListener.LAST_LOGIN_WRITER);
+        loginExecutor = (LoginExecutor) getServletContext().getAttribute(AppContextListener.LOGIN_EXECUTOR);
+        loginThrottle = (LoginThrottle) getServletContext().getAttribute(AppContextListener.LOGIN_THROTTLE);
+        studentCache = (StudentCache) getServletContext().getAttribute(AppContextListener.STUDENT_CACHE);
+        metrics = (AppMetrics) getServletContext().getAttribute(AppContextListener.METRICS);
+        sessionStore = (SessionStore) getServletContext().getAttribute(AppContextListener.SESSION_STORE);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        request.setAttribute("poolStats", connectionPool.stats());
+        request.setAttribute("poolConfig", connectionPool.getConfig());
+        request.setAttribute("searchIndex", searchIndex);
+        request.setAttribute("lastLoginWriter", lastLoginWriter);
+        request.setAttribute("loginExecutor", loginExecutor);
+        request.setAttribute("loginThrottle", loginThrottle);
+        request.setAttribute("cacheStats", studentCache.getStats());
+        request.setAttribute("slowQueries", metrics.getSlowQueries());
+        request.setAttribute("slowQueryMillis", metrics.getSlowQueryMillis());
+        request.setAttribute("sessionStore", sessionStore);
+
+        // Never let a proxy or the browser serve stale numbers
+        response.setHeader("Cache-Control", "no-store");
+        request.getRequestDispatcher("/views/admin-stats.jsp").forward(request, response);
+    }
+}
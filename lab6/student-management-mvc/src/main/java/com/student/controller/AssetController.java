@@ -0,0 +1,90 @@
+package com.student.controller;
+
+import com.student.listener.AppContextListener;
+import com.student.utils.StaticAssets;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Serves /assets/ from memory.
+ * Fingerprinted URLs are cached for a year without revalidation; plain URLs are revalidated
+ * on every use, which the ETag turns into a 304 while the file is unchanged.
+ */
+@WebServlet("/assets/*")
+public class AssetController extends HttpServlet {
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+    private static final String CACHE_REVALIDATE = "public, no-cache";
+
+    private StaticAssets assets;
+
+    @Override
+    public void init() {
+        assets = (StaticAssets) getServletContext().getAttribute(AppContextListener.STATIC_ASSETS);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String path = request.getPathInfo();
+        StaticAssets.Asset asset = path == null ? null : assets.find(path.substring(1));
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader("Cache-Control", asset.isFingerprinted() ? CACHE_FOREVER : CACHE_REVALIDATE);
+        response.setHeader("ETag", asset.getEtag());
+        response.setHeader("Vary", "Accept-Encoding");
+
+        if (matches(request.getHeader("If-None-Match"), asset.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = asset.getContent();
+        if (asset.getGzipped() != null && acceptsGzip(request.getHeader("Accept-Encoding"))) {
+            body = asset.getGzipped();
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentType(asset.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // If-None-Match may list several tags, or * for any
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,9 @@
 package com.student.controller;
 
 import com.student.dao.UserDAO;
+import com.student.listener.AppContextListener;
 import com.student.model.User;
+import com.student.session.SessionManager;
 import org.mindrot.jbcrypt.BCrypt;
 
 import jakarta.servlet.ServletException;
@@ -9,22 +11,22 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
 @WebServlet("/change-password")
 public class ChangePasswordController extends HttpServlet {
 
     private UserDAO userDAO;
+    private SessionManager sessions;
 
     @Override
     public void init() throws ServletException {
-        userDAO = new UserDAO();
+        userDAO = (UserDAO) getServletContext().getAttribute(AppContextListener.USER_DAO);
+        sessions = (SessionManager) getServletContext().getAttribute(AppContextListener.SESSION_MANAGER);
     }
 
     protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("user") == null) {
+        if (sessions.currentUser(request, response) == null) {
             response.sendRedirect("login");
             return;
         }
@@ -32,13 +34,14 @@ public class ChangePasswordController extends HttpServlet {
     }
 
     protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("user") == null) {
+        User sessionUser = sessions.currentUser(request, response);
+        if (sessionUser == null) {
             response.sendRedirect("login");
             return;
         }
 
-        User user = (User) session.getAttribute("user");
+        // The session doesn't keep the password hash, so check against the database
+        User user = userDAO.getUserById(sessionUser.getId());
 
         String currentPassword = request.getParameter("currentPassword");
         String newPassword = request.getParameter("newPassword");
@@ -46,7 +49,9 @@ public class ChangePasswordController extends HttpServlet {
 
         String errorMessage = null;
 
-        if (currentPassword == null || newPassword == null || confirmPassword == null) {
+        if (user == null) {
+            errorMessage = "Database error occurred, please try again.";
+        } else if (currentPassword == null || newPassword == null || confirmPassword == null) {
             errorMessage = "All fields are required";
         } else if (newPassword.length() < 8) {
             errorMessage = "New password must be at least 8 characters";
@@ -66,7 +71,8 @@ public class ChangePasswordController extends HttpServlet {
 
         if (userDAO.updatePassword(user.getId(), hashedNewPassword)) {
             user.setPassword(hashedNewPassword);
-            session.setAttribute("user", user);
+            // Logins made with the old password end, on every node
+            sessions.renew(request, response, user);
             request.setAttribute("success", "Password changed successfully!");
         } else {
             request.setAttribute("error", "Database error occurred, please try again.");
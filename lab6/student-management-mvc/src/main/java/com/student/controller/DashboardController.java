@@ -1,7 +1,9 @@
 package com.student.controller;
 
-import com.student.dao.StudentDAO;
+import com.student.listener.AppContextListener;
+import com.student.model.DashboardStats;
 import com.student.model.User;
+import com.student.service.DashboardStatsService;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -14,11 +16,11 @@ import java.io.IOException;
 @WebServlet("/dashboard")
 public class DashboardController extends HttpServlet {
 
-    private StudentDAO studentDAO;
+    private DashboardStatsService statsService;
 
     @Override
     public void init() {
-        studentDAO = new StudentDAO();
+        statsService = (DashboardStatsService) getServletContext().getAttribute(AppContextListener.DASHBOARD_STATS);
     }
 
     @Override
@@ -34,11 +36,12 @@ public class DashboardController extends HttpServlet {
 
         User user = (User) session.getAttribute("user");
 
-        // Get statistics
-        int totalStudents = studentDAO.getTotalStudents();
+        // Get statistics (kept current in memory, no query unless they have expired)
+        DashboardStats stats = statsService.getStats();
 
         // Set attributes
-        request.setAttribute("totalStudents", totalStudents);
+        request.setAttribute("stats", stats);
+        request.setAttribute("totalStudents", stats.getTotalStudents());
         request.setAttribute("welcomeMessage", "Welcome back, " + user.getFullName() + "!");
 
         // Forward to dashboard
@@ -1,24 +1,40 @@
 package com.student.controller;
 
 import com.student.dao.UserDAO;
+import com.student.listener.AppContextListener;
 import com.student.model.User;
+import com.student.security.LoginExecutor;
+import com.student.security.LoginThrottle;
+import com.student.session.SessionManager;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-@WebServlet("/login")
+@WebServlet(urlPatterns = "/login", asyncSupported = true)
 public class LoginController extends HttpServlet {
 
+    private static final long LOGIN_TIMEOUT_MILLIS = 10_000;
+
     private UserDAO userDAO;
+    private LoginExecutor loginExecutor;
+    private LoginThrottle loginThrottle;
+    private SessionManager sessions;
 
     @Override
     public void init() {
-        userDAO = new UserDAO();
+        userDAO = (UserDAO) getServletContext().getAttribute(AppContextListener.USER_DAO);
+        loginExecutor = (LoginExecutor) getServletContext().getAttribute(AppContextListener.LOGIN_EXECUTOR);
+        loginThrottle = (LoginThrottle) getServletContext().getAttribute(AppContextListener.LOGIN_THROTTLE);
+        sessions = (SessionManager) getServletContext().getAttribute(AppContextListener.SESSION_MANAGER);
     }
 
     /**
@@ -29,8 +45,7 @@ public class LoginController extends HttpServlet {
             throws ServletException, IOException {
 
         // If already logged in, redirect to dashboard
-        HttpSession session = request.getSession(false);
-        if (session != null && session.getAttribute("user") != null) {
+        if (sessions.currentUser(request, response) != null) {
             response.sendRedirect("dashboard");
             return;
         }
@@ -40,7 +55,8 @@ public class LoginController extends HttpServlet {
     }
 
     /**
-     * Process login form
+     * Process login form.
+     * Password verification runs on the LoginExecutor; this request thread returns immediately.
      */
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
@@ -59,26 +75,71 @@ public class LoginController extends HttpServlet {
             return;
         }
 
-        // Authenticate user
-        User user = userDAO.authenticate(username, password);
+        // Refuse throttled callers before spending any time on hashing
+        String clientIp = request.getRemoteAddr();
+        long retryAfterMillis = loginThrottle.retryAfterMillis(username, clientIp);
+        if (retryAfterMillis > 0) {
+            long seconds = (retryAfterMillis + 999) / 1000;
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(seconds));
+            request.setAttribute("error", "Too many failed attempts. Please try again in " + seconds + " seconds");
+            request.setAttribute("username", username);
+            request.getRequestDispatcher("/views/login.jsp").forward(request, response);
+            return;
+        }
 
-        if (user != null) {
-            // Authentication successful
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(LOGIN_TIMEOUT_MILLIS);
+
+        // Whoever gets here first (verifier or timeout) owns the response
+        AtomicBoolean finished = new AtomicBoolean();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                if (finished.compareAndSet(false, true)) {
+                    sendBusy(asyncContext, username);
+                }
+            }
 
-            // Invalidate old session (prevent session fixation)
-            HttpSession oldSession = request.getSession(false);
-            if (oldSession != null) {
-                oldSession.invalidate();
+            @Override
+            public void onComplete(AsyncEvent event) {
             }
 
-            // Create new session
-            HttpSession session = request.getSession(true);
-            session.setAttribute("user", user);
-            session.setAttribute("role", user.getRole());
-            session.setAttribute("fullName", user.getFullName());
+            @Override
+            public void onError(AsyncEvent event) {
+                finished.set(true);
+            }
 
-            // Set session timeout (30 minutes)
-            session.setMaxInactiveInterval(30 * 60);
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        try {
+            loginExecutor.submit(() -> {
+                User user = userDAO.authenticate(username, password);
+                if (finished.compareAndSet(false, true)) {
+                    completeLogin(asyncContext, user, username, clientIp, rememberMe);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (finished.compareAndSet(false, true)) {
+                sendBusy(asyncContext, username);
+            }
+        }
+    }
+
+    private void completeLogin(AsyncContext asyncContext, User user, String username,
+                               String clientIp, String rememberMe) {
+        HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+
+        if (user != null) {
+            // Authentication successful
+            loginThrottle.recordSuccess(username);
+
+            // New session and token; only id, role and credential version are persisted
+            sessions.login(request, response, user);
 
             // Handle "Remember Me" (optional - cookie implementation)
             if ("on".equals(rememberMe)) {
@@ -86,18 +147,32 @@ public class LoginController extends HttpServlet {
             }
 
             // Redirect based on role
-            if (user.isAdmin()) {
-                response.sendRedirect("dashboard");
-            } else {
-                response.sendRedirect("student?action=list");
+            try {
+                if (user.isAdmin()) {
+                    response.sendRedirect("dashboard");
+                } else {
+                    response.sendRedirect("student?action=list");
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
             }
+            asyncContext.complete();
 
         } else {
             // Authentication failed
+            loginThrottle.recordFailure(username, clientIp);
             request.setAttribute("error", "Invalid username or password");
             request.setAttribute("username", username); // Keep username in form
-            request.getRequestDispatcher("/views/login.jsp").forward(request, response);
+            asyncContext.dispatch("/views/login.jsp");
         }
     }
-}
 
+    private void sendBusy(AsyncContext asyncContext, String username) {
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", "1");
+        asyncContext.getRequest().setAttribute("error", "The server is busy. Please try again in a moment");
+        asyncContext.getRequest().setAttribute("username", username);
+        asyncContext.dispatch("/views/login.jsp");
+    }
+}
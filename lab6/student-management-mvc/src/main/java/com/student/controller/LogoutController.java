@@ -1,27 +1,31 @@
 package com.student.controller;
 
+import com.student.listener.AppContextListener;
+import com.student.session.SessionManager;
+
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
 @WebServlet("/logout")
 public class LogoutController extends HttpServlet {
 
+    private SessionManager sessions;
+
+    @Override
+    public void init() {
+        sessions = (SessionManager) getServletContext().getAttribute(AppContextListener.SESSION_MANAGER);
+    }
+
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        // Get current session
-        HttpSession session = request.getSession(false);
-
-        if (session != null) {
-            // Invalidate session
-            session.invalidate();
-        }
+        // Remove the stored session everywhere and invalidate this node's copy
+        sessions.logout(request, response);
 
         // Redirect to login page with message
         response.sendRedirect("login?message=You have been logged out successfully");
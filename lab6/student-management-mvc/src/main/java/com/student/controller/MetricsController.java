@@ -0,0 +1,36 @@
+package com.student.controller;
+
+import com.student.listener.AppContextListener;
+import com.student.metrics.AppMetrics;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Request and query metrics in the Prometheus text exposition format.
+ * Access is enforced by AdminFilter.
+ */
+@WebServlet("/metrics")
+public class MetricsController extends HttpServlet {
+
+    private AppMetrics metrics;
+
+    @Override
+    public void init() {
+        metrics = (AppMetrics) getServletContext().getAttribute(AppContextListener.METRICS);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType("text/plain; version=0.0.4");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        metrics.writePrometheus(response.getWriter());
+    }
+}
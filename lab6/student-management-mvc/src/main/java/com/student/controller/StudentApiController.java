@@ -0,0 +1,115 @@
+package com.student.controller;
+
+import com.student.dao.StudentDAO;
+import com.student.listener.AppContextListener;
+import com.student.model.StudentQuery;
+import com.student.utils.JsonWriter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Read-only JSON API over the students table for other services.
+ *
+ * GET /api/students?keyword=&major=&sortBy=&order=&limit=
+ *
+ * Rows are written to the response as the driver reads them from a streaming ResultSet,
+ * so exporting the whole table uses a constant amount of heap.
+ */
+@WebServlet("/api/students")
+public class StudentApiController extends HttpServlet {
+
+    private StudentDAO studentDAO;
+
+    @Override
+    public void init() {
+        studentDAO = (StudentDAO) getServletContext().getAttribute(AppContextListener.STUDENT_DAO);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        int limit;
+        try {
+            String limitParam = request.getParameter("limit");
+            limit = limitParam == null || limitParam.isEmpty() ? 0 : Integer.parseInt(limitParam);
+        } catch (NumberFormatException e) {
+            limit = -1;
+        }
+        if (limit < 0) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "limit must be a non-negative integer");
+            return;
+        }
+
+        StudentQuery query = new StudentQuery(request.getParameter("keyword"), request.getParameter("major"),
+                request.getParameter("sortBy"), request.getParameter("order"), null, null, 0);
+
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+
+        JsonWriter json = new JsonWriter(openWriter(response));
+        long[] count = {0};
+
+        try {
+            json.beginObject().name("students").beginArray();
+
+            studentDAO.streamStudents(query, limit, student -> {
+                try {
+                    json.beginObject()
+                            .name("id").value(student.getId())
+                            .name("studentCode").value(student.getStudentCode())
+                            .name("fullName").value(student.getFullName())
+                            .name("email").value(student.getEmail())
+                            .name("major").value(student.getMajor())
+                            .name("createdAt").value(student.getCreatedAt() == null
+                                    ? null : student.getCreatedAt().toInstant().toString())
+                            .endObject();
+                    count[0]++;
+                } catch (IOException e) {
+                    // Client went away; abandon the query
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            json.endArray().name("count").value(count[0]).endObject();
+            json.flush();
+
+        } catch (SQLException e) {
+            e.printStackTrace();
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Database error");
+            }
+            // Otherwise the truncated body is left invalid on purpose, so clients can't mistake it for a full export
+        } catch (UncheckedIOException e) {
+            System.out.println("Student export aborted after " + count[0] + " rows: " + e.getCause().getMessage());
+        }
+    }
+
+    // On the output stream rather than getWriter(): a PrintWriter swallows IOExceptions, so a
+    // client that disconnected would never stop the query
+    private static Writer openWriter(HttpServletResponse response) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        JsonWriter json = new JsonWriter(openWriter(response));
+        json.beginObject().name("error").value(message).endObject();
+        json.flush();
+    }
+}
@@ -1,7 +1,11 @@
 package com.student.controller;
 
 import com.student.dao.StudentDAO;
+import com.student.listener.AppContextListener;
 import com.student.model.Student;
+import com.student.model.StudentPage;
+import com.student.model.StudentQuery;
+import com.student.utils.StudentValidator;
 
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -11,7 +15,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Map;
 
 @WebServlet("/student")
 public class StudentController extends HttpServlet {
@@ -20,7 +24,7 @@ public class StudentController extends HttpServlet {
 
     @Override
     public void init() {
-        studentDAO = new StudentDAO();
+        studentDAO = (StudentDAO) getServletContext().getAttribute(AppContextListener.STUDENT_DAO);
     }
 
     @Override
@@ -43,16 +47,9 @@ public class StudentController extends HttpServlet {
             case "delete":
                 deleteStudent(request, response);
                 break;
-            case "search":
-                searchStudents(request, response);
-            case "sort":
-                sortStudents(request, response);
-                break;
-            case "filter":
-                filterStudents(request, response);
-                break;
             default:
-                listStudents(request, response);
+                // list, query and the older search/sort/filter links all share one query path
+                queryStudents(request, response);
                 break;
         }
     }
@@ -73,17 +70,50 @@ public class StudentController extends HttpServlet {
         }
     }
 
-    // List all students
-    private void listStudents(HttpServletRequest request, HttpServletResponse response)
+    // List students one keyset page at a time, narrowed by keyword and major
+    private void queryStudents(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        List<Student> students = studentDAO.getAllStudents();
-        request.setAttribute("students", students);
+        String keyword = request.getParameter("keyword");
+        String major = request.getParameter("major");
+        String sortBy = request.getParameter("sortBy");
+        String order = request.getParameter("order");
+
+        // Newest first unless the user picked a sort
+        if (sortBy == null || sortBy.isEmpty()) {
+            sortBy = "id";
+            if (order == null || order.isEmpty()) {
+                order = "desc";
+            }
+        }
+
+        StudentQuery query = new StudentQuery(keyword, major, sortBy, order,
+                request.getParameter("after"), request.getParameter("before"),
+                parsePageSize(request.getParameter("size")));
+        StudentPage page = studentDAO.queryStudents(query);
+
+        request.setAttribute("students", page.getStudents());
+        request.setAttribute("page", page);
+        request.setAttribute("keyword", query.getKeyword());
+        request.setAttribute("currentMajor", query.getMajor());
+        request.setAttribute("sortBy", sortBy);
+        request.setAttribute("order", order);
 
         RequestDispatcher dispatcher = request.getRequestDispatcher("/views/student-list.jsp");
         dispatcher.forward(request, response);
     }
 
+    private int parsePageSize(String size) {
+        if (size == null || size.isEmpty()) {
+            return StudentDAO.DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Integer.parseInt(size);
+        } catch (NumberFormatException e) {
+            return StudentDAO.DEFAULT_PAGE_SIZE;
+        }
+    }
+
     // Show form for new student
     private void showNewForm(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
@@ -171,92 +201,11 @@ public class StudentController extends HttpServlet {
         }
     }
 
-    private void searchStudents(HttpServletRequest request, HttpServletResponse response)
-            throws ServletException, IOException {
-        String searchTxt = request.getParameter("keyword");
-        List<Student> students;
-
-        if (searchTxt != null && !searchTxt.trim().isEmpty()) {
-            students = studentDAO.searchStudents(searchTxt);
-        } else {
-            students = studentDAO.getAllStudents();
-        }
-
-        request.setAttribute("students", students);
-        request.setAttribute("keyword", searchTxt);
-        request.getRequestDispatcher("./views/student-list.jsp").forward(request, response);
-    }
-
     private boolean validateStudent(Student student, HttpServletRequest request) {
-        boolean isValid = true;
-
-        String code = student.getStudentCode();
-        String codePattern = "[A-Z]{2}[0-9]{3,}";
-
-        if (code == null || code.trim().isEmpty()) {
-            request.setAttribute("errorCode", "Student code is required");
-            isValid = false;
-        } else if (!code.matches(codePattern)) {
-            request.setAttribute("errorCode", "Invalid format. Use 2 letters + 3+ digits (e.g., SV001)");
-            isValid = false;
-        }
-
-        String name = student.getFullName();
-        if (name == null || name.trim().isEmpty()) {
-            request.setAttribute("errorName", "Full name is required");
-            isValid = false;
-        } else if (name.trim().length() < 2) {
-            request.setAttribute("errorName", "Name must be at least 2 characters");
-            isValid = false;
+        Map<String, String> errors = StudentValidator.validate(student);
+        for (Map.Entry<String, String> error : errors.entrySet()) {
+            request.setAttribute(error.getKey(), error.getValue());
         }
-
-        String email = student.getEmail();
-        String emailPattern = "^[A-Za-z0-9+_.-]+@(.+)$";
-
-        if (email != null && !email.trim().isEmpty()) {
-            if (!email.matches(emailPattern)) {
-                request.setAttribute("errorEmail", "Invalid email format");
-                isValid = false;
-            }
-        }
-
-        String major = student.getMajor();
-        if (major == null || major.trim().isEmpty()) {
-            request.setAttribute("errorMajor", "Major is required");
-            isValid = false;
-        }
-
-        return isValid;
-    }
-
-    private void sortStudents(HttpServletRequest request, HttpServletResponse response)
-            throws ServletException, IOException {
-        String sortBy = request.getParameter("sortBy");
-        String order = request.getParameter("order");
-
-        List<Student> students = studentDAO.getStudentsSorted(sortBy, order);
-
-        request.setAttribute("students", students);
-        request.setAttribute("sortBy", sortBy);
-        request.setAttribute("order", order);
-
-        request.getRequestDispatcher("/views/student-list.jsp").forward(request, response);
-    }
-
-    private void filterStudents(HttpServletRequest request, HttpServletResponse response)
-            throws ServletException, IOException {
-        String major = request.getParameter("major");
-        List<Student> students;
-
-        if (major != null && !major.isEmpty()) {
-            students = studentDAO.getStudentsByMajor(major);
-        } else {
-            students = studentDAO.getAllStudents();
-        }
-
-        request.setAttribute("students", students);
-        request.setAttribute("currentMajor", major);
-
-        request.getRequestDispatcher("/views/student-list.jsp").forward(request, response);
+        return errors.isEmpty();
     }
 }
@@ -0,0 +1,367 @@
+package com.student.controller;
+
+import com.student.dao.StudentDAO;
+import com.student.listener.AppContextListener;
+import com.student.model.ImportReport;
+import com.student.model.Student;
+import com.student.utils.CsvRowParser;
+import com.student.utils.MultipartStreamParser;
+import com.student.utils.StudentValidator;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Bulk student import from a CSV upload (admin only, see AdminFilter).
+ *
+ * The request body is read with non-blocking I/O, parsed as a stream and inserted in
+ * JDBC batches of "import.batchSize" rows, one transaction per batch, on the import executor. Accepts either a
+ * multipart form upload (field "file") or a raw text/csv body.
+ *
+ * CSV columns: student_code, full_name, email, major. A header row is optional.
+ */
+@WebServlet(urlPatterns = "/import-students", asyncSupported = true)
+public class StudentImportController extends HttpServlet {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final long IMPORT_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+    private StudentDAO studentDAO;
+    private Executor importExecutor;
+    private int batchSize;
+
+    @Override
+    public void init() {
+        studentDAO = (StudentDAO) getServletContext().getAttribute(AppContextListener.STUDENT_DAO);
+        importExecutor = (Executor) getServletContext().getAttribute(AppContextListener.IMPORT_EXECUTOR);
+
+        batchSize = DEFAULT_BATCH_SIZE;
+        String configured = getServletContext().getInitParameter("import.batchSize");
+        if (configured != null) {
+            try {
+                batchSize = Math.max(1, Integer.parseInt(configured.trim()));
+            } catch (NumberFormatException e) {
+                System.out.println("Ignoring invalid import.batchSize: " + configured);
+            }
+        }
+    }
+
+    /**
+     * Display the upload form
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        request.getRequestDispatcher("/views/student-import.jsp").forward(request, response);
+    }
+
+    /**
+     * Start a non-blocking read of the uploaded file
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String contentType = request.getContentType();
+        String boundary = MultipartStreamParser.boundaryOf(contentType);
+        boolean rawCsv = contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/");
+
+        if (boundary == null && !rawCsv) {
+            request.setAttribute("error", "Please upload a CSV file");
+            request.getRequestDispatcher("/views/student-import.jsp").forward(request, response);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(IMPORT_TIMEOUT_MILLIS);
+
+        ServletInputStream input = request.getInputStream();
+        input.setReadListener(new ImportReadListener(asyncContext, input, boundary));
+    }
+
+    /**
+     * Pulls body bytes whenever the container has them, without parking a request thread on a slow upload.
+     *
+     * Full batches are inserted on the import executor, never on the thread delivering the body.
+     * Reading stops while a batch is waiting or being inserted and starts again, on a container
+     * thread, once it is done; so a file is read at the pace the database takes it and only a
+     * batch or two is ever held in memory.
+     */
+    private class ImportReadListener implements ReadListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletInputStream input;
+        private final RowImporter importer = new RowImporter();
+        private final CsvRowParser csvParser = new CsvRowParser(importer);
+        private final MultipartStreamParser multipartParser;
+        private final byte[] buffer = new byte[16 * 1024];
+        private final long startedAt = System.currentTimeMillis();
+        private boolean inFilePart;
+        private boolean sawFilePart;
+
+        // Guarded by this
+        private boolean inserting;
+        private boolean readPaused;
+        private boolean allRead;
+        private boolean finished;
+
+        ImportReadListener(AsyncContext asyncContext, ServletInputStream input, String boundary) {
+            this.asyncContext = asyncContext;
+            this.input = input;
+            this.multipartParser = boundary == null ? null : new MultipartStreamParser(boundary, new FilePartHandler());
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            while (input.isReady()) {
+                int n = input.read(buffer);
+                if (n == -1) {
+                    // Also reached from resumeReading, where the container may not call back
+                    onAllDataRead();
+                    return;
+                }
+                synchronized (this) {
+                    if (multipartParser != null) {
+                        multipartParser.feed(buffer, 0, n);
+                    } else {
+                        csvParser.feed(buffer, 0, n);
+                    }
+                    if (importer.hasWaitingBatch()) {
+                        // isReady() wasn't asked again, so the container won't call back; the insert resumes reading
+                        readPaused = true;
+                        startInsert();
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onAllDataRead() {
+            if (allRead) {
+                return;
+            }
+            if (multipartParser == null) {
+                csvParser.finish();
+            } else if (!sawFilePart) {
+                importer.report.setFatalError("No file was uploaded");
+            }
+            importer.endBatch();
+            allRead = true;
+            finishWhenInserted();
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            System.out.println("Student import aborted: " + t.getMessage());
+            importer.report.setFatalError("Upload failed: " + t.getMessage());
+            // Rows already read and valid are still inserted
+            importer.endBatch();
+            allRead = true;
+            finishWhenInserted();
+        }
+
+        // Caller holds the lock
+        private void startInsert() {
+            if (inserting || !importer.hasWaitingBatch()) {
+                return;
+            }
+            RowImporter.Batch batch = importer.nextBatch();
+            inserting = true;
+            try {
+                importExecutor.execute(() -> insert(batch));
+            } catch (RejectedExecutionException e) {
+                inserting = false;
+                importer.report.setFatalError("The server is shutting down; the rest of the file was not imported");
+                importer.discardWaiting();
+                allRead = true;
+                complete();
+            }
+        }
+
+        // On the import executor
+        private void insert(RowImporter.Batch batch) {
+            String[] errors = studentDAO.addStudentsBatch(batch.students);
+            synchronized (this) {
+                importer.record(batch, errors);
+                inserting = false;
+                if (importer.hasWaitingBatch()) {
+                    startInsert();
+                } else if (allRead) {
+                    complete();
+                } else if (readPaused) {
+                    readPaused = false;
+                    asyncContext.start(this::resumeReading);
+                }
+            }
+        }
+
+        private void resumeReading() {
+            try {
+                onDataAvailable();
+            } catch (IOException e) {
+                onError(e);
+            }
+        }
+
+        // Caller holds the lock
+        private void finishWhenInserted() {
+            if (importer.hasWaitingBatch()) {
+                startInsert();
+            } else if (!inserting) {
+                complete();
+            }
+        }
+
+        // Caller holds the lock
+        private void complete() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            ImportReport report = importer.report;
+            report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+            // Batch failures are reported after later validation failures; show them in file order
+            report.getErrors().sort(Comparator.comparingInt(ImportReport.RowError::getLineNumber));
+            System.out.println("Student import: " + report.getImportedRows() + " imported, "
+                    + report.getFailedRows() + " rejected in " + report.getElapsedMillis() + "ms");
+
+            asyncContext.getRequest().setAttribute("report", report);
+            asyncContext.dispatch("/views/student-import.jsp");
+        }
+
+        // Routes the bytes of the first uploaded file into the CSV parser
+        private class FilePartHandler implements MultipartStreamParser.PartHandler {
+            @Override
+            public void partStarted(String name, String filename) {
+                inFilePart = !sawFilePart && filename != null;
+                sawFilePart |= inFilePart;
+            }
+
+            @Override
+            public void partData(byte[] data, int offset, int length) {
+                if (inFilePart) {
+                    csvParser.feed(data, offset, length);
+                }
+            }
+
+            @Override
+            public void partEnded() {
+                if (inFilePart) {
+                    csvParser.finish();
+                    inFilePart = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates parsed rows and groups the valid ones into fixed-size batches for insertion.
+     */
+    private class RowImporter implements CsvRowParser.RowHandler {
+
+        private final ImportReport report = new ImportReport();
+        private final Deque<Batch> waiting = new ArrayDeque<>();
+        private List<Student> batch = new ArrayList<>(batchSize);
+        private List<Integer> batchLines = new ArrayList<>(batchSize);
+        private boolean firstRow = true;
+
+        private class Batch {
+            final List<Student> students;
+            final List<Integer> lines;
+
+            Batch(List<Student> students, List<Integer> lines) {
+                this.students = students;
+                this.lines = lines;
+            }
+        }
+
+        @Override
+        public void row(int lineNumber, String[] fields) {
+            if (firstRow) {
+                firstRow = false;
+                if (fields.length > 0 && isHeader(fields[0])) {
+                    return;
+                }
+            }
+
+            report.rowRead();
+            if (fields.length < 4) {
+                report.rowFailed(lineNumber, fields.length > 0 ? fields[0] : null,
+                        "Expected 4 columns (student_code, full_name, email, major) but found " + fields.length);
+                return;
+            }
+
+            String email = fields[2].trim();
+            Student student = new Student(fields[0].trim(), fields[1].trim(),
+                    email.isEmpty() ? null : email, fields[3].trim());
+
+            Map<String, String> errors = StudentValidator.validate(student);
+            if (!errors.isEmpty()) {
+                report.rowFailed(lineNumber, student.getStudentCode(), String.join("; ", errors.values()));
+                return;
+            }
+
+            batch.add(student);
+            batchLines.add(lineNumber);
+            if (batch.size() >= batchSize) {
+                endBatch();
+            }
+        }
+
+        // Queues the rows collected so far as a batch of their own
+        void endBatch() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            waiting.add(new Batch(batch, batchLines));
+            batch = new ArrayList<>(batchSize);
+            batchLines = new ArrayList<>(batchSize);
+        }
+
+        boolean hasWaitingBatch() {
+            return !waiting.isEmpty();
+        }
+
+        Batch nextBatch() {
+            return waiting.poll();
+        }
+
+        void discardWaiting() {
+            waiting.clear();
+        }
+
+        void record(Batch inserted, String[] errors) {
+            int imported = 0;
+            for (int i = 0; i < errors.length; i++) {
+                if (errors[i] == null) {
+                    imported++;
+                } else {
+                    report.rowFailed(inserted.lines.get(i), inserted.students.get(i).getStudentCode(), errors[i]);
+                }
+            }
+            report.rowsImported(imported);
+        }
+
+        private boolean isHeader(String firstCell) {
+            String cell = firstCell.trim().replace("_", "").toLowerCase(Locale.ROOT);
+            return cell.equals("studentcode") || cell.equals("code");
+        }
+    }
+}
@@ -0,0 +1,553 @@
+package com.student.dao;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool shared by all DAOs of the web application.
+ * Created once by {@link com.student.listener.AppContextListener} and closed on undeploy.
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+
+    /**
+     * Pool settings. Defaults match the docker-compose MySQL instance.
+     */
+    public static class Config {
+        private String url = "jdbc:mysql://localhost:3307/student_management"
+                + "?useSSL=false"
+                + "&allowPublicKeyRetrieval=true"
+                + "&serverTimezone=UTC"
+                + "&rewriteBatchedStatements=true"
+                + "&cachePrepStmts=true"
+                + "&prepStmtCacheSize=256";
+        private String user = "user1";
+        private String password = "user1";
+        private int minIdle = 2;
+        private int maxIdle = 10;
+        private int maxTotal = 20;
+        private long maxLifetimeMillis = TimeUnit.MINUTES.toMillis(30);
+        private long connectionTimeoutMillis = TimeUnit.SECONDS.toMillis(5);
+        private int validationTimeoutSeconds = 2;
+        private long validationIntervalMillis = TimeUnit.SECONDS.toMillis(5);
+        private long leakDetectionThresholdMillis = TimeUnit.SECONDS.toMillis(30);
+        // Stack trace per borrow so leak reports say where; for debugging only
+        private boolean leakStackTraces;
+        private long housekeepingIntervalMillis = TimeUnit.SECONDS.toMillis(30);
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        public String getUser() { return user; }
+        public void setUser(String user) { this.user = user; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public int getMinIdle() { return minIdle; }
+        public void setMinIdle(int minIdle) { this.minIdle = minIdle; }
+        public int getMaxIdle() { return maxIdle; }
+        public void setMaxIdle(int maxIdle) { this.maxIdle = maxIdle; }
+        public int getMaxTotal() { return maxTotal; }
+        public void setMaxTotal(int maxTotal) { this.maxTotal = maxTotal; }
+        public long getMaxLifetimeMillis() { return maxLifetimeMillis; }
+        public void setMaxLifetimeMillis(long maxLifetimeMillis) { this.maxLifetimeMillis = maxLifetimeMillis; }
+        public long getConnectionTimeoutMillis() { return connectionTimeoutMillis; }
+        public void setConnectionTimeoutMillis(long connectionTimeoutMillis) { this.connectionTimeoutMillis = connectionTimeoutMillis; }
+        public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+        public void setValidationTimeoutSeconds(int validationTimeoutSeconds) { this.validationTimeoutSeconds = validationTimeoutSeconds; }
+        public long getValidationIntervalMillis() { return validationIntervalMillis; }
+        public void setValidationIntervalMillis(long validationIntervalMillis) { this.validationIntervalMillis = validationIntervalMillis; }
+        public long getLeakDetectionThresholdMillis() { return leakDetectionThresholdMillis; }
+        public void setLeakDetectionThresholdMillis(long leakDetectionThresholdMillis) { this.leakDetectionThresholdMillis = leakDetectionThresholdMillis; }
+        public boolean isLeakStackTraces() { return leakStackTraces; }
+        public void setLeakStackTraces(boolean leakStackTraces) { this.leakStackTraces = leakStackTraces; }
+        public long getHousekeepingIntervalMillis() { return housekeepingIntervalMillis; }
+        public void setHousekeepingIntervalMillis(long housekeepingIntervalMillis) { this.housekeepingIntervalMillis = housekeepingIntervalMillis; }
+    }
+
+    /**
+     * Point-in-time view of the pool, shown on the admin stats page.
+     */
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int maxTotal;
+        private final int waiting;
+        private final long borrowCount;
+        private final long timeoutCount;
+        private final long leakCount;
+        private final long createdCount;
+        private final long retiredCount;
+        private final double averageWaitMillis;
+        private final double maxWaitMillis;
+
+        Stats(int active, int idle, int maxTotal, int waiting, long borrowCount, long timeoutCount,
+              long leakCount, long createdCount, long retiredCount, double averageWaitMillis, double maxWaitMillis) {
+            this.active = active;
+            this.idle = idle;
+            this.maxTotal = maxTotal;
+            this.waiting = waiting;
+            this.borrowCount = borrowCount;
+            this.timeoutCount = timeoutCount;
+            this.leakCount = leakCount;
+            this.createdCount = createdCount;
+            this.retiredCount = retiredCount;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getMaxTotal() { return maxTotal; }
+        public int getWaiting() { return waiting; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getTimeoutCount() { return timeoutCount; }
+        public long getLeakCount() { return leakCount; }
+        public long getCreatedCount() { return createdCount; }
+        public long getRetiredCount() { return retiredCount; }
+        public double getAverageWaitMillis() { return averageWaitMillis; }
+        public double getMaxWaitMillis() { return maxWaitMillis; }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "active=" + active +
+                    ", idle=" + idle +
+                    ", maxTotal=" + maxTotal +
+                    ", waiting=" + waiting +
+                    ", borrows=" + borrowCount +
+                    ", timeouts=" + timeoutCount +
+                    ", leaks=" + leakCount +
+                    ", avgWaitMs=" + String.format("%.3f", averageWaitMillis) +
+                    ", maxWaitMs=" + String.format("%.3f", maxWaitMillis) +
+                    '}';
+        }
+    }
+
+    // A physical connection plus the bookkeeping the pool needs for it
+    private static final class PooledConnection {
+        final Connection physical;
+        final long createdAt;
+        volatile long lastValidatedAt;
+        volatile long borrowedAt;
+        volatile Throwable borrowSite;
+        volatile boolean leakReported;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastValidatedAt = createdAt;
+        }
+    }
+
+    // How long a borrower waiting for a slot sleeps on the idle deque before checking again
+    private static final long SLOT_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Config config;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Boolean> borrowed = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong retiredCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(Config config) {
+        if (config.getMaxTotal() <= 0) {
+            throw new IllegalArgumentException("maxTotal must be positive");
+        }
+        if (config.getMinIdle() > config.getMaxIdle() || config.getMaxIdle() > config.getMaxTotal()) {
+            throw new IllegalArgumentException("Pool sizes must satisfy minIdle <= maxIdle <= maxTotal");
+        }
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxTotal(), true);
+
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            System.out.println("MySQL Driver not found, relying on DriverManager lookup for " + config.getUrl());
+        }
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = config.getHousekeepingIntervalMillis();
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getConnectionTimeoutMillis());
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.getConnectionTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            throw new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeoutMillis()
+                    + "ms waiting for a connection (" + stats() + ")");
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = createOrWait(deadline);
+            }
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowSite = config.isLeakStackTraces() && config.getLeakDetectionThresholdMillis() > 0
+                    ? new Exception("Connection borrowed here") : null;
+            pooled.leakReported = false;
+            borrowed.put(pooled, Boolean.TRUE);
+            borrowCount.incrementAndGet();
+            return wrap(pooled);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool is bound to a single set of credentials");
+    }
+
+    public Stats stats() {
+        long borrows = borrowCount.get();
+        int active = borrowed.size();
+        return new Stats(
+                active,
+                idle.size(),
+                config.getMaxTotal(),
+                permits.getQueueLength(),
+                borrows,
+                timeoutCount.get(),
+                leakCount.get(),
+                createdCount.get(),
+                retiredCount.get(),
+                borrows == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / borrows,
+                maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            retire(pooled);
+        }
+        if (!borrowed.isEmpty()) {
+            System.out.println("ConnectionPool closed with " + borrowed.size() + " connection(s) still borrowed");
+        }
+    }
+
+    // Most recently returned connection first, so surplus connections age out at the tail
+    private PooledConnection takeValidIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isExpired(pooled)) {
+                retire(pooled);
+                continue;
+            }
+            if (validate(pooled)) {
+                return pooled;
+            }
+            retire(pooled);
+        }
+        return null;
+    }
+
+    private boolean validate(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (now - pooled.lastValidatedAt < config.getValidationIntervalMillis()) {
+            return true;
+        }
+        try {
+            if (pooled.physical.isValid(config.getValidationTimeoutSeconds())) {
+                pooled.lastValidatedAt = now;
+                return true;
+            }
+        } catch (SQLException e) {
+            System.out.println("Connection validation failed: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Open a connection for a borrower that found none idle. If every slot is taken (the
+     * housekeeper is topping up the idle set), this borrower's permit guarantees one of those
+     * connections is idle or on its way there, so wait for it.
+     */
+    private PooledConnection createOrWait(long deadline) throws SQLException {
+        while (true) {
+            if (reserveSlot()) {
+                return connect();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeoutMillis()
+                        + "ms waiting for a connection (" + stats() + ")");
+            }
+            PooledConnection pooled;
+            try {
+                // Bounded, so a slot freed by a retire or a failed connect is noticed too
+                pooled = idle.pollFirst(Math.min(remaining, SLOT_WAIT_NANOS), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a connection", e);
+            }
+            if (pooled != null) {
+                if (!isExpired(pooled) && validate(pooled)) {
+                    return pooled;
+                }
+                retire(pooled);
+            }
+        }
+    }
+
+    // Claims room for one more physical connection; the check and the claim are one step
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = total.get();
+            if (current >= config.getMaxTotal()) {
+                return false;
+            }
+        } while (!total.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    // Caller has reserved a slot; it is given back if the connection can't be opened
+    private PooledConnection connect() throws SQLException {
+        Connection physical;
+        try {
+            physical = DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword());
+        } catch (SQLException | RuntimeException e) {
+            total.decrementAndGet();
+            throw e;
+        }
+        createdCount.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    private void retire(PooledConnection pooled) {
+        total.decrementAndGet();
+        retiredCount.incrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.out.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void giveBack(PooledConnection pooled) {
+        if (borrowed.remove(pooled) == null) {
+            return;
+        }
+        try {
+            if (closed || isExpired(pooled) || idle.size() >= config.getMaxIdle() || !reset(pooled)) {
+                retire(pooled);
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Leave the connection the way the next borrower expects to find it
+    private boolean reset(PooledConnection pooled) {
+        try {
+            Connection c = pooled.physical;
+            if (c.isClosed()) {
+                return false;
+            }
+            if (!c.getAutoCommit()) {
+                c.rollback();
+                c.setAutoCommit(true);
+            }
+            if (c.isReadOnly()) {
+                c.setReadOnly(false);
+            }
+            c.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledConnection pooled) {
+        long maxLifetime = config.getMaxLifetimeMillis();
+        return maxLifetime > 0 && System.currentTimeMillis() - pooled.createdAt >= maxLifetime;
+    }
+
+    private void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void housekeep() {
+        try {
+            // Retire idle connections that outlived maxLifetime
+            for (PooledConnection pooled : idle) {
+                if (isExpired(pooled) && idle.remove(pooled)) {
+                    retire(pooled);
+                }
+            }
+
+            // Top the pool back up to minIdle without exceeding maxTotal
+            while (!closed && idle.size() < config.getMinIdle() && reserveSlot()) {
+                idle.offerLast(connect());
+            }
+
+            // Report connections held longer than the leak threshold, once per borrow
+            long threshold = config.getLeakDetectionThresholdMillis();
+            if (threshold > 0) {
+                long now = System.currentTimeMillis();
+                for (PooledConnection pooled : borrowed.keySet()) {
+                    if (!pooled.leakReported && now - pooled.borrowedAt > threshold) {
+                        pooled.leakReported = true;
+                        leakCount.incrementAndGet();
+                        System.out.println("Possible connection leak: held for " + (now - pooled.borrowedAt) + "ms");
+                        if (pooled.borrowSite != null) {
+                            pooled.borrowSite.printStackTrace();
+                        } else {
+                            System.out.println("Enable leakStackTraces to see where it was borrowed");
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Connection pool housekeeping failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Hands out a proxy so that close() returns the connection instead of closing it
+    private Connection wrap(PooledConnection pooled) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean released;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!released) {
+                            released = true;
+                            giveBack(pooled);
+                        }
+                        return null;
+                    case "isClosed":
+                        return released || pooled.physical.isClosed();
+                    case "unwrap":
+                        if (((Class<?>) args[0]).isInstance(proxy)) {
+                            return proxy;
+                        }
+                        break;
+                    case "isWrapperFor":
+                        if (((Class<?>) args[0]).isInstance(proxy)) {
+                            return true;
+                        }
+                        break;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "PooledConnection[" + pooled.physical + "]";
+                    default:
+                        break;
+                }
+                if (released) {
+                    throw new SQLException("Connection has already been returned to the pool");
+                }
+                try {
+                    return method.invoke(pooled.physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    // Remaining DataSource methods are not used by the application
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return (int) TimeUnit.MILLISECONDS.toSeconds(config.getConnectionTimeoutMillis());
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,235 @@
+package com.student.dao;
+
+import com.student.metrics.AppMetrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Small JDBC helper shared by the DAOs.
+ *
+ * Owns the statement / result set boilerplate so every query closes what it opens.
+ * Parameters are bound in order with setObject. Methods that take a Connection run on it
+ * and leave it open, for work that must share one connection or transaction.
+ *
+ * Inside a {@link UnitOfWork} every call runs on the request's shared connection,
+ * and writes join its transaction.
+ *
+ * With metrics set, every statement is timed and counted under the owning DAO's name.
+ */
+public class JdbcTemplate {
+
+    private final DataSource dataSource;
+    private final String name;
+
+    private volatile AppMetrics metrics;
+
+    /**
+     * @param name reported as the dao label of this template's statements
+     */
+    public JdbcTemplate(DataSource dataSource, String name) {
+        this.dataSource = dataSource;
+        this.name = name;
+    }
+
+    public void setMetrics(AppMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Record a statement run without the template (e.g. one that reads generated keys).
+     *
+     * @param startNanos System.nanoTime() taken just before the statement was prepared
+     */
+    public void record(String sql, long startNanos, int rows, boolean failed) {
+        AppMetrics m = metrics;
+        if (m != null) {
+            m.recordQuery(name, sql, System.nanoTime() - startNanos, rows, failed);
+        }
+    }
+
+    /**
+     * Connection for reads: the unit of work's if one is bound, otherwise one from the pool.
+     * Either way the caller closes it.
+     */
+    public Connection getConnection() throws SQLException {
+        UnitOfWork unitOfWork = UnitOfWork.current(dataSource);
+        return unitOfWork != null ? unitOfWork.getConnection(false) : dataSource.getConnection();
+    }
+
+    /**
+     * Connection for statements that change data. Inside a unit of work they run in its
+     * transaction; otherwise the connection is in autocommit mode.
+     */
+    public Connection getWriteConnection() throws SQLException {
+        UnitOfWork unitOfWork = UnitOfWork.current(dataSource);
+        return unitOfWork != null ? unitOfWork.getConnection(true) : dataSource.getConnection();
+    }
+
+    /**
+     * Connection of its own from the pool, outside any unit of work, for callers that manage
+     * their own transaction or hold the connection for a long time.
+     */
+    public Connection getDedicatedConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Run the task once the current write is committed: straight away, unless a unit of work
+     * has a transaction open, in which case it waits for the commit and is dropped on rollback.
+     */
+    public void afterCommit(Runnable task) {
+        UnitOfWork unitOfWork = UnitOfWork.current(dataSource);
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit(task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * A write failed and was handled by the caller; keep the unit of work, if any, from committing.
+     */
+    public void markFailed() {
+        UnitOfWork unitOfWork = UnitOfWork.current(dataSource);
+        if (unitOfWork != null) {
+            unitOfWork.setRollbackOnly();
+        }
+    }
+
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = getConnection()) {
+            return query(conn, sql, mapper, params);
+        }
+    }
+
+    public <T> List<T> query(Connection conn, String sql, RowMapper<T> mapper, Object... params)
+            throws SQLException {
+        long start = System.nanoTime();
+        List<T> rows = new ArrayList<>();
+        boolean failed = false;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            setParameters(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.mapRow(rs));
+                }
+            }
+            return rows;
+        } catch (SQLException e) {
+            failed = true;
+            throw e;
+        } finally {
+            record(sql, start, rows.size(), failed);
+        }
+    }
+
+    /**
+     * @return the first row, or null if there is none
+     */
+    public <T> T queryForObject(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        try (Connection conn = getConnection()) {
+            return queryForObject(conn, sql, mapper, params);
+        }
+    }
+
+    public <T> T queryForObject(Connection conn, String sql, RowMapper<T> mapper, Object... params)
+            throws SQLException {
+        long start = System.nanoTime();
+        T row = null;
+        boolean failed = false;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            setParameters(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    row = mapper.mapRow(rs);
+                }
+            }
+            return row;
+        } catch (SQLException e) {
+            failed = true;
+            throw e;
+        } finally {
+            record(sql, start, row == null ? 0 : 1, failed);
+        }
+    }
+
+    /**
+     * @return the first column of the first row, or 0 if there is no row
+     */
+    public int queryForInt(String sql, Object... params) throws SQLException {
+        Integer value = queryForObject(sql, rs -> rs.getInt(1), params);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Hand rows to the consumer one at a time as the driver reads them, without buffering the
+     * result. The connection stays borrowed until the last row has been consumed.
+     * A streaming result set blocks its connection until it is drained, so this never uses the
+     * unit of work's connection. The recorded time includes the consumer's.
+     */
+    public <T> void stream(String sql, RowMapper<T> mapper, Consumer<T> consumer, Object... params)
+            throws SQLException {
+        long start = System.nanoTime();
+        int rows = 0;
+        boolean failed = false;
+        try (Connection conn = getDedicatedConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Connector/J streams rows one at a time only with this fetch size
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            setParameters(pstmt, params);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(mapper.mapRow(rs));
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            failed = true;
+            throw e;
+        } finally {
+            record(sql, start, rows, failed);
+        }
+    }
+
+    /**
+     * @return the number of affected rows
+     */
+    public int update(String sql, Object... params) throws SQLException {
+        try (Connection conn = getWriteConnection()) {
+            return update(conn, sql, params);
+        }
+    }
+
+    public int update(Connection conn, String sql, Object... params) throws SQLException {
+        long start = System.nanoTime();
+        int rows = 0;
+        boolean failed = false;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            setParameters(pstmt, params);
+            rows = pstmt.executeUpdate();
+            return rows;
+        } catch (SQLException e) {
+            failed = true;
+            markFailed();
+            throw e;
+        } finally {
+            record(sql, start, rows, failed);
+        }
+    }
+
+    public static void setParameters(PreparedStatement pstmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            pstmt.setObject(i + 1, params[i]);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.student.dao;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for users.last_login.
+ *
+ * Logins only record a timestamp in memory; a background thread writes all pending
+ * timestamps in one batched UPDATE every flush interval, and once more on shutdown.
+ * A user who logs in several times between flushes costs a single row update.
+ * Failed flushes put their entries back, so every login is written at least once
+ * as long as the application shuts down cleanly.
+ */
+public class LastLoginWriter implements AutoCloseable {
+
+    private static final String SQL_UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login = ? WHERE id = ?";
+
+    private final DataSource dataSource;
+    private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final long flushIntervalMillis;
+
+    public LastLoginWriter(DataSource dataSource, long flushIntervalMillis) {
+        this.dataSource = dataSource;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "last-login-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Remember that the user logged in now. Never touches the database.
+     */
+    public void recordLogin(int userId) {
+        pending.merge(userId, System.currentTimeMillis(), Math::max);
+        recordedCount.incrementAndGet();
+    }
+
+    /**
+     * Write every pending timestamp in one batch.
+     *
+     * @return number of rows written
+     */
+    public synchronized int flush() throws SQLException {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // Snapshot; logins arriving meanwhile stay in the map for the next flush
+        List<Map.Entry<Integer, Long>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<Integer, Long> entry : batch) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_UPDATE_LAST_LOGIN)) {
+
+            for (Map.Entry<Integer, Long> entry : batch) {
+                pstmt.setTimestamp(1, new Timestamp(entry.getValue()));
+                pstmt.setInt(2, entry.getKey());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+
+        } catch (SQLException e) {
+            // Put the batch back without overwriting newer logins recorded since the snapshot
+            for (Map.Entry<Integer, Long> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), Math::max);
+            }
+            failedFlushCount.incrementAndGet();
+            throw e;
+        }
+
+        flushCount.incrementAndGet();
+        writtenCount.addAndGet(batch.size());
+        return batch.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            System.out.println("last_login flush failed, will retry: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive whatever happens
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stop the background thread and write whatever is still pending.
+     * Must run before the connection pool is closed.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            int written = flush();
+            System.out.println("last_login final flush: " + written + " user(s)");
+        } catch (SQLException e) {
+            System.out.println("last_login final flush failed, " + pending.size()
+                    + " timestamp(s) lost: " + e.getMessage());
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+}
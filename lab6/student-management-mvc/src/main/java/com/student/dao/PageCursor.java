@@ -0,0 +1,61 @@
+package com.student.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Seek position for keyset pagination: the (sort value, id) of a boundary row.
+ * Encoded as an opaque URL-safe token that is only valid for the sort it was issued for.
+ */
+final class PageCursor {
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '\n';
+
+    private final String sortColumn;
+    private final String order;
+    private final int id;
+    private final String value;
+
+    PageCursor(String sortColumn, String order, int id, String value) {
+        this.sortColumn = sortColumn;
+        this.order = order;
+        this.id = id;
+        this.value = value;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    String encode() {
+        String raw = VERSION + SEPARATOR + sortColumn + SEPARATOR + order + SEPARATOR + id + SEPARATOR
+                + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token issued for the given sort, or return null if it is missing, malformed
+     * or belongs to a different sort (the caller then starts from the first page).
+     */
+    static PageCursor decode(String token, String sortColumn, String order) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])
+                    || !parts[1].equals(sortColumn) || !parts[2].equals(order)) {
+                return null;
+            }
+            return new PageCursor(sortColumn, order, Integer.parseInt(parts[3]), parts[4]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.student.dao;
+
+import com.student.model.Student;
+
+/**
+ * Callback for in-memory structures that mirror the students table.
+ * Invoked by StudentDAO after a write has been committed, never for one that was rolled back.
+ */
+public interface StudentChangeListener {
+
+    /**
+     * @param student the inserted row, with its generated id
+     */
+    void studentAdded(Student student);
+
+    /**
+     * @param before the row as it was before the update, or null if it could not be read
+     * @param after  the row as written
+     */
+    void studentUpdated(Student before, Student after);
+
+    /**
+     * @param before the deleted row, or a Student carrying only the id if it could not be read
+     */
+    void studentDeleted(Student before);
+}
@@ -1,91 +1,124 @@
 package com.student.dao;
 
+import com.student.cache.StudentCache;
+import com.student.metrics.AppMetrics;
+import com.student.model.DashboardStats;
 import com.student.model.Student;
+import com.student.model.StudentPage;
+import com.student.model.StudentQuery;
+import com.student.search.StudentSearchIndex;
+
+import javax.sql.DataSource;
 import java.sql.*;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class StudentDAO {
 
-    // Database configuration
-    private static final String DB_URL = "jdbc:mysql://localhost:3307/student_management"
-            + "?useSSL=false"
-            + "&allowPublicKeyRetrieval=true"
-            + "&serverTimezone=UTC";
-    private static final String DB_USER = "user1";
-    private static final String DB_PASSWORD = "user1";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Upper bound on rows returned by a search
+    public static final int SEARCH_RESULT_LIMIT = 500;
+
+    // Ids per IN (...) query when fetching by primary key
+    private static final int ID_BATCH_SIZE = 500;
+
+    // IN list sizes used for keyword matches in queryStudents; the last one must hold SEARCH_RESULT_LIMIT ids
+    private static final int[] IN_LIST_BUCKETS = {16, 64, 256, SEARCH_RESULT_LIMIT};
+
+    // SQL text of queryStudents per combination of criteria, built once
+    private static final Map<String, String> QUERY_SHAPES = new ConcurrentHashMap<>();
+
+    private static final String SELECT_STUDENTS = "SELECT " + StudentRowMapper.COLUMNS + " FROM students ";
+
+    private final JdbcTemplate jdbc;
+
+    private final List<StudentChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile StudentSearchIndex searchIndex;
+    private volatile StudentCache cache;
+
+    public StudentDAO(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource, "StudentDAO");
+    }
+
+    /**
+     * Register a listener that is notified after every successful insert, update and delete.
+     * Inside a unit of work the notification waits until the transaction commits.
+     */
+    public void addChangeListener(StudentChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Serve searchStudents from the given index (once it reports ready) and keep it in sync with writes.
+     */
+    public void setSearchIndex(StudentSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+        addChangeListener(searchIndex);
+    }
+
+    /**
+     * Serve the hot read paths through the given cache and invalidate it on every write.
+     */
+    public void setCache(StudentCache cache) {
+        this.cache = cache;
+        addChangeListener(cache);
+    }
+
+    /**
+     * Time and count every statement this DAO runs.
+     */
+    public void setMetrics(AppMetrics metrics) {
+        jdbc.setMetrics(metrics);
+    }
 
-    // Get database connection
     private Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL Driver not found", e);
-        }
+        return jdbc.getConnection();
     }
 
     // Get all students
     public List<Student> getAllStudents() {
-        List<Student> students = new ArrayList<>();
-        String sql = "SELECT * FROM students ORDER BY id DESC";
-
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setStudentCode(rs.getString("student_code"));
-                student.setFullName(rs.getString("full_name"));
-                student.setEmail(rs.getString("email"));
-                student.setMajor(rs.getString("major"));
-                student.setCreatedAt(rs.getTimestamp("created_at"));
-                students.add(student);
-            }
-
+        try {
+            return jdbc.query(SELECT_STUDENTS + "ORDER BY id DESC", StudentRowMapper.INSTANCE);
         } catch (SQLException e) {
             e.printStackTrace();
+            return new ArrayList<>();
         }
-
-        return students;
     }
 
     // Get student by ID
     public Student getStudentById(int id) {
-        String sql = "SELECT * FROM students WHERE id = ?";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setStudentCode(rs.getString("student_code"));
-                student.setFullName(rs.getString("full_name"));
-                student.setEmail(rs.getString("email"));
-                student.setMajor(rs.getString("major"));
-                student.setCreatedAt(rs.getTimestamp("created_at"));
-                return student;
-            }
+        StudentCache c = cache;
+        return c == null ? loadStudentById(id) : c.getStudent(id, this::loadStudentById);
+    }
 
+    private Student loadStudentById(int id) {
+        try {
+            return jdbc.queryForObject(SELECT_STUDENTS + "WHERE id = ?", StudentRowMapper.INSTANCE, id);
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
-
-        return null;
     }
 
     // Add new student
     public boolean addStudent(Student student) {
         String sql = "INSERT INTO students (student_code, full_name, email, major) VALUES (?, ?, ?, ?)";
+        long start = System.nanoTime();
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = jdbc.getWriteConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             pstmt.setString(1, student.getStudentCode());
             pstmt.setString(2, student.getFullName());
@@ -93,28 +126,172 @@ public class StudentDAO {
             pstmt.setString(4, student.getMajor());
 
             int rowsAffected = pstmt.executeUpdate();
+            jdbc.record(sql, start, rowsAffected, false);
+            if (rowsAffected > 0) {
+                try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        student.setId(keys.getInt(1));
+                    }
+                }
+                if (student.getCreatedAt() == null) {
+                    student.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+                }
+                jdbc.afterCommit(() -> {
+                    for (StudentChangeListener listener : changeListeners) {
+                        listener.studentAdded(student);
+                    }
+                });
+            }
             return rowsAffected > 0;
 
         } catch (SQLException e) {
             e.printStackTrace();
+            jdbc.record(sql, start, 0, true);
+            jdbc.markFailed();
             return false;
         }
     }
 
+    /**
+     * Insert a chunk of students as one JDBC batch inside a single transaction.
+     * If the batch fails (e.g. a duplicate code), it is rolled back and the rows are retried
+     * one at a time so the caller learns exactly which ones were rejected.
+     *
+     * Each call commits on a connection of its own, whatever unit of work is bound.
+     *
+     * @return one entry per student: null if it was inserted, otherwise the reason it was not
+     */
+    public String[] addStudentsBatch(List<Student> students) {
+        String sql = "INSERT INTO students (student_code, full_name, email, major) VALUES (?, ?, ?, ?)";
+        String[] errors = new String[students.size()];
+        if (students.isEmpty()) {
+            return errors;
+        }
+
+        try (Connection conn = jdbc.getDedicatedConnection()) {
+            boolean committed = false;
+            long start = System.nanoTime();
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Student student : students) {
+                    pstmt.setString(1, student.getStudentCode());
+                    pstmt.setString(2, student.getFullName());
+                    pstmt.setString(3, student.getEmail());
+                    pstmt.setString(4, student.getMajor());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+
+                try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                    for (int i = 0; i < students.size() && keys.next(); i++) {
+                        students.get(i).setId(keys.getInt(1));
+                    }
+                }
+                conn.commit();
+                committed = true;
+            } catch (SQLException e) {
+                conn.rollback();
+            } finally {
+                conn.setAutoCommit(true);
+                jdbc.record(sql, start, committed ? students.size() : 0, !committed);
+            }
+
+            if (committed) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (Student student : students) {
+                    if (student.getCreatedAt() == null) {
+                        student.setCreatedAt(now);
+                    }
+                    for (StudentChangeListener listener : changeListeners) {
+                        listener.studentAdded(student);
+                    }
+                }
+                return errors;
+            }
+
+            // Slow path, only for chunks that contain a bad row: still one transaction, with a
+            // savepoint per row so that only the rows that fail are rolled back
+            List<Student> inserted = new ArrayList<>(students.size());
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < students.size(); i++) {
+                    Student student = students.get(i);
+                    long rowStart = System.nanoTime();
+                    Savepoint savepoint = conn.setSavepoint();
+                    try {
+                        pstmt.setString(1, student.getStudentCode());
+                        pstmt.setString(2, student.getFullName());
+                        pstmt.setString(3, student.getEmail());
+                        pstmt.setString(4, student.getMajor());
+                        jdbc.record(sql, rowStart, pstmt.executeUpdate(), false);
+
+                        try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                            if (keys.next()) {
+                                student.setId(keys.getInt(1));
+                            }
+                        }
+                        inserted.add(student);
+                    } catch (SQLException e) {
+                        conn.rollback(savepoint);
+                        jdbc.record(sql, rowStart, 0, true);
+                        errors[i] = describeInsertError(e);
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (Student student : inserted) {
+                if (student.getCreatedAt() == null) {
+                    student.setCreatedAt(now);
+                }
+                for (StudentChangeListener listener : changeListeners) {
+                    listener.studentAdded(student);
+                }
+            }
+
+        } catch (SQLException e) {
+            e.printStackTrace();
+            Arrays.fill(errors, "Database error: " + e.getMessage());
+        }
+
+        return errors;
+    }
+
+    private static String describeInsertError(SQLException e) {
+        if (e instanceof SQLIntegrityConstraintViolationException
+                || (e.getMessage() != null && e.getMessage().contains("Duplicate entry"))) {
+            return "Student code already exists";
+        }
+        return "Database error: " + e.getMessage();
+    }
+
     // Update student
     public boolean updateStudent(Student student) {
         String sql = "UPDATE students SET student_code = ?, full_name = ?, email = ?, major = ? WHERE id = ?";
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, student.getStudentCode());
-            pstmt.setString(2, student.getFullName());
-            pstmt.setString(3, student.getEmail());
-            pstmt.setString(4, student.getMajor());
-            pstmt.setInt(5, student.getId());
-
-            int rowsAffected = pstmt.executeUpdate();
+        try (Connection conn = jdbc.getWriteConnection()) {
+
+            // Listeners need the old values (e.g. the previous major)
+            Student before = changeListeners.isEmpty() ? null : findStudent(conn, student.getId());
+
+            int rowsAffected = jdbc.update(conn, sql, student.getStudentCode(), student.getFullName(),
+                    student.getEmail(), student.getMajor(), student.getId());
+            if (rowsAffected > 0) {
+                if (before != null && student.getCreatedAt() == null) {
+                    student.setCreatedAt(before.getCreatedAt());
+                }
+                jdbc.afterCommit(() -> {
+                    for (StudentChangeListener listener : changeListeners) {
+                        listener.studentUpdated(before, student);
+                    }
+                });
+            }
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -125,13 +302,20 @@ public class StudentDAO {
 
     // Delete student
     public boolean deleteStudent(int id) {
-        String sql = "DELETE FROM students WHERE id = ?";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try (Connection conn = jdbc.getWriteConnection()) {
+
+            Student found = changeListeners.isEmpty() ? null : findStudent(conn, id);
+
+            int rowsAffected = jdbc.update(conn, "DELETE FROM students WHERE id = ?", id);
+            if (rowsAffected > 0) {
+                Student before = found != null ? found : new Student();
+                before.setId(id);
+                jdbc.afterCommit(() -> {
+                    for (StudentChangeListener listener : changeListeners) {
+                        listener.studentDeleted(before);
+                    }
+                });
+            }
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -140,192 +324,499 @@ public class StudentDAO {
         }
     }
 
+    /**
+     * Search code, name and email.
+     * Served from the in-memory index once it is built; until then falls back to LIKE.
+     * Both paths return the same rows: a term matching more than SEARCH_RESULT_LIMIT students
+     * goes to LIKE, which keeps the newest ones, rather than to an index cut by score.
+     */
     public List<Student> searchStudents(String query) {
-        List<Student> result = new ArrayList<>();
         if (query == null || query.trim().length() == 0) {
-            return result;
+            return new ArrayList<>();
+        }
+
+        StudentSearchIndex index = searchIndex;
+        if (index != null && index.isReady()) {
+            List<Integer> ids = index.search(query, SEARCH_RESULT_LIMIT + 1);
+            if (ids.size() <= SEARCH_RESULT_LIMIT) {
+                return getStudentsByIds(ids);
+            }
         }
+        return searchStudentsLike(query);
+    }
 
-        String sql = "SELECT * FROM students " +
+    // Unindexed search: MySQL cannot use an index for a leading wildcard, so this scans the table
+    List<Student> searchStudentsLike(String query) {
+        String sql = SELECT_STUDENTS +
                 "WHERE student_code LIKE ? " +
                 "OR full_name LIKE ? " +
                 "OR email LIKE ? " +
-                "ORDER BY id DESC";
+                "ORDER BY id DESC " +
+                "LIMIT " + SEARCH_RESULT_LIMIT;
 
-        try (Connection c = getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
+        String val = "%" + query.trim() + "%";
+        try {
+            return jdbc.query(sql, StudentRowMapper.INSTANCE, val, val, val);
+        } catch (Exception ex) {
+            System.out.println("Search error: " + ex.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Fetch students by primary key, returned in the order of the given ids.
+     * Ids that no longer exist are skipped.
+     */
+    public List<Student> getStudentsByIds(List<Integer> ids) {
+        List<Student> result = new ArrayList<>(ids.size());
+        if (ids.isEmpty()) {
+            return result;
+        }
 
-            String val = "%" + query.trim() + "%";
+        Map<Integer, Student> byId = new HashMap<>(ids.size() * 2);
 
-            for (int i = 1; i <= 3; i++) {
-                ps.setString(i, val);
-            }
+        try (Connection conn = jdbc.getConnection()) {
+            for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+                List<Integer> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+
+                StringBuilder sql = new StringBuilder(SELECT_STUDENTS).append("WHERE id IN (");
+                for (int i = 0; i < batch.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(')');
 
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Student s = new Student();
-                s.setId(rs.getInt("id"));
-                s.setStudentCode(rs.getString("student_code"));
-                s.setFullName(rs.getString("full_name"));
-                s.setEmail(rs.getString("email"));
-                s.setMajor(rs.getString("major"));
-                s.setCreatedAt(rs.getTimestamp("created_at"));
-
-                result.add(s);
+                for (Student student : jdbc.query(conn, sql.toString(), StudentRowMapper.INSTANCE, batch.toArray())) {
+                    byId.put(student.getId(), student);
+                }
             }
-            rs.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
 
-        } catch (Exception ex) {
-            System.out.println("Search error: " + ex.getMessage());
+        for (Integer id : ids) {
+            Student student = byId.get(id);
+            if (student != null) {
+                result.add(student);
+            }
         }
         return result;
     }
 
-    public List<Student> getStudentsSorted(String sortBy, String order) {
-        List<Student> students = new ArrayList<>();
+    /**
+     * Stream every student to the consumer without materialising the table.
+     * Used to build in-memory structures at startup.
+     */
+    public void scanStudents(Consumer<Student> consumer) throws SQLException {
+        jdbc.stream(SELECT_STUDENTS + "ORDER BY id", StudentRowMapper.INSTANCE, consumer);
+    }
 
-        String validSort = "id";
-        if (sortBy != null) {
-            if (sortBy.equals("student_code") || sortBy.equals("full_name") ||
-                    sortBy.equals("email") || sortBy.equals("major")) {
-                validSort = sortBy;
-            }
+    /**
+     * Stream every student matching the query's keyword and major, in its sort order, to the consumer.
+     * Paging fields of the query are ignored and rows are never collected into a list, so heap use
+     * stays flat whatever the result size. The keyword uses LIKE so that the result is complete.
+     *
+     * The pooled connection is held until the last row has been consumed.
+     *
+     * @param limit maximum rows, or 0 for no limit
+     */
+    public void streamStudents(StudentQuery query, int limit, Consumer<Student> consumer) throws SQLException {
+        String sortColumn = resolveSortColumn(query.getSortBy());
+        String validOrder = resolveOrder(query.getOrder());
+        String sortExpr = sortExpression(sortColumn);
+
+        StringBuilder sql = new StringBuilder(SELECT_STUDENTS).append("WHERE 1 = 1 ");
+        if (query.hasKeyword()) {
+            sql.append("AND (student_code LIKE ? OR full_name LIKE ? OR email LIKE ?) ");
+        }
+        if (query.hasMajor()) {
+            sql.append("AND major = ? ");
+        }
+        sql.append("ORDER BY ").append(sortExpr).append(' ').append(validOrder);
+        if (!sortColumn.equals("id")) {
+            sql.append(", id ").append(validOrder);
+        }
+        if (limit > 0) {
+            sql.append(" LIMIT ?");
         }
 
-        String validOrder = "ASC";
-        if (order != null && order.equalsIgnoreCase("desc")) {
-            validOrder = "DESC";
+        List<Object> params = new ArrayList<>();
+        if (query.hasKeyword()) {
+            String pattern = "%" + query.getKeyword() + "%";
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (query.hasMajor()) {
+            params.add(query.getMajor());
+        }
+        if (limit > 0) {
+            params.add(limit);
         }
 
-        String sql = "SELECT * FROM students ORDER BY " + validSort + " " + validOrder;
+        jdbc.stream(sql.toString(), StudentRowMapper.INSTANCE, consumer, params.toArray());
+    }
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setStudentCode(rs.getString("student_code"));
-                student.setFullName(rs.getString("full_name"));
-                student.setEmail(rs.getString("email"));
-                student.setMajor(rs.getString("major"));
-                student.setCreatedAt(rs.getTimestamp("created_at"));
-                students.add(student);
-            }
+    private Student findStudent(Connection conn, int id) throws SQLException {
+        return jdbc.queryForObject(conn, SELECT_STUDENTS + "WHERE id = ?", StudentRowMapper.INSTANCE, id);
+    }
+
+    public List<Student> getStudentsSorted(String sortBy, String order) {
+        String validSort = resolveSortColumn(sortBy);
+        String validOrder = resolveOrder(order);
 
+        try {
+            return jdbc.query(SELECT_STUDENTS + "ORDER BY " + validSort + " " + validOrder,
+                    StudentRowMapper.INSTANCE);
         } catch (SQLException e) {
             e.printStackTrace();
+            return new ArrayList<>();
         }
-
-        return students;
     }
 
     public List<Student> getStudentsByMajor(String major) {
-        List<Student> students = new ArrayList<>();
-        String sql = "SELECT * FROM students WHERE major = ? ORDER BY id DESC";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, major);
-            ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setStudentCode(rs.getString("student_code"));
-                student.setFullName(rs.getString("full_name"));
-                student.setEmail(rs.getString("email"));
-                student.setMajor(rs.getString("major"));
-                student.setCreatedAt(rs.getTimestamp("created_at"));
-                students.add(student);
-            }
+        StudentCache c = cache;
+        return c == null ? loadStudentsByMajor(major) : c.getStudentsByMajor(major, () -> loadStudentsByMajor(major));
+    }
 
+    private List<Student> loadStudentsByMajor(String major) {
+        try {
+            return jdbc.query(SELECT_STUDENTS + "WHERE major = ? ORDER BY id DESC", StudentRowMapper.INSTANCE, major);
         } catch (SQLException e) {
             e.printStackTrace();
+            return new ArrayList<>();
         }
-
-        return students;
     }
 
     public List<Student> getStudentsFiltered(String major, String sortBy, String order) {
-        List<Student> students = new ArrayList<>();
+        String validSort = resolveSortColumn(sortBy);
+        String validOrder = resolveOrder(order);
+        boolean hasMajor = (major != null && !major.trim().isEmpty());
 
-        String validSort = "id";
-        if (sortBy != null) {
-            if (sortBy.equals("student_code") || sortBy.equals("full_name") ||
-                    sortBy.equals("email") || sortBy.equals("major")) {
-                validSort = sortBy;
-            }
+        StringBuilder sql = new StringBuilder(SELECT_STUDENTS);
+        if (hasMajor) {
+            sql.append("WHERE major = ? ");
         }
+        sql.append("ORDER BY ").append(validSort).append(" ").append(validOrder);
 
-        String validOrder = "ASC";
-        if (order != null && order.equalsIgnoreCase("desc")) {
-            validOrder = "DESC";
+        try {
+            return hasMajor
+                    ? jdbc.query(sql.toString(), StudentRowMapper.INSTANCE, major)
+                    : jdbc.query(sql.toString(), StudentRowMapper.INSTANCE);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
         }
+    }
 
-        StringBuilder sql = new StringBuilder("SELECT * FROM students ");
-        boolean hasMajor = (major != null && !major.trim().isEmpty());
+    /**
+     * Keyset (seek) pagination over students, ordered by (sort column, id).
+     * Each page is one bounded query regardless of how deep it is or how large the table is.
+     *
+     * @param major  optional major filter, null or empty for all majors
+     * @param sortBy sort column, restricted to the same whitelist as getStudentsSorted
+     * @param order  "asc" or "desc"
+     * @param after  cursor from a previous page's next link, or null
+     * @param before cursor from a previous page's previous link, or null
+     * @param size   requested page size, clamped to 1..MAX_PAGE_SIZE
+     */
+    public StudentPage getStudentsPage(String major, String sortBy, String order,
+                                       String after, String before, int size) {
+        return queryStudents(new StudentQuery(null, major, sortBy, order, after, before, size));
+    }
 
-        if (hasMajor) {
-            sql.append("WHERE major = ? ");
+    /**
+     * One page of students matching keyword and major, in the requested order.
+     * Always a single bounded statement; its SQL text depends only on which criteria are set,
+     * so the driver and server see a small, fixed set of statement shapes.
+     *
+     * A keyword is resolved through the search index when it is ready and matches at most
+     * SEARCH_RESULT_LIMIT students (the ids become an id IN (...) predicate), otherwise with
+     * LIKE, so every match can be paged to whichever path answers.
+     */
+    public StudentPage queryStudents(StudentQuery query) {
+        String sortColumn = resolveSortColumn(query.getSortBy());
+        String validOrder = resolveOrder(query.getOrder());
+        int pageSize = Math.max(1, Math.min(query.getSize(), MAX_PAGE_SIZE));
+
+        // Only unfiltered-by-keyword first pages are cached; deeper pages are rarely requested twice
+        StudentCache c = cache;
+        if (c != null && !query.hasKeyword() && query.isFirstPage()) {
+            return c.getFirstPage(query.getMajor(), sortColumn, validOrder, pageSize,
+                    () -> loadStudentsPage(query, sortColumn, validOrder, pageSize));
         }
+        return loadStudentsPage(query, sortColumn, validOrder, pageSize);
+    }
 
-        sql.append("ORDER BY ").append(validSort).append(" ").append(validOrder);
+    private StudentPage loadStudentsPage(StudentQuery query, String sortColumn, String validOrder, int pageSize) {
+        PageCursor afterCursor = PageCursor.decode(query.getAfter(), sortColumn, validOrder);
+        PageCursor beforeCursor = afterCursor == null
+                ? PageCursor.decode(query.getBefore(), sortColumn, validOrder) : null;
+        boolean backwards = beforeCursor != null;
+        PageCursor cursor = backwards ? beforeCursor : afterCursor;
+
+        // Walking backwards means reading in the opposite order and reversing the rows afterwards
+        boolean ascending = validOrder.equals("ASC") != backwards;
+
+        // Keyword: index matches as an IN list padded to a fixed bucket size, or LIKE as a fallback
+        List<Integer> matchIds = null;
+        int inListSize = 0;
+        if (query.hasKeyword()) {
+            StudentSearchIndex index = searchIndex;
+            if (index != null && index.isReady()) {
+                List<Integer> ids = index.search(query.getKeyword(), SEARCH_RESULT_LIMIT + 1);
+                if (ids.isEmpty()) {
+                    return new StudentPage(new ArrayList<>(), null, null, pageSize);
+                }
+                // Broader terms would not fit the largest IN list; LIKE pages through all of them
+                if (ids.size() <= SEARCH_RESULT_LIMIT) {
+                    matchIds = ids;
+                    inListSize = inListBucket(ids.size());
+                }
+            }
+        }
+        String keywordMode = !query.hasKeyword() ? "none" : matchIds == null ? "like" : "in" + inListSize;
+
+        String shapeKey = keywordMode + '|' + query.hasMajor() + '|' + sortColumn + '|'
+                + ascending + '|' + (cursor != null);
+        final int inSize = inListSize;
+        String sql = QUERY_SHAPES.computeIfAbsent(shapeKey, k -> buildPageSql(keywordMode, inSize,
+                query.hasMajor(), sortColumn, ascending, cursor != null));
+
+        List<Student> students = new ArrayList<>();
+        long start = System.nanoTime();
+        boolean failed = false;
 
         try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            if (hasMajor) {
-                pstmt.setString(1, major);
+            int index = 1;
+            if (matchIds != null) {
+                for (int i = 0; i < inListSize; i++) {
+                    // Repeating the last id keeps the statement shape without changing the result
+                    pstmt.setInt(index++, matchIds.get(Math.min(i, matchIds.size() - 1)));
+                }
+            } else if (query.hasKeyword()) {
+                String pattern = "%" + query.getKeyword() + "%";
+                pstmt.setString(index++, pattern);
+                pstmt.setString(index++, pattern);
+                pstmt.setString(index++, pattern);
+            }
+            if (query.hasMajor()) {
+                pstmt.setString(index++, query.getMajor());
             }
+            if (cursor != null) {
+                if (sortColumn.equals("id")) {
+                    pstmt.setInt(index++, cursor.getId());
+                } else {
+                    pstmt.setString(index++, cursor.getValue());
+                    pstmt.setString(index++, cursor.getValue());
+                    pstmt.setInt(index++, cursor.getId());
+                }
+            }
+            // One extra row tells us whether another page exists in the scan direction
+            pstmt.setInt(index, pageSize + 1);
 
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setStudentCode(rs.getString("student_code"));
-                student.setFullName(rs.getString("full_name"));
-                student.setEmail(rs.getString("email"));
-                student.setMajor(rs.getString("major"));
-                student.setCreatedAt(rs.getTimestamp("created_at"));
-                students.add(student);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    students.add(StudentRowMapper.INSTANCE.mapRow(rs));
+                }
             }
 
         } catch (SQLException e) {
             e.printStackTrace();
+            failed = true;
+        } finally {
+            jdbc.record(sql, start, students.size(), failed);
         }
 
-        return students;
-    }
+        boolean moreInScanDirection = students.size() > pageSize;
+        if (moreInScanDirection) {
+            students.remove(students.size() - 1);
+        }
+        if (backwards) {
+            Collections.reverse(students);
+        }
 
-    public int getTotalStudents() {
-        int count = 0;
-        String sql = "SELECT COUNT(id) FROM students";
+        boolean hasNext = backwards || moreInScanDirection;
+        boolean hasPrevious = backwards ? moreInScanDirection : cursor != null;
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        String nextCursor = null;
+        String previousCursor = null;
+        if (!students.isEmpty()) {
+            if (hasNext) {
+                nextCursor = cursorFor(students.get(students.size() - 1), sortColumn, validOrder).encode();
+            }
+            if (hasPrevious) {
+                previousCursor = cursorFor(students.get(0), sortColumn, validOrder).encode();
+            }
+        }
+
+        return new StudentPage(students, nextCursor, previousCursor, pageSize);
+    }
 
-            // The result set for a COUNT query will have one row.
-            if (rs.next()) {
-                // Get the count from the first column.
-                count = rs.getInt(1);
+    // Smallest IN list bucket that holds n ids
+    private static int inListBucket(int n) {
+        for (int bucket : IN_LIST_BUCKETS) {
+            if (n <= bucket) {
+                return bucket;
             }
+        }
+        return IN_LIST_BUCKETS[IN_LIST_BUCKETS.length - 1];
+    }
+
+    private static String buildPageSql(String keywordMode, int inListSize, boolean hasMajor,
+                                       String sortColumn, boolean ascending, boolean hasCursor) {
+        String scanOrder = ascending ? "ASC" : "DESC";
+        String comparison = ascending ? ">" : "<";
+        String sortExpr = sortExpression(sortColumn);
+
+        StringBuilder sql = new StringBuilder(SELECT_STUDENTS).append("WHERE 1 = 1 ");
+        if (keywordMode.equals("like")) {
+            sql.append("AND (student_code LIKE ? OR full_name LIKE ? OR email LIKE ?) ");
+        } else if (inListSize > 0) {
+            sql.append("AND id IN (?");
+            for (int i = 1; i < inListSize; i++) {
+                sql.append(", ?");
+            }
+            sql.append(") ");
+        }
+        if (hasMajor) {
+            sql.append("AND major = ? ");
+        }
+        if (hasCursor) {
+            if (sortColumn.equals("id")) {
+                sql.append("AND id ").append(comparison).append(" ? ");
+            } else {
+                sql.append("AND (").append(sortExpr).append(' ').append(comparison).append(" ? OR (")
+                        .append(sortExpr).append(" = ? AND id ").append(comparison).append(" ?)) ");
+            }
+        }
+        sql.append("ORDER BY ").append(sortExpr).append(' ').append(scanOrder);
+        if (!sortColumn.equals("id")) {
+            sql.append(", id ").append(scanOrder);
+        }
+        sql.append(" LIMIT ?");
+        return sql.toString();
+    }
+
+    public int getTotalStudents() {
+        StudentCache c = cache;
+        return c == null ? countStudents() : c.getTotalStudents(this::countStudents);
+    }
+
+    private int countStudents() {
+        try {
+            return jdbc.queryForInt("SELECT COUNT(id) FROM students");
         } catch (SQLException e) {
             e.printStackTrace();
+            return 0;
         }
-        return count;
     }
 
 
+    /**
+     * Dashboard numbers in one round trip: a single grouped query yields the total, the count per
+     * major and the count per week since windowStart (older rows fall into a NULL week bucket),
+     * followed by a primary-key read of the newest rows.
+     */
+    public DashboardStats loadDashboardStats(LocalDate windowStart, int recentLimit) throws SQLException {
+        String groupedSql = "SELECT major, "
+                + "CASE WHEN created_at >= ? "
+                + "THEN DATE_SUB(DATE(created_at), INTERVAL WEEKDAY(created_at) DAY) END AS week_start, "
+                + "COUNT(*) AS students "
+                + "FROM students GROUP BY major, week_start";
+        String recentSql = SELECT_STUDENTS + "ORDER BY id DESC LIMIT ?";
+
+        int total = 0;
+        Map<String, Integer> byMajor = new HashMap<>();
+        Map<LocalDate, Integer> byWeek = new TreeMap<>();
+        List<Student> recent;
+
+        try (Connection conn = jdbc.getConnection()) {
+            long start = System.nanoTime();
+            int groups = 0;
+            boolean failed = true;
+            try (PreparedStatement pstmt = conn.prepareStatement(groupedSql)) {
+                pstmt.setTimestamp(1, Timestamp.valueOf(windowStart.atStartOfDay()));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        groups++;
+                        String major = rs.getString(1);
+                        Date weekStart = rs.getDate(2);
+                        int count = rs.getInt(3);
+
+                        total += count;
+                        byMajor.merge(major, count, Integer::sum);
+                        if (weekStart != null) {
+                            byWeek.merge(weekStart.toLocalDate(), count, Integer::sum);
+                        }
+                    }
+                }
+                failed = false;
+            } finally {
+                jdbc.record(groupedSql, start, groups, failed);
+            }
+
+            recent = jdbc.query(conn, recentSql, StudentRowMapper.INSTANCE, recentLimit);
+        }
+
+        return new DashboardStats(total, byMajor, byWeek, recent, System.currentTimeMillis());
+    }
+
+    // Whitelisted sort columns; anything else falls back to id
+    private static String resolveSortColumn(String sortBy) {
+        if (sortBy != null) {
+            if (sortBy.equals("student_code") || sortBy.equals("full_name") ||
+                    sortBy.equals("email") || sortBy.equals("major")) {
+                return sortBy;
+            }
+        }
+        return "id";
+    }
+
+    private static String resolveOrder(String order) {
+        if (order != null && order.equalsIgnoreCase("desc")) {
+            return "DESC";
+        }
+        return "ASC";
+    }
+
+    // email is optional, so seek on '' instead of NULL to keep the comparison total
+    private static String sortExpression(String sortColumn) {
+        return sortColumn.equals("email") ? "COALESCE(email, '')" : sortColumn;
+    }
+
+    private static PageCursor cursorFor(Student student, String sortColumn, String order) {
+        String value;
+        switch (sortColumn) {
+            case "student_code":
+                value = student.getStudentCode();
+                break;
+            case "full_name":
+                value = student.getFullName();
+                break;
+            case "email":
+                value = student.getEmail() == null ? "" : student.getEmail();
+                break;
+            case "major":
+                value = student.getMajor();
+                break;
+            default:
+                value = null;
+                break;
+        }
+        return new PageCursor(sortColumn, order, student.getId(), value);
+    }
+
     public static void main(String[] args) {
-        StudentDAO dao = new StudentDAO();
-        List<Student> results = dao.searchStudents("john");
-        System.out.println("Found " + results.size() + " students");
-        for (Student s : results) {
-            System.out.println(s);
+        try (ConnectionPool pool = new ConnectionPool(new ConnectionPool.Config())) {
+            StudentDAO dao = new StudentDAO(pool);
+            List<Student> results = dao.searchStudents("john");
+            System.out.println("Found " + results.size() + " students");
+            for (Student s : results) {
+                System.out.println(s);
+            }
+            System.out.println(pool.stats());
         }
     }
 }
@@ -0,0 +1,41 @@
+package com.student.dao;
+
+import com.student.model.Student;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows selected with {@link #COLUMNS} to Students.
+ *
+ * Columns are read by position, which the fixed select list pins down, so no per-row
+ * name lookup happens. Stateless; use the shared {@link #INSTANCE}.
+ */
+public final class StudentRowMapper implements RowMapper<Student> {
+
+    public static final String COLUMNS = "id, student_code, full_name, email, major, created_at";
+
+    public static final StudentRowMapper INSTANCE = new StudentRowMapper();
+
+    private static final int ID = 1;
+    private static final int STUDENT_CODE = 2;
+    private static final int FULL_NAME = 3;
+    private static final int EMAIL = 4;
+    private static final int MAJOR = 5;
+    private static final int CREATED_AT = 6;
+
+    private StudentRowMapper() {
+    }
+
+    @Override
+    public Student mapRow(ResultSet rs) throws SQLException {
+        Student student = new Student();
+        student.setId(rs.getInt(ID));
+        student.setStudentCode(rs.getString(STUDENT_CODE));
+        student.setFullName(rs.getString(FULL_NAME));
+        student.setEmail(rs.getString(EMAIL));
+        student.setMajor(rs.getString(MAJOR));
+        student.setCreatedAt(rs.getTimestamp(CREATED_AT));
+        return student;
+    }
+}
@@ -0,0 +1,185 @@
+package com.student.dao;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One connection, and at most one transaction, shared by every DAO call made while it is bound
+ * to the current thread. {@link com.student.filter.UnitOfWorkFilter} creates one per request.
+ *
+ * The connection is borrowed on first use, so requests that never touch the database never hold one.
+ * It stays in autocommit mode for reads; the first write switches it to a transaction, which is
+ * committed (or rolled back if a write failed) when the request ends. Work registered with
+ * {@link #afterCommit} runs only once that transaction has committed.
+ *
+ * Not meant for concurrent use, but may move between threads as an async request does:
+ * bind it on the thread doing the work and unbind it afterwards.
+ */
+public final class UnitOfWork {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final DataSource dataSource;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    private Connection connection;
+    private Connection shared;
+    private boolean inTransaction;
+    private boolean rollbackOnly;
+    private boolean ended;
+
+    public UnitOfWork(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return the unit of work bound to this thread for the given data source, or null
+     */
+    static UnitOfWork current(DataSource dataSource) {
+        UnitOfWork unitOfWork = CURRENT.get();
+        return unitOfWork != null && unitOfWork.dataSource == dataSource ? unitOfWork : null;
+    }
+
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    public void unbind() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @param write true to make sure a transaction is open on the returned connection
+     * @return the shared connection; closing it is a no-op
+     */
+    synchronized Connection getConnection(boolean write) throws SQLException {
+        if (ended) {
+            throw new SQLException("Unit of work has already ended");
+        }
+        if (connection == null) {
+            connection = dataSource.getConnection();
+            shared = nonClosing(connection);
+        }
+        if (write && !inTransaction) {
+            connection.setAutoCommit(false);
+            inTransaction = true;
+        }
+        return shared;
+    }
+
+    /**
+     * Run the task after the open transaction commits, or now if no transaction is open.
+     * Dropped if the transaction rolls back.
+     */
+    void afterCommit(Runnable task) {
+        synchronized (this) {
+            if (inTransaction) {
+                afterCommit.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    /**
+     * A write failed; the open transaction must not be committed.
+     */
+    public synchronized void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    /**
+     * Commit (or roll back) the open transaction and run its after-commit work.
+     * The connection stays bound, so later calls start a new transaction if they write.
+     */
+    public void finishTransaction() throws SQLException {
+        List<Runnable> tasks;
+        synchronized (this) {
+            if (!inTransaction) {
+                rollbackOnly = false;
+                return;
+            }
+            tasks = new ArrayList<>(afterCommit);
+            afterCommit.clear();
+            inTransaction = false;
+            try {
+                if (rollbackOnly) {
+                    tasks.clear();
+                    connection.rollback();
+                } else {
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                tasks.clear();
+                connection.rollback();
+                throw e;
+            } finally {
+                rollbackOnly = false;
+                connection.setAutoCommit(true);
+            }
+        }
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    /**
+     * Finish the transaction and hand the connection back to the pool. Safe to call more than once.
+     */
+    public void end() {
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+        }
+        try {
+            finishTransaction();
+        } catch (SQLException e) {
+            System.out.println("Unit of work failed to commit: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                if (connection != null) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        e.printStackTrace();
+                    }
+                    connection = null;
+                    shared = null;
+                }
+            }
+        }
+    }
+
+    // DAOs close what they borrow; the shared connection has to survive that until end()
+    private static Connection nonClosing(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                UnitOfWork.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+}
@@ -1,28 +1,26 @@
 package com.student.dao;
 
+import com.student.metrics.AppMetrics;
 import com.student.model.User;
 import org.mindrot.jbcrypt.BCrypt;
 
-import java.sql.*;
+import javax.sql.DataSource;
+import java.sql.SQLException;
 
 public class UserDAO {
 
-    private static final String DB_URL = "jdbc:mysql://localhost:3307/student_management";
-    private static final String DB_USER = "user1";
-    private static final String DB_PASSWORD = "user1";
-
     // SQL Queries
     private static final String SQL_AUTHENTICATE =
-            "SELECT * FROM users WHERE username = ? AND is_active = TRUE";
+            "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE username = ? AND is_active = TRUE";
 
     private static final String SQL_UPDATE_LAST_LOGIN =
             "UPDATE users SET last_login = NOW() WHERE id = ?";
 
     private static final String SQL_GET_BY_ID =
-            "SELECT * FROM users WHERE id = ?";
+            "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE id = ?";
 
     private static final String SQL_GET_BY_USERNAME =
-            "SELECT * FROM users WHERE username = ?";
+            "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE username = ?";
 
     private static final String SQL_INSERT =
             "INSERT INTO users (username, password, full_name, role) VALUES (?, ?, ?, ?)";
@@ -30,14 +28,24 @@ public class UserDAO {
     private static final String SQL_UPDATE_PASSWORD =
             "UPDATE users SET password = ? WHERE id = ?";
 
-    // Get database connection
-    private Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL Driver not found", e);
-        }
+    private final JdbcTemplate jdbc;
+
+    // Deferred last_login writes; null means update synchronously
+    private LastLoginWriter lastLoginWriter;
+
+    public UserDAO(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource, "UserDAO");
+    }
+
+    public void setLastLoginWriter(LastLoginWriter lastLoginWriter) {
+        this.lastLoginWriter = lastLoginWriter;
+    }
+
+    /**
+     * Time and count every statement this DAO runs.
+     */
+    public void setMetrics(AppMetrics metrics) {
+        jdbc.setMetrics(metrics);
     }
 
     /**
@@ -45,44 +53,39 @@ public class UserDAO {
      * @return User object if authentication successful, null otherwise
      */
     public User authenticate(String username, String password) {
-        User user = null;
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_AUTHENTICATE)) {
-
-            pstmt.setString(1, username);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    String hashedPassword = rs.getString("password");
-
-                    // Verify password with BCrypt
-                    if (BCrypt.checkpw(password, hashedPassword)) {
-                        user = mapResultSetToUser(rs);
-
-                        // Update last login time
-                        updateLastLogin(user.getId());
-                    }
-                }
-            }
+        User user;
 
+        try {
+            user = jdbc.queryForObject(SQL_AUTHENTICATE, UserRowMapper.INSTANCE, username);
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
 
+        // Verify password with BCrypt, after the connection is back in the pool
+        if (user == null || !BCrypt.checkpw(password, user.getPassword())) {
+            return null;
+        }
+
+        // Update last login time (queued, off the login path when a writer is set)
+        recordLogin(user.getId());
         return user;
     }
 
+    private void recordLogin(int userId) {
+        if (lastLoginWriter != null) {
+            lastLoginWriter.recordLogin(userId);
+        } else {
+            updateLastLogin(userId);
+        }
+    }
+
     /**
      * Update user's last login timestamp
      */
     private void updateLastLogin(int userId) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_UPDATE_LAST_LOGIN)) {
-
-            pstmt.setInt(1, userId);
-            pstmt.executeUpdate();
-
+        try {
+            jdbc.update(SQL_UPDATE_LAST_LOGIN, userId);
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -92,99 +95,45 @@ public class UserDAO {
      * Get user by ID
      */
     public User getUserById(int id) {
-        User user = null;
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_GET_BY_ID)) {
-
-            pstmt.setInt(1, id);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    user = mapResultSetToUser(rs);
-                }
-            }
-
+        try {
+            return jdbc.queryForObject(SQL_GET_BY_ID, UserRowMapper.INSTANCE, id);
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
-
-        return user;
     }
 
     /**
      * Get user by username
      */
     public User getUserByUsername(String username) {
-        User user = null;
-
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_GET_BY_USERNAME)) {
-
-            pstmt.setString(1, username);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    user = mapResultSetToUser(rs);
-                }
-            }
-
+        try {
+            return jdbc.queryForObject(SQL_GET_BY_USERNAME, UserRowMapper.INSTANCE, username);
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
-
-        return user;
     }
 
     /**
      * Create new user with hashed password
      */
     public boolean createUser(User user) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_INSERT)) {
-
-            // Hash password before storing
-            String hashedPassword = BCrypt.hashpw(user.getPassword(), BCrypt.gensalt());
-
-            pstmt.setString(1, user.getUsername());
-            pstmt.setString(2, hashedPassword);
-            pstmt.setString(3, user.getFullName());
-            pstmt.setString(4, user.getRole());
-
-            int rowsAffected = pstmt.executeUpdate();
-            return rowsAffected > 0;
+        // Hash password before storing
+        String hashedPassword = BCrypt.hashpw(user.getPassword(), BCrypt.gensalt());
 
+        try {
+            return jdbc.update(SQL_INSERT, user.getUsername(), hashedPassword,
+                    user.getFullName(), user.getRole()) > 0;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
     }
 
-    /**
-     * Map ResultSet to User object
-     */
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
-        User user = new User();
-        user.setId(rs.getInt("id"));
-        user.setUsername(rs.getString("username"));
-        user.setPassword(rs.getString("password"));
-        user.setFullName(rs.getString("full_name"));
-        user.setRole(rs.getString("role"));
-        user.setActive(rs.getBoolean("is_active"));
-        user.setCreatedAt(rs.getTimestamp("created_at"));
-        user.setLastLogin(rs.getTimestamp("last_login"));
-        return user;
-    }
-
     public boolean updatePassword(int userId, String newHashedPassword) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(SQL_UPDATE_PASSWORD)) {
-
-            pstmt.setString(1, newHashedPassword);
-            pstmt.setInt(2, userId);
-
-            return pstmt.executeUpdate() > 0;
-
+        try {
+            return jdbc.update(SQL_UPDATE_PASSWORD, newHashedPassword, userId) > 0;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
@@ -195,7 +144,8 @@ public class UserDAO {
      * Test method
      */
     public static void main(String[] args) {
-        UserDAO dao = new UserDAO();
+        ConnectionPool pool = new ConnectionPool(new ConnectionPool.Config());
+        UserDAO dao = new UserDAO(pool);
 
         // Test authentication
         User user = dao.authenticate("admin2", "admin123");
@@ -212,18 +162,17 @@ public class UserDAO {
 
         System.out.println("------------------------------------");
 
-        UserDAO userDAO = new UserDAO();
         User newUser = new User();
         newUser.setUsername("user1");
         newUser.setPassword("user123");
         newUser.setFullName("User1");
         newUser.setRole("user");
         System.out.println("Attempting to create user: " + newUser.getUsername() + " with role: " + newUser.getRole());
-        boolean isCreated = userDAO.createUser(newUser);
+        boolean isCreated = dao.createUser(newUser);
         if (isCreated) {
             System.out.println("✅ User created successfully!");
 
-            User createdUser = userDAO.getUserByUsername(newUser.getUsername());
+            User createdUser = dao.getUserByUsername(newUser.getUsername());
             if (createdUser != null) {
                 System.out.println("Fetched User ID: " + createdUser.getId());
                 System.out.println("Fetched User Role: " + createdUser.getRole());
@@ -234,5 +183,7 @@ public class UserDAO {
         } else {
             System.out.println("❌ Failed to create user. Check the database connection and logs (SQLException).");
         }
+
+        pool.close();
     }
 }
@@ -0,0 +1,43 @@
+package com.student.dao;
+
+import com.student.model.User;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows selected with {@link #COLUMNS} to Users, reading columns by position.
+ */
+public final class UserRowMapper implements RowMapper<User> {
+
+    public static final String COLUMNS =
+            "id, username, password, full_name, role, is_active, created_at, last_login";
+
+    public static final UserRowMapper INSTANCE = new UserRowMapper();
+
+    private static final int ID = 1;
+    private static final int USERNAME = 2;
+    private static final int PASSWORD = 3;
+    private static final int FULL_NAME = 4;
+    private static final int ROLE = 5;
+    private static final int IS_ACTIVE = 6;
+    private static final int CREATED_AT = 7;
+    private static final int LAST_LOGIN = 8;
+
+    private UserRowMapper() {
+    }
+
+    @Override
+    public User mapRow(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getInt(ID));
+        user.setUsername(rs.getString(USERNAME));
+        user.setPassword(rs.getString(PASSWORD));
+        user.setFullName(rs.getString(FULL_NAME));
+        user.setRole(rs.getString(ROLE));
+        user.setActive(rs.getBoolean(IS_ACTIVE));
+        user.setCreatedAt(rs.getTimestamp(CREATED_AT));
+        user.setLastLogin(rs.getTimestamp(LAST_LOGIN));
+        return user;
+    }
+}
@@ -1,19 +1,21 @@
 package com.student.filter;
 
+import com.student.listener.AppContextListener;
 import com.student.model.User;
+import com.student.session.SessionManager;
 
 import jakarta.servlet.*;
 import jakarta.servlet.annotation.WebFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 
 /**
  * Admin Filter - Checks if user has admin role
  * Protects admin-only pages
  */
-@WebFilter(filterName = "AdminFilter", urlPatterns = {"/student"})
+@WebFilter(filterName = "AdminFilter", urlPatterns = {"/student", "/admin/*", "/import-students", "/metrics"},
+        asyncSupported = true)
 public class AdminFilter implements Filter {
 
     // Admin-only actions
@@ -25,8 +27,18 @@ public class AdminFilter implements Filter {
             "delete"
     };
 
+    // Admin-only paths, whatever the action
+    private static final String[] ADMIN_PATHS = {
+            "/admin/",
+            "/import-students",
+            "/metrics"
+    };
+
+    private SessionManager sessions;
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
+        sessions = (SessionManager) filterConfig.getServletContext().getAttribute(AppContextListener.SESSION_MANAGER);
         System.out.println("AdminFilter initialized");
     }
 
@@ -37,26 +49,20 @@ public class AdminFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String action = httpRequest.getParameter("action");
-
-        // Check if this action requires admin role
-        if (isAdminAction(action)) {
-            HttpSession session = httpRequest.getSession(false);
+        // Check if this path or action requires admin role
+        if (isAdminPath(httpRequest) || isAdminAction(httpRequest.getParameter("action"))) {
+            User user = sessions.currentUser(httpRequest, httpResponse);
 
-            if (session != null) {
-                User user = (User) session.getAttribute("user");
-
-                if (user != null && user.isAdmin()) {
-                    // User is admin, allow access
-                    chain.doFilter(request, response);
-                } else {
-                    // User is not admin, deny access
-                    httpResponse.sendRedirect(httpRequest.getContextPath() +
-                            "/student?action=list&error=Access denied. Admin privileges required.");
-                }
-            } else {
-                // No session, redirect to login
+            if (user == null) {
+                // Not logged in, redirect to login
                 httpResponse.sendRedirect(httpRequest.getContextPath() + "/login");
+            } else if (user.isAdmin()) {
+                // User is admin, allow access
+                chain.doFilter(request, response);
+            } else {
+                // User is not admin, deny access
+                httpResponse.sendRedirect(httpRequest.getContextPath() +
+                        "/student?action=list&error=Access denied. Admin privileges required.");
             }
         } else {
             // Not an admin action, allow access
@@ -69,6 +75,19 @@ public class AdminFilter implements Filter {
         System.out.println("AdminFilter destroyed");
     }
 
+    /**
+     * Check if the request targets the admin-only area
+     */
+    private boolean isAdminPath(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (String adminPath : ADMIN_PATHS) {
+            if (path.startsWith(adminPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if action requires admin role
      */
@@ -1,33 +1,50 @@
 package com.student.filter;
 
+import com.student.listener.AppContextListener;
+import com.student.session.SessionManager;
+
 import jakarta.servlet.*;
 import jakarta.servlet.annotation.WebFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Authentication Filter - Checks if user is logged in
  * Protects all pages except login and public resources
  */
-@WebFilter(filterName = "AuthFilter", urlPatterns = {"/*"})
+@WebFilter(filterName = "AuthFilter", urlPatterns = {"/*"}, asyncSupported = true)
 public class AuthFilter implements Filter {
 
-    // Public URLs that don't require authentication
-    private static final String[] PUBLIC_URLS = {
+    // Public paths that don't require authentication, matched exactly
+    private static final Set<String> PUBLIC_PATHS = Set.of(
             "/login",
-            "/logout",
-            ".css",
-            ".js",
-            ".png",
-            ".jpg",
-            ".jpeg",
-            ".gif"
+            "/logout"
+    );
+
+    // Public path prefixes
+    private static final String[] PUBLIC_PREFIXES = {
+            "/assets/"
     };
 
+    // Public file extensions, looked up by the extension of the last path segment
+    private static final Set<String> PUBLIC_EXTENSIONS = Set.of(
+            "css",
+            "js",
+            "png",
+            "jpg",
+            "jpeg",
+            "gif",
+            "ico",
+            "svg"
+    );
+
+    private SessionManager sessions;
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
+        sessions = (SessionManager) filterConfig.getServletContext().getAttribute(AppContextListener.SESSION_MANAGER);
         System.out.println("AuthFilter initialized");
     }
 
@@ -49,13 +66,18 @@ public class AuthFilter implements Filter {
             return;
         }
 
-        // Check if user is logged in
-        HttpSession session = httpRequest.getSession(false);
-        boolean isLoggedIn = (session != null && session.getAttribute("user") != null);
+        // Check if user is logged in (restores the session on a node that hasn't seen it yet)
+        boolean isLoggedIn = sessions.currentUser(httpRequest, httpResponse) != null;
 
         if (isLoggedIn) {
             // User is logged in, allow access
             chain.doFilter(request, response);
+        } else if (path.startsWith("/api/")) {
+            // API clients can't follow a redirect to a login form
+            httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            httpResponse.setContentType("application/json");
+            httpResponse.setCharacterEncoding("UTF-8");
+            httpResponse.getWriter().write("{\"error\":\"Authentication required\"}");
         } else {
             // User not logged in, redirect to login
             String loginURL = contextPath + "/login";
@@ -72,11 +94,16 @@ public class AuthFilter implements Filter {
      * Check if URL is public (doesn't require authentication)
      */
     private boolean isPublicUrl(String path) {
-        for (String publicUrl : PUBLIC_URLS) {
-            if (path.contains(publicUrl)) {
+        if (PUBLIC_PATHS.contains(path)) {
+            return true;
+        }
+        for (String prefix : PUBLIC_PREFIXES) {
+            if (path.startsWith(prefix)) {
                 return true;
             }
         }
-        return false;
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/')
+                && PUBLIC_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase());
     }
 }
@@ -0,0 +1,430 @@
+package com.student.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression Filter - gzip/deflate for HTML, JSON and plain text responses
+ * The first bytes of the body are held back until there are enough of them to be worth
+ * compressing; smaller responses go out as they are, with a Content-Length.
+ * Streamed responses stay streamed: flushing the writer flushes the compressor too.
+ *
+ * Output written after startAsync() through the container's response is not compressed;
+ * async dispatches (e.g. back to a JSP) are. Non-blocking output (setWriteListener) is passed
+ * through uncompressed, since the listener has to see the container stream's own readiness.
+ */
+@WebFilter(filterName = "CompressionFilter", urlPatterns = {"/*"}, asyncSupported = true,
+        dispatcherTypes = {DispatcherType.REQUEST, DispatcherType.ASYNC})
+public class CompressionFilter implements Filter {
+
+    private static final int DEFAULT_MIN_BYTES = 1024;
+
+    private static final String[] COMPRESSIBLE_TYPES = {
+            "text/html",
+            "text/plain",
+            "application/json"
+    };
+
+    private int minBytes;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        minBytes = DEFAULT_MIN_BYTES;
+        String value = filterConfig.getServletContext().getInitParameter("compression.minBytes");
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                minBytes = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Ignoring invalid value for compression.minBytes: " + value);
+            }
+        }
+        System.out.println("CompressionFilter initialized");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String encoding = chooseEncoding(httpRequest.getHeader("Accept-Encoding"));
+        if (encoding == null) {
+            // Caches must not hand a compressed copy to this client either
+            httpResponse.addHeader("Vary", "Accept-Encoding");
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CompressingResponse compressing = new CompressingResponse(httpResponse, encoding, minBytes);
+        try {
+            chain.doFilter(request, compressing);
+            compressing.finish();
+        } finally {
+            compressing.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        System.out.println("CompressionFilter destroyed");
+    }
+
+    /**
+     * @return "gzip" or "deflate" (gzip preferred), or null if the client accepts neither
+     */
+    private String chooseEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim().toLowerCase();
+            if (parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (name.equals("gzip")) {
+                return "gzip";
+            }
+            if (name.equals("deflate")) {
+                deflate = true;
+            }
+        }
+        return deflate ? "deflate" : null;
+    }
+
+    private static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        for (String compressible : COMPRESSIBLE_TYPES) {
+            if (type.startsWith(compressible)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletResponse response;
+        private final String encoding;
+        private final int minBytes;
+
+        private CompressingStream stream;
+        private PrintWriter writer;
+        private long contentLength = -1;
+
+        CompressingResponse(HttpServletResponse response, String encoding, int minBytes) {
+            super(response);
+            this.response = response;
+            this.encoding = encoding;
+            this.minBytes = minBytes;
+            response.addHeader("Vary", "Accept-Encoding");
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            if (stream == null) {
+                stream = new CompressingStream(this);
+            }
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (stream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                // Resolve the charset now, as the container would
+                String charsetName = getCharacterEncoding();
+                Charset charset = charsetName != null ? Charset.forName(charsetName) : StandardCharsets.ISO_8859_1;
+                stream = new CompressingStream(this);
+                writer = new PrintWriter(new OutputStreamWriter(stream, charset));
+            }
+            return writer;
+        }
+
+        // Held back until we know whether the body is compressed
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (stream != null && stream.decided) {
+                if (!stream.compressing) {
+                    super.setContentLengthLong(len);
+                }
+            } else {
+                contentLength = len;
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (name.equalsIgnoreCase("Content-Length")) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.flush();
+            }
+            // Committing now would send the headers before Content-Encoding is known
+            if (stream == null || stream.decided) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (stream != null) {
+                stream.discardBuffered();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            response.addHeader("Vary", "Accept-Encoding");
+            contentLength = -1;
+            if (stream != null) {
+                stream.discardBuffered();
+            }
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return super.isCommitted() || (stream != null && stream.decided);
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.finish();
+            }
+        }
+
+        void release() {
+            if (stream != null) {
+                stream.release();
+            }
+        }
+    }
+
+    // Lets the compressor be closed, which releases it, without closing the servlet stream under it
+    private static final class NonClosingStream extends FilterOutputStream {
+
+        NonClosingStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class CompressingStream extends ServletOutputStream {
+
+        private final CompressingResponse response;
+        private byte[] buffer;
+        private int count;
+
+        private boolean decided;
+        private boolean compressing;
+        private boolean finished;
+        private OutputStream target;
+        private Deflater deflater;
+        private boolean nonBlocking;
+
+        CompressingStream(CompressingResponse response) {
+            this.response = response;
+            this.buffer = new byte[response.minBytes];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (decided) {
+                target.write(b);
+                return;
+            }
+            if (count == buffer.length) {
+                decide(true);
+                target.write(b);
+                return;
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (decided) {
+                target.write(b, off, len);
+                return;
+            }
+            if (count + len > buffer.length) {
+                decide(true);
+                target.write(b, off, len);
+                return;
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        // A flush before the threshold is reached keeps buffering; the body is still small
+        @Override
+        public void flush() throws IOException {
+            if (decided) {
+                target.flush();
+            }
+        }
+
+        void discardBuffered() {
+            if (!decided) {
+                count = 0;
+            }
+        }
+
+        // A forward closes the response's writer when it returns; the body is complete then
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (!decided) {
+                if (count == 0) {
+                    return;
+                }
+                decide(false);
+            }
+            if (nonBlocking) {
+                return; // the servlet's listener owns the stream now; a flush here could block
+            }
+            if (compressing) {
+                // Writes the trailer; the servlet stream itself stays open for the container
+                try {
+                    target.close();
+                } finally {
+                    endDeflater();
+                }
+            } else {
+                target.flush();
+            }
+        }
+
+        // Frees the native zlib memory of a response that failed before finish()
+        void release() {
+            if (compressing && !finished) {
+                finished = true;
+                try {
+                    target.close();
+                } catch (IOException e) {
+                    // The response is broken anyway
+                } finally {
+                    endDeflater();
+                }
+            }
+        }
+
+        // GZIPOutputStream ends its own Deflater on close(); the one given to DeflaterOutputStream is ours to end
+        private void endDeflater() {
+            if (deflater != null) {
+                deflater.end();
+                deflater = null;
+            }
+        }
+
+        private void decide(boolean large) throws IOException {
+            decided = true;
+            HttpServletResponse http = (HttpServletResponse) response.getResponse();
+            OutputStream out = http.getOutputStream();
+
+            compressing = large && !nonBlocking && isCompressible(response.getContentType())
+                    && !http.containsHeader("Content-Encoding");
+            if (compressing) {
+                http.setHeader("Content-Encoding", response.encoding);
+                OutputStream body = new NonClosingStream(out);
+                if (response.encoding.equals("gzip")) {
+                    target = new GZIPOutputStream(body, 8192, true);
+                } else {
+                    deflater = new Deflater();
+                    target = new DeflaterOutputStream(body, deflater, 8192, true);
+                }
+            } else {
+                if (response.contentLength >= 0) {
+                    http.setContentLengthLong(response.contentLength);
+                } else if (!large) {
+                    http.setContentLength(count);
+                }
+                target = out;
+            }
+            target.write(buffer, 0, count);
+            buffer = null;
+        }
+
+        @Override
+        public boolean isReady() {
+            return !nonBlocking || ((ServletOutputStream) target).isReady();
+        }
+
+        // Switches to passing bytes straight through; what was buffered goes out first, still blocking
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            if (compressing) {
+                throw new IllegalStateException("Compressed output has already been written");
+            }
+            nonBlocking = true;
+            if (!decided) {
+                try {
+                    decide(true);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            ((ServletOutputStream) target).setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.student.filter;
+
+import com.student.listener.AppContextListener;
+import com.student.metrics.AppMetrics;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.MappingMatch;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Metrics Filter - Records how long every request takes
+ * Requests are labelled by the servlet mapping they hit rather than the raw URL, so
+ * arbitrary paths and parameters can't grow the number of series.
+ */
+@WebFilter(filterName = "MetricsFilter", urlPatterns = {"/*"}, asyncSupported = true)
+public class MetricsFilter implements Filter {
+
+    // Actions of /student reported as they are; anything else is "other"
+    private static final Set<String> STUDENT_ACTIONS = Set.of(
+            "list", "query", "search", "sort", "filter", "new", "insert", "edit", "update", "delete");
+
+    private static final Set<String> METHODS = Set.of("GET", "POST", "HEAD", "PUT", "DELETE");
+
+    private AppMetrics metrics;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        metrics = (AppMetrics) filterConfig.getServletContext().getAttribute(AppContextListener.METRICS);
+        System.out.println("MetricsFilter initialized");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        long start = System.nanoTime();
+
+        String route = routeOf(httpRequest);
+        String method = METHODS.contains(httpRequest.getMethod()) ? httpRequest.getMethod() : "OTHER";
+        String action = actionOf(route, httpRequest);
+
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The response isn't written yet; time it to completion
+                boolean threw = failed;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    private volatile boolean error = threw;
+
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        metrics.recordRequest(route, method, action, System.nanoTime() - start,
+                                error || httpResponse.getStatus() >= 500);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        error = true;
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                        event.getAsyncContext().addListener(this);
+                    }
+                });
+            } else {
+                metrics.recordRequest(route, method, action, System.nanoTime() - start,
+                        failed || httpResponse.getStatus() >= 500);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        System.out.println("MetricsFilter destroyed");
+    }
+
+    /**
+     * The servlet mapping pattern (e.g. "/student"), "static" for the default servlet
+     */
+    private String routeOf(HttpServletRequest request) {
+        HttpServletMapping mapping = request.getHttpServletMapping();
+        if (mapping == null || mapping.getMappingMatch() == null) {
+            return "other";
+        }
+        if (mapping.getMappingMatch() == MappingMatch.DEFAULT) {
+            return "static";
+        }
+        return mapping.getPattern();
+    }
+
+    // Only /student reads the parameter; elsewhere it could mean consuming a streamed upload
+    private String actionOf(String route, HttpServletRequest request) {
+        if (!route.equals("/student")) {
+            return "";
+        }
+        String action = request.getParameter("action");
+        if (action == null) {
+            return "list";
+        }
+        return STUDENT_ACTIONS.contains(action) ? action : "other";
+    }
+}
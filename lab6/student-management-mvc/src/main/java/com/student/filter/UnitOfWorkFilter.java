@@ -0,0 +1,125 @@
+package com.student.filter;
+
+import com.student.dao.UnitOfWork;
+import com.student.listener.AppContextListener;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Unit of Work Filter - one connection and one transaction per request
+ * Every DAO call made while the request is processed shares them; the transaction is
+ * committed when the request ends, or rolled back if it failed.
+ *
+ * Async requests keep their unit of work until the AsyncContext completes, and async
+ * dispatches rejoin it.
+ */
+@WebFilter(filterName = "UnitOfWorkFilter", urlPatterns = {"/*"}, asyncSupported = true,
+        dispatcherTypes = {DispatcherType.REQUEST, DispatcherType.ASYNC})
+public class UnitOfWorkFilter implements Filter {
+
+    private static final String ATTRIBUTE = UnitOfWork.class.getName();
+
+    private DataSource dataSource;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        dataSource = (DataSource) filterConfig.getServletContext().getAttribute(AppContextListener.CONNECTION_POOL);
+        System.out.println("UnitOfWorkFilter initialized");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        UnitOfWork unitOfWork = (UnitOfWork) request.getAttribute(ATTRIBUTE);
+        boolean first = unitOfWork == null;
+        if (first) {
+            unitOfWork = new UnitOfWork(dataSource);
+            request.setAttribute(ATTRIBUTE, unitOfWork);
+            response = new CommitBeforeRedirect((HttpServletResponse) response, unitOfWork);
+        }
+
+        unitOfWork.bind();
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            unitOfWork.setRollbackOnly();
+            throw e;
+        } finally {
+            unitOfWork.unbind();
+            if (request.isAsyncStarted()) {
+                // Ends on completion, after any dispatch back into the app
+                if (first) {
+                    request.getAsyncContext().addListener(new EndOnComplete(unitOfWork));
+                }
+            } else if (first) {
+                unitOfWork.end();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        System.out.println("UnitOfWorkFilter destroyed");
+    }
+
+    private static final class EndOnComplete implements AsyncListener {
+
+        private final UnitOfWork unitOfWork;
+
+        EndOnComplete(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            unitOfWork.end();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            unitOfWork.setRollbackOnly();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            unitOfWork.setRollbackOnly();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // startAsync() again drops the registered listeners
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * After a POST the browser follows the redirect straight away,
+     * so the write has to be committed before it is told to.
+     */
+    private static final class CommitBeforeRedirect extends HttpServletResponseWrapper {
+
+        private final UnitOfWork unitOfWork;
+
+        CommitBeforeRedirect(HttpServletResponse response, UnitOfWork unitOfWork) {
+            super(response);
+            this.unitOfWork = unitOfWork;
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            try {
+                unitOfWork.finishTransaction();
+            } catch (SQLException e) {
+                throw new IOException("Could not commit before redirect", e);
+            }
+            super.sendRedirect(location);
+        }
+    }
+}
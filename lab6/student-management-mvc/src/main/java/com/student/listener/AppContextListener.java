@@ -0,0 +1,268 @@
+package com.student.listener;
+
+import com.student.cache.StudentCache;
+import com.student.dao.ConnectionPool;
+import com.student.dao.LastLoginWriter;
+import com.student.dao.StudentDAO;
+import com.student.dao.UserDAO;
+import com.student.metrics.AppMetrics;
+import com.student.search.StudentSearchIndex;
+import com.student.security.LoginExecutor;
+import com.student.security.LoginThrottle;
+import com.student.service.DashboardStatsService;
+import com.student.session.InMemorySessionStore;
+import com.student.session.MappedSessionStore;
+import com.student.session.SessionManager;
+import com.student.session.SessionStore;
+import com.student.utils.StaticAssets;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application lifecycle listener.
+ * Owns the shared connection pool and the DAOs built on top of it.
+ */
+@WebListener
+public class AppContextListener implements ServletContextListener {
+
+    // ServletContext attribute names
+    public static final String CONNECTION_POOL = "connectionPool";
+    public static final String STUDENT_DAO = "studentDAO";
+    public static final String USER_DAO = "userDAO";
+    public static final String SEARCH_INDEX = "studentSearchIndex";
+    public static final String LAST_LOGIN_WRITER = "lastLoginWriter";
+    public static final String LOGIN_EXECUTOR = "loginExecutor";
+    public static final String LOGIN_THROTTLE = "loginThrottle";
+    public static final String STUDENT_CACHE = "studentCache";
+    public static final String DASHBOARD_STATS = "dashboardStats";
+    public static final String METRICS = "metrics";
+    public static final String STATIC_ASSETS = "assets";
+    public static final String SESSION_STORE = "sessionStore";
+    public static final String SESSION_MANAGER = "sessionManager";
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+
+    private static final long DEFAULT_LAST_LOGIN_FLUSH_MILLIS = 2000;
+    private static final int DEFAULT_LOGIN_QUEUE_CAPACITY = 100;
+    private static final int DEFAULT_CACHE_MAX_STUDENTS = 10_000;
+    private static final long DEFAULT_CACHE_TTL_MILLIS = 60_000;
+    private static final long DEFAULT_DASHBOARD_TTL_MILLIS = 60_000;
+    private static final long DEFAULT_SLOW_QUERY_MILLIS = 200;
+    private static final int DEFAULT_SESSION_MAX_RECORDS = 100_000;
+    private static final int DEFAULT_IMPORT_THREADS = 2;
+    private static final long IMPORT_SHUTDOWN_MILLIS = 30_000;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        ServletContext context = sce.getServletContext();
+
+        ConnectionPool pool = new ConnectionPool(readPoolConfig(context));
+        context.setAttribute(CONNECTION_POOL, pool);
+
+        // Pages link stylesheets through assets.urls, so this has to exist before the first request
+        StaticAssets assets = StaticAssets.load(context);
+        context.setAttribute(STATIC_ASSETS, assets);
+        System.out.println("Static assets loaded: " + assets.getUrls().size());
+
+        AppMetrics metrics = new AppMetrics(longParam(context, "metrics.slowQueryMillis", DEFAULT_SLOW_QUERY_MILLIS));
+        context.setAttribute(METRICS, metrics);
+
+        StudentDAO studentDAO = new StudentDAO(pool);
+        studentDAO.setMetrics(metrics);
+        StudentSearchIndex searchIndex = new StudentSearchIndex();
+        studentDAO.setSearchIndex(searchIndex);
+        StudentCache studentCache = new StudentCache(
+                intParam(context, "cache.maxStudents", DEFAULT_CACHE_MAX_STUDENTS),
+                longParam(context, "cache.ttlMillis", DEFAULT_CACHE_TTL_MILLIS));
+        studentDAO.setCache(studentCache);
+        context.setAttribute(STUDENT_DAO, studentDAO);
+        context.setAttribute(SEARCH_INDEX, searchIndex);
+        context.setAttribute(STUDENT_CACHE, studentCache);
+
+        DashboardStatsService dashboardStats = new DashboardStatsService(studentDAO,
+                longParam(context, "dashboard.statsTtlMillis", DEFAULT_DASHBOARD_TTL_MILLIS));
+        studentDAO.addChangeListener(dashboardStats);
+        context.setAttribute(DASHBOARD_STATS, dashboardStats);
+
+        UserDAO userDAO = new UserDAO(pool);
+        userDAO.setMetrics(metrics);
+        LastLoginWriter lastLoginWriter = new LastLoginWriter(pool,
+                longParam(context, "login.lastLoginFlushMillis", DEFAULT_LAST_LOGIN_FLUSH_MILLIS));
+        userDAO.setLastLoginWriter(lastLoginWriter);
+        context.setAttribute(USER_DAO, userDAO);
+        context.setAttribute(LAST_LOGIN_WRITER, lastLoginWriter);
+
+        // BCrypt is CPU bound, so more verifier threads than cores only adds queueing
+        context.setAttribute(LOGIN_EXECUTOR, new LoginExecutor(
+                intParam(context, "login.verifierThreads", Runtime.getRuntime().availableProcessors()),
+                intParam(context, "login.queueCapacity", DEFAULT_LOGIN_QUEUE_CAPACITY)));
+        context.setAttribute(LOGIN_THROTTLE, new LoginThrottle());
+
+        // CSV import batches are inserted here, off the container's non-blocking read thread
+        AtomicInteger importThreadNumber = new AtomicInteger();
+        context.setAttribute(IMPORT_EXECUTOR, Executors.newFixedThreadPool(
+                intParam(context, "import.threads", DEFAULT_IMPORT_THREADS),
+                r -> {
+                    Thread t = new Thread(r, "student-import-" + importThreadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }));
+
+        SessionStore sessionStore = openSessionStore(context);
+        context.setAttribute(SESSION_STORE, sessionStore);
+        context.setAttribute(SESSION_MANAGER, new SessionManager(sessionStore, userDAO,
+                context.getSessionTimeout() * 60_000L));
+        System.out.println("Session store: " + sessionStore.getDescription());
+
+        System.out.println("Connection pool started: " + pool.stats());
+
+        // Searches use LIKE until the index is ready, so don't hold up deployment for the build
+        Thread indexBuilder = new Thread(() -> buildSearchIndex(studentDAO, searchIndex), "student-search-index-builder");
+        indexBuilder.setDaemon(true);
+        indexBuilder.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        ServletContext context = sce.getServletContext();
+
+        LoginExecutor loginExecutor = (LoginExecutor) context.getAttribute(LOGIN_EXECUTOR);
+        if (loginExecutor != null) {
+            loginExecutor.close();
+        }
+
+        // Lets running imports insert the batches they have read; needs the pool too
+        ExecutorService importExecutor = (ExecutorService) context.getAttribute(IMPORT_EXECUTOR);
+        if (importExecutor != null) {
+            importExecutor.shutdown();
+            try {
+                if (!importExecutor.awaitTermination(IMPORT_SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS)) {
+                    System.out.println("Student import still running at shutdown");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Final last_login flush needs the pool, so it goes first
+        LastLoginWriter lastLoginWriter = (LastLoginWriter) context.getAttribute(LAST_LOGIN_WRITER);
+        if (lastLoginWriter != null) {
+            lastLoginWriter.close();
+        }
+
+        SessionStore sessionStore = (SessionStore) context.getAttribute(SESSION_STORE);
+        if (sessionStore != null) {
+            sessionStore.close();
+        }
+
+        ConnectionPool pool = (ConnectionPool) context.getAttribute(CONNECTION_POOL);
+        if (pool != null) {
+            pool.close();
+            System.out.println("Connection pool closed");
+        }
+    }
+
+    private void buildSearchIndex(StudentDAO studentDAO, StudentSearchIndex searchIndex) {
+        long start = System.currentTimeMillis();
+        searchIndex.beginBuild();
+        try {
+            studentDAO.scanStudents(searchIndex::addFromScan);
+            searchIndex.finishBuild();
+            System.out.println("Student search index built: " + searchIndex.getDocumentCount() + " students in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        } catch (SQLException e) {
+            System.out.println("Student search index build failed, searches will use LIKE: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Open the shared session file, or keep sessions in memory if it can't be used.
+     * An empty session.storeFile parameter selects the in-memory store.
+     */
+    private SessionStore openSessionStore(ServletContext context) {
+        String storeFile = context.getInitParameter("session.storeFile");
+        if (storeFile == null) {
+            storeFile = Paths.get(System.getProperty("java.io.tmpdir"), "student-management-sessions.db").toString();
+        }
+        if (storeFile.trim().isEmpty()) {
+            return new InMemorySessionStore();
+        }
+        Path path = Paths.get(storeFile.trim());
+        try {
+            return new MappedSessionStore(path, intParam(context, "session.maxRecords", DEFAULT_SESSION_MAX_RECORDS));
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not open session file " + path + ", sessions will not survive a restart: "
+                    + e.getMessage());
+            return new InMemorySessionStore();
+        }
+    }
+
+    /**
+     * Build pool settings from the db.* context parameters in web.xml
+     */
+    private ConnectionPool.Config readPoolConfig(ServletContext context) {
+        ConnectionPool.Config config = new ConnectionPool.Config();
+
+        String url = context.getInitParameter("db.url");
+        if (url != null) {
+            config.setUrl(url);
+        }
+        String user = context.getInitParameter("db.user");
+        if (user != null) {
+            config.setUser(user);
+        }
+        String password = context.getInitParameter("db.password");
+        if (password != null) {
+            config.setPassword(password);
+        }
+
+        config.setMinIdle(intParam(context, "db.pool.minIdle", config.getMinIdle()));
+        config.setMaxIdle(intParam(context, "db.pool.maxIdle", config.getMaxIdle()));
+        config.setMaxTotal(intParam(context, "db.pool.maxTotal", config.getMaxTotal()));
+        config.setMaxLifetimeMillis(longParam(context, "db.pool.maxLifetimeMillis", config.getMaxLifetimeMillis()));
+        config.setConnectionTimeoutMillis(longParam(context, "db.pool.connectionTimeoutMillis",
+                config.getConnectionTimeoutMillis()));
+        config.setValidationTimeoutSeconds(intParam(context, "db.pool.validationTimeoutSeconds",
+                config.getValidationTimeoutSeconds()));
+        config.setLeakDetectionThresholdMillis(longParam(context, "db.pool.leakDetectionThresholdMillis",
+                config.getLeakDetectionThresholdMillis()));
+        config.setLeakStackTraces(Boolean.parseBoolean(context.getInitParameter("db.pool.leakStackTraces")));
+        return config;
+    }
+
+    static int intParam(ServletContext context, String name, int defaultValue) {
+        String value = context.getInitParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring invalid value for " + name + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    static long longParam(ServletContext context, String name, long defaultValue) {
+        String value = context.getInitParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring invalid value for " + name + ": " + value);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.student.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Request and query metrics for the whole application, exported in the Prometheus text format.
+ *
+ * Requests are grouped by servlet route, HTTP method and (for /student) action. Queries are
+ * grouped by DAO and statement shape: the SQL text with whitespace collapsed and IN lists
+ * folded, so the label set stays bounded. Queries slower than the threshold also go to a
+ * small in-memory log and to stdout.
+ */
+public class AppMetrics {
+
+    private static final int SLOW_QUERY_LOG_SIZE = 50;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private final long slowQueryNanos;
+
+    private final Map<String, RequestMetrics> requests = new ConcurrentHashMap<>();
+
+    // Raw SQL -> metrics of its shape; several raw statements (IN list buckets) share one shape
+    private final Map<String, QueryMetrics> queriesBySql = new ConcurrentHashMap<>();
+    private final Map<String, QueryMetrics> queriesByShape = new ConcurrentHashMap<>();
+
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    public AppMetrics(long slowQueryMillis) {
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+    }
+
+    public void recordRequest(String route, String method, String action, long nanos, boolean failed) {
+        RequestMetrics metrics = requests.computeIfAbsent(route + ' ' + method + ' ' + action,
+                k -> new RequestMetrics(route, method, action));
+        metrics.latency.record(nanos);
+        if (failed) {
+            metrics.errors.increment();
+        }
+    }
+
+    /**
+     * @param rows rows returned by a query, or affected by an update
+     */
+    public void recordQuery(String dao, String sql, long nanos, int rows, boolean failed) {
+        QueryMetrics metrics = queriesBySql.computeIfAbsent(dao + '\n' + sql, k -> {
+            String shape = shapeOf(sql);
+            return queriesByShape.computeIfAbsent(dao + '\n' + shape, k2 -> new QueryMetrics(dao, shape));
+        });
+        metrics.latency.record(nanos);
+        metrics.rows.add(rows);
+        if (failed) {
+            metrics.errors.increment();
+        }
+
+        if (nanos >= slowQueryNanos) {
+            metrics.slow.increment();
+            SlowQuery entry = new SlowQuery(System.currentTimeMillis(), dao, metrics.shape,
+                    nanos / 1e6, rows, failed);
+            synchronized (slowQueries) {
+                if (slowQueries.size() >= SLOW_QUERY_LOG_SIZE) {
+                    slowQueries.removeLast();
+                }
+                slowQueries.addFirst(entry);
+            }
+            System.out.println(String.format(Locale.ROOT, "Slow query: %s %.1fms, %d rows%s: %s",
+                    dao, entry.getMillis(), rows, failed ? " (failed)" : "", metrics.shape));
+        }
+    }
+
+    /**
+     * @return the most recent slow queries, newest first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            return new ArrayList<>(slowQueries);
+        }
+    }
+
+    public long getSlowQueryMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowQueryNanos);
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PLACEHOLDER_LIST.matcher(shape).replaceAll("?, ...");
+    }
+
+    public void writePrometheus(Writer out) throws IOException {
+        List<RequestMetrics> requestList = new ArrayList<>(requests.values());
+        Collections.sort(requestList, (a, b) -> a.key().compareTo(b.key()));
+        List<QueryMetrics> queryList = new ArrayList<>(queriesByShape.values());
+        Collections.sort(queryList, (a, b) -> a.key().compareTo(b.key()));
+
+        out.write("# HELP student_http_request_duration_seconds Time to serve a request.\n");
+        out.write("# TYPE student_http_request_duration_seconds histogram\n");
+        for (RequestMetrics metrics : requestList) {
+            writeHistogram(out, "student_http_request_duration_seconds", metrics.labels(), metrics.latency);
+        }
+
+        out.write("# HELP student_http_request_errors_total Requests that threw or answered 5xx.\n");
+        out.write("# TYPE student_http_request_errors_total counter\n");
+        for (RequestMetrics metrics : requestList) {
+            writeSample(out, "student_http_request_errors_total", metrics.labels(), metrics.errors.sum());
+        }
+
+        out.write("# HELP student_dao_query_duration_seconds Time to execute a statement and read its rows.\n");
+        out.write("# TYPE student_dao_query_duration_seconds histogram\n");
+        for (QueryMetrics metrics : queryList) {
+            writeHistogram(out, "student_dao_query_duration_seconds", metrics.labels(), metrics.latency);
+        }
+
+        out.write("# HELP student_dao_query_rows_total Rows returned by queries or affected by updates.\n");
+        out.write("# TYPE student_dao_query_rows_total counter\n");
+        for (QueryMetrics metrics : queryList) {
+            writeSample(out, "student_dao_query_rows_total", metrics.labels(), metrics.rows.sum());
+        }
+
+        out.write("# HELP student_dao_query_errors_total Statements that failed with an SQLException.\n");
+        out.write("# TYPE student_dao_query_errors_total counter\n");
+        for (QueryMetrics metrics : queryList) {
+            writeSample(out, "student_dao_query_errors_total", metrics.labels(), metrics.errors.sum());
+        }
+
+        out.write("# HELP student_dao_slow_queries_total Statements slower than the slow query threshold.\n");
+        out.write("# TYPE student_dao_slow_queries_total counter\n");
+        for (QueryMetrics metrics : queryList) {
+            writeSample(out, "student_dao_slow_queries_total", metrics.labels(), metrics.slow.sum());
+        }
+    }
+
+    private static void writeHistogram(Writer out, String name, String labels, LatencyHistogram histogram)
+            throws IOException {
+        long[] counts = histogram.cumulativeCounts();
+        for (int i = 0; i < LatencyHistogram.BUCKETS.length; i++) {
+            writeSample(out, name + "_bucket", labels + ",le=\"" + LatencyHistogram.BUCKETS[i] + '"', counts[i]);
+        }
+        long total = counts[counts.length - 1];
+        writeSample(out, name + "_bucket", labels + ",le=\"+Inf\"", total);
+        out.write(name + "_sum{" + labels + "} " + histogram.sumSeconds() + '\n');
+        writeSample(out, name + "_count", labels, total);
+    }
+
+    private static void writeSample(Writer out, String name, String labels, long value) throws IOException {
+        out.write(name + '{' + labels + "} " + value + '\n');
+    }
+
+    // Label values escape backslash, double quote and newline
+    private static String label(String name, String value) {
+        StringBuilder sb = new StringBuilder(name.length() + value.length() + 3);
+        sb.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                sb.append('\\').append(c);
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static final class RequestMetrics {
+        final String route;
+        final String method;
+        final String action;
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+
+        RequestMetrics(String route, String method, String action) {
+            this.route = route;
+            this.method = method;
+            this.action = action;
+        }
+
+        String key() {
+            return route + ' ' + method + ' ' + action;
+        }
+
+        String labels() {
+            return label("route", route) + ',' + label("method", method) + ',' + label("action", action);
+        }
+    }
+
+    private static final class QueryMetrics {
+        final String dao;
+        final String shape;
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder slow = new LongAdder();
+
+        QueryMetrics(String dao, String shape) {
+            this.dao = dao;
+            this.shape = shape;
+        }
+
+        String key() {
+            return dao + ' ' + shape;
+        }
+
+        String labels() {
+            return label("dao", dao) + ',' + label("sql", shape);
+        }
+    }
+}
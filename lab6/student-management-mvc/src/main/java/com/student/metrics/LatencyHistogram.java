@@ -0,0 +1,58 @@
+package com.student.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram, cheap enough to update on every request and every query.
+ * Counts are kept per bucket and only made cumulative when exported.
+ */
+final class LatencyHistogram {
+
+    // Upper bounds in seconds, as Prometheus expects them
+    static final double[] BUCKETS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKETS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    // One slot per bucket plus one for +Inf
+    private final LongAdder[] counts = new LongAdder[BUCKETS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        int i = 0;
+        while (i < BUCKET_NANOS.length && nanos > BUCKET_NANOS[i]) {
+            i++;
+        }
+        counts[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * @return cumulative counts, one per bucket plus the +Inf total last
+     */
+    long[] cumulativeCounts() {
+        long[] cumulative = new long[counts.length];
+        long running = 0;
+        for (int i = 0; i < counts.length; i++) {
+            running += counts[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    double sumSeconds() {
+        return sumNanos.sum() / 1e9;
+    }
+}
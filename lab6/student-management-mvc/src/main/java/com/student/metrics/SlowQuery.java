@@ -0,0 +1,33 @@
+package com.student.metrics;
+
+import java.util.Date;
+
+/**
+ * One entry of the slow query log. Holds the statement shape only, never parameter values.
+ */
+public class SlowQuery {
+
+    private final long timestamp;
+    private final String dao;
+    private final String sql;
+    private final double millis;
+    private final int rows;
+    private final boolean failed;
+
+    SlowQuery(long timestamp, String dao, String sql, double millis, int rows, boolean failed) {
+        this.timestamp = timestamp;
+        this.dao = dao;
+        this.sql = sql;
+        this.millis = millis;
+        this.rows = rows;
+        this.failed = failed;
+    }
+
+    public long getTimestamp() { return timestamp; }
+    public Date getLoggedAt() { return new Date(timestamp); }
+    public String getDao() { return dao; }
+    public String getSql() { return sql; }
+    public double getMillis() { return millis; }
+    public int getRows() { return rows; }
+    public boolean isFailed() { return failed; }
+}
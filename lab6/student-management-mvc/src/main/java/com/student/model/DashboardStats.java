@@ -0,0 +1,67 @@
+package com.student.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the numbers shown on the dashboard.
+ */
+public class DashboardStats {
+    private final int totalStudents;
+    private final Map<String, Integer> studentsByMajor;
+    private final Map<LocalDate, Integer> newStudentsByWeek;
+    private final List<Student> recentStudents;
+    private final long computedAt;
+
+    /**
+     * @param studentsByMajor   counts per major, largest first
+     * @param newStudentsByWeek students created per week, keyed by the Monday of the week, oldest first
+     * @param recentStudents    most recently added students, newest first
+     */
+    public DashboardStats(int totalStudents, Map<String, Integer> studentsByMajor,
+                          Map<LocalDate, Integer> newStudentsByWeek, List<Student> recentStudents,
+                          long computedAt) {
+        this.totalStudents = totalStudents;
+        this.studentsByMajor = studentsByMajor;
+        this.newStudentsByWeek = newStudentsByWeek;
+        this.recentStudents = recentStudents;
+        this.computedAt = computedAt;
+    }
+
+    public int getTotalStudents() {
+        return totalStudents;
+    }
+
+    public Map<String, Integer> getStudentsByMajor() {
+        return studentsByMajor;
+    }
+
+    public Map<LocalDate, Integer> getNewStudentsByWeek() {
+        return newStudentsByWeek;
+    }
+
+    public List<Student> getRecentStudents() {
+        return recentStudents;
+    }
+
+    public long getComputedAt() {
+        return computedAt;
+    }
+
+    public int getNewStudentsThisWeek() {
+        int last = 0;
+        for (int count : newStudentsByWeek.values()) {
+            last = count;
+        }
+        return last;
+    }
+
+    public int getMaxWeeklyCount() {
+        int max = 0;
+        for (int count : newStudentsByWeek.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+}
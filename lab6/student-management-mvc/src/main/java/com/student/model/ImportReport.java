@@ -0,0 +1,95 @@
+package com.student.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import: counts plus the rows that were rejected and why.
+ */
+public class ImportReport {
+
+    // Keep the report bounded even if every row of a huge file is bad
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public static class RowError {
+        private final int lineNumber;
+        private final String studentCode;
+        private final String message;
+
+        public RowError(int lineNumber, String studentCode, String message) {
+            this.lineNumber = lineNumber;
+            this.studentCode = studentCode;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getStudentCode() {
+            return studentCode;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private long elapsedMillis;
+    private String fatalError;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public void rowRead() {
+        totalRows++;
+    }
+
+    public void rowsImported(int count) {
+        importedRows += count;
+    }
+
+    public void rowFailed(int lineNumber, String studentCode, String message) {
+        failedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(lineNumber, studentCode, message));
+        }
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public int getImportedRows() {
+        return importedRows;
+    }
+
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return failedRows > errors.size();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getFatalError() {
+        return fatalError;
+    }
+
+    public void setFatalError(String fatalError) {
+        this.fatalError = fatalError;
+    }
+}
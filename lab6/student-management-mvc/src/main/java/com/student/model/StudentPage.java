@@ -0,0 +1,54 @@
+package com.student.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated student listing.
+ * Cursors are opaque strings to be passed back as the "after"/"before" request parameters.
+ */
+public class StudentPage {
+    private final List<Student> students;
+    private final String nextCursor;
+    private final String previousCursor;
+    private final int pageSize;
+
+    public StudentPage(List<Student> students, String nextCursor, String previousCursor, int pageSize) {
+        this.students = students;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+        this.pageSize = pageSize;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isHasPrevious() {
+        return previousCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentPage{" +
+                "size=" + students.size() +
+                ", hasNext=" + isHasNext() +
+                ", hasPrevious=" + isHasPrevious() +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.student.model;
+
+/**
+ * Everything the student list can be narrowed or ordered by: keyword, major, sort and page.
+ * Blank strings are treated as "not set".
+ */
+public class StudentQuery {
+    private final String keyword;
+    private final String major;
+    private final String sortBy;
+    private final String order;
+    private final String after;
+    private final String before;
+    private final int size;
+
+    /**
+     * @param after  cursor from a previous page's next link, or null
+     * @param before cursor from a previous page's previous link, or null
+     */
+    public StudentQuery(String keyword, String major, String sortBy, String order,
+                        String after, String before, int size) {
+        this.keyword = blankToNull(keyword);
+        this.major = blankToNull(major);
+        this.sortBy = blankToNull(sortBy);
+        this.order = blankToNull(order);
+        this.after = blankToNull(after);
+        this.before = blankToNull(before);
+        this.size = size;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public String getBefore() {
+        return before;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null;
+    }
+
+    public boolean hasMajor() {
+        return major != null;
+    }
+
+    public boolean isFirstPage() {
+        return after == null && before == null;
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    @Override
+    public String toString() {
+        return "StudentQuery{" +
+                "keyword='" + keyword + '\'' +
+                ", major='" + major + '\'' +
+                ", sortBy='" + sortBy + '\'' +
+                ", order='" + order + '\'' +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,439 @@
+package com.student.search;
+
+import com.student.dao.StudentChangeListener;
+import com.student.model.Student;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over student_code, full_name and email.
+ *
+ * Answers the same question as the LIKE '%q%' search (case and accent insensitive substring
+ * match on any of the three columns) without touching the database, and ranks the matching
+ * ids so that exact and prefix matches on the student code come first.
+ * Kept in sync with the table through {@link StudentChangeListener}.
+ */
+public class StudentSearchIndex implements StudentChangeListener {
+
+    private static final int FIELD_CODE = 0;
+    private static final int FIELD_NAME = 1;
+    private static final int FIELD_EMAIL = 2;
+    private static final int[] FIELD_WEIGHTS = {3, 2, 1};
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Normalised searchable text of one student
+    private static final class Doc {
+        final int id;
+        final String[] fields;
+
+        Doc(int id, String[] fields) {
+            this.id = id;
+            this.fields = fields;
+        }
+    }
+
+    // Sorted, duplicate-free slots of the documents containing one trigram
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int slot) {
+            int pos;
+            if (size == 0 || ids[size - 1] < slot) {
+                pos = size;
+            } else {
+                pos = Arrays.binarySearch(ids, 0, size, slot);
+                if (pos >= 0) {
+                    return;
+                }
+                pos = -pos - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int pos = Arrays.binarySearch(ids, 0, size, slot);
+            if (pos >= 0) {
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                size--;
+            }
+        }
+    }
+
+    private static final class Hit {
+        final int id;
+        final int score;
+
+        Hit(int id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    // Best score first, newest first among equals (the old ORDER BY id DESC)
+    private static final Comparator<Hit> BEST_FIRST = (a, b) ->
+            a.score != b.score ? Integer.compare(b.score, a.score) : Integer.compare(b.id, a.id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Documents live in a dense array so postings can hold small ints and lookups avoid boxing
+    private Doc[] slots = new Doc[1024];
+    private int slotCount;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    // Ids written through the DAO while a build is scanning the table; the scan must not overwrite them
+    private Set<Integer> touchedDuringBuild;
+    private volatile boolean ready;
+
+    /**
+     * @return true once the initial build has completed and search results are authoritative
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start a full (re)build. Rows are then fed with {@link #addFromScan} and the build
+     * is completed with {@link #finishBuild}.
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            slots = new Doc[1024];
+            slotCount = 0;
+            freeSlots.clear();
+            slotById.clear();
+            postings.clear();
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addFromScan(Student student) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringBuild == null || !touchedDuringBuild.contains(student.getId())) {
+                put(student);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishBuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find students whose code, name or email contains the query.
+     *
+     * @return matching ids, best match first, at most limit entries
+     */
+    public List<Integer> search(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String q = normalize(query.trim());
+        if (q.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Keep only the best "limit" hits; the weakest one sits at the head of the queue
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(limit, 1024), BEST_FIRST.reversed());
+
+        lock.readLock().lock();
+        try {
+            // Walk from the highest slot down: slots mostly follow insertion order, so newer
+            // students arrive first and equal-score ties rarely displace an entry in the queue
+            if (q.length() < 3) {
+                // Too short for a trigram; a scan of the in-memory documents is still cheap
+                for (int slot = slotCount - 1; slot >= 0; slot--) {
+                    offer(slots[slot], q, best, limit);
+                }
+            } else {
+                int[] candidates = candidates(q);
+                for (int i = candidates.length - 1; i >= 0; i--) {
+                    offer(slots[candidates[i]], q, best, limit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+
+        List<Integer> ids = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            ids.add(hit.id);
+        }
+        return ids;
+    }
+
+    @Override
+    public void studentAdded(Student student) {
+        lock.writeLock().lock();
+        try {
+            touch(student.getId());
+            put(student);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void studentUpdated(Student before, Student after) {
+        lock.writeLock().lock();
+        try {
+            touch(after.getId());
+            put(after);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void studentDeleted(Student before) {
+        lock.writeLock().lock();
+        try {
+            touch(before.getId());
+            remove(before.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Intersect the postings of every trigram in the query, smallest list first
+    private int[] candidates(String q) {
+        Set<Long> keys = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            keys.add(trigram(q, i));
+        }
+
+        List<Postings> lists = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            Postings list = postings.get(key);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int resultSize = result.length;
+        for (int l = 1; l < lists.size() && resultSize > 0; l++) {
+            Postings other = lists.get(l);
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < resultSize && j < other.size) {
+                int a = result[i];
+                int b = other.ids[j];
+                if (a == b) {
+                    result[k++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            resultSize = k;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private static void offer(Doc doc, String q, PriorityQueue<Hit> best, int limit) {
+        if (doc == null) {
+            return;
+        }
+        int score = score(doc, q);
+        if (score == 0) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(new Hit(doc.id, score));
+        } else {
+            Hit weakest = best.peek();
+            if (score > weakest.score || (score == weakest.score && doc.id > weakest.id)) {
+                best.poll();
+                best.add(new Hit(doc.id, score));
+            }
+        }
+    }
+
+    // Whole-field match > prefix > start of a word > anywhere, weighted by field
+    private static int score(Doc doc, String q) {
+        int total = 0;
+        for (int f = 0; f < doc.fields.length; f++) {
+            String text = doc.fields[f];
+            if (text == null) {
+                continue;
+            }
+            int idx = text.indexOf(q);
+            if (idx < 0) {
+                continue;
+            }
+
+            int fieldScore;
+            if (text.length() == q.length()) {
+                fieldScore = 8;
+            } else if (idx == 0) {
+                fieldScore = 4;
+            } else if (startsWord(text, q, idx)) {
+                fieldScore = 2;
+            } else {
+                fieldScore = 1;
+            }
+            total += fieldScore * FIELD_WEIGHTS[f];
+        }
+        return total;
+    }
+
+    private static boolean startsWord(String text, String q, int from) {
+        for (int idx = from; idx >= 0; idx = text.indexOf(q, idx + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(idx - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(Student student) {
+        remove(student.getId());
+
+        String[] fields = new String[3];
+        fields[FIELD_CODE] = normalize(student.getStudentCode());
+        fields[FIELD_NAME] = normalize(student.getFullName());
+        fields[FIELD_EMAIL] = normalize(student.getEmail());
+
+        Integer free = freeSlots.poll();
+        int slot;
+        if (free != null) {
+            slot = free;
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots[slot] = new Doc(student.getId(), fields);
+        slotById.put(student.getId(), slot);
+
+        for (String text : fields) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                postings.computeIfAbsent(trigram(text, i), k -> new Postings()).add(slot);
+            }
+        }
+    }
+
+    private void remove(int id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Doc doc = slots[slot];
+        slots[slot] = null;
+        freeSlots.push(slot);
+
+        for (String text : doc.fields) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                Long key = trigram(text, i);
+                Postings list = postings.get(key);
+                if (list != null) {
+                    list.remove(slot);
+                    if (list.size == 0) {
+                        postings.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void touch(int id) {
+        if (touchedDuringBuild != null) {
+            touchedDuringBuild.add(id);
+        }
+    }
+
+    private static long trigram(String text, int i) {
+        return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    /**
+     * Lower-case and strip diacritics, mirroring MySQL's case and accent insensitive collation.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        boolean ascii = true;
+        for (int i = 0; i < lower.length() && ascii; i++) {
+            ascii = lower.charAt(i) < 128;
+        }
+        if (ascii) {
+            return lower;
+        }
+        // đ has no canonical decomposition, so map it by hand
+        String decomposed = Normalizer.normalize(lower.replace('đ', 'd'), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+}
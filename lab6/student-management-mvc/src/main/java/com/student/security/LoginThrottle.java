@@ -0,0 +1,174 @@
+package com.student.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failed-login throttling per username and per client IP.
+ *
+ * After a few free attempts every further failure doubles the lockout, up to a cap.
+ * Counters are forgotten once a key has been quiet for the reset window.
+ * Checks happen before any password hashing, so a locked-out caller costs one map lookup.
+ *
+ * Each kind of key lives in a size-capped LRU map: a client spraying random usernames pushes
+ * out the least recently seen keys instead of growing the map, and quiet keys are purged from
+ * that same end, so neither costs a scan of the whole map.
+ */
+public class LoginThrottle {
+
+    // Usernames get few free attempts; an IP may be a NAT shared by a whole class
+    private static final int USERNAME_FREE_ATTEMPTS = 5;
+    private static final int IP_FREE_ATTEMPTS = 20;
+
+    private static final long BASE_LOCKOUT_MILLIS = 1000;
+    private static final long MAX_LOCKOUT_MILLIS = 15 * 60 * 1000L;
+    private static final long RESET_AFTER_MILLIS = 15 * 60 * 1000L;
+
+    // Keys kept per map; beyond this the least recently seen key is dropped
+    private static final int MAX_TRACKED_KEYS = 50_000;
+
+    // Quiet keys are purged at most this often
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 1000L;
+
+    private static final class Attempts {
+        final int failures;
+        final long lastFailureAt;
+        final long blockedUntil;
+
+        Attempts(int failures, long lastFailureAt, long blockedUntil) {
+            this.failures = failures;
+            this.lastFailureAt = lastFailureAt;
+            this.blockedUntil = blockedUntil;
+        }
+
+        boolean isQuiet(long now) {
+            return now - lastFailureAt > RESET_AFTER_MILLIS && blockedUntil <= now;
+        }
+    }
+
+    // Counters for one kind of key; every call is a single short map operation under the monitor
+    private static final class AttemptTable {
+        // accessOrder = true keeps the least recently checked or failed key eldest
+        private final LinkedHashMap<String, Attempts> entries = new LinkedHashMap<String, Attempts>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Attempts> eldest) {
+                return size() > MAX_TRACKED_KEYS;
+            }
+        };
+
+        synchronized Attempts get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void fail(String key, int freeAttempts, long now) {
+            Attempts current = entries.get(key);
+            int failures = current == null || now - current.lastFailureAt > RESET_AFTER_MILLIS
+                    ? 1 : current.failures + 1;
+            long blockedUntil = 0;
+            if (failures > freeAttempts) {
+                int doublings = Math.min(failures - freeAttempts - 1, 30);
+                blockedUntil = now + Math.min(BASE_LOCKOUT_MILLIS << doublings, MAX_LOCKOUT_MILLIS);
+            }
+            entries.put(key, new Attempts(failures, now, blockedUntil));
+        }
+
+        synchronized void remove(String key) {
+            entries.remove(key);
+        }
+
+        // Walks from the eldest key and stops at the first one still in use
+        synchronized void purgeQuiet(long now) {
+            Iterator<Attempts> it = entries.values().iterator();
+            while (it.hasNext() && it.next().isQuiet(now)) {
+                it.remove();
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private final AttemptTable byUsername = new AttemptTable();
+    private final AttemptTable byIp = new AttemptTable();
+    private final AtomicLong nextPurge = new AtomicLong();
+
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong usernameRejectCount = new AtomicLong();
+    private final AtomicLong ipRejectCount = new AtomicLong();
+
+    /**
+     * @return 0 if the attempt may go ahead, otherwise milliseconds until the caller may retry
+     */
+    public long retryAfterMillis(String username, String ip) {
+        long now = System.currentTimeMillis();
+
+        long ipWait = remaining(byIp.get(ip), now);
+        if (ipWait > 0) {
+            ipRejectCount.incrementAndGet();
+            return ipWait;
+        }
+        long usernameWait = remaining(byUsername.get(normalize(username)), now);
+        if (usernameWait > 0) {
+            usernameRejectCount.incrementAndGet();
+            return usernameWait;
+        }
+        return 0;
+    }
+
+    public void recordFailure(String username, String ip) {
+        long now = System.currentTimeMillis();
+        failureCount.incrementAndGet();
+
+        byUsername.fail(normalize(username), USERNAME_FREE_ATTEMPTS, now);
+        byIp.fail(ip, IP_FREE_ATTEMPTS, now);
+
+        long due = nextPurge.get();
+        if (now >= due && nextPurge.compareAndSet(due, now + PURGE_INTERVAL_MILLIS)) {
+            byUsername.purgeQuiet(now);
+            byIp.purgeQuiet(now);
+        }
+    }
+
+    /**
+     * A correct password clears the username's counter. The IP keeps its count:
+     * one valid account must not unlock guessing at the others.
+     */
+    public void recordSuccess(String username) {
+        byUsername.remove(normalize(username));
+    }
+
+    private static long remaining(Attempts attempts, long now) {
+        if (attempts == null) {
+            return 0;
+        }
+        return Math.max(0, attempts.blockedUntil - now);
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int getTrackedUsernames() {
+        return byUsername.size();
+    }
+
+    public int getTrackedIps() {
+        return byIp.size();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getUsernameRejectCount() {
+        return usernameRejectCount.get();
+    }
+
+    public long getIpRejectCount() {
+        return ipRejectCount.get();
+    }
+}
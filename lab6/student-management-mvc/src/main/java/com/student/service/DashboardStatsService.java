@@ -0,0 +1,230 @@
+package com.student.service;
+
+import com.student.dao.StudentChangeListener;
+import com.student.dao.StudentDAO;
+import com.student.model.DashboardStats;
+import com.student.model.Student;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dashboard statistics: total, students per major, new students per week and the latest additions.
+ *
+ * Loaded with one grouped query (see {@link StudentDAO#loadDashboardStats}) and then kept current by
+ * applying each insert, update and delete from the DAO as a delta, so a dashboard view normally does no
+ * database work at all. The TTL forces a reload now and then to pick up writes made outside the app.
+ */
+public class DashboardStatsService implements StudentChangeListener {
+
+    public static final int WEEKS = 8;
+    public static final int RECENT_SHOWN = 5;
+
+    // Keep spare rows so a few deletes don't leave the "recent" list short until the next reload
+    private static final int RECENT_KEPT = RECENT_SHOWN * 2;
+
+    private final StudentDAO studentDAO;
+    private final long ttlMillis;
+
+    // Mutable state, guarded by this
+    private boolean loaded;
+    private long loadedAt;
+    private long generation;
+    private int total;
+    private final Map<String, Integer> byMajor = new HashMap<>();
+    private final TreeMap<LocalDate, Integer> byWeek = new TreeMap<>();
+    private final LinkedList<Student> recent = new LinkedList<>();
+
+    public DashboardStatsService(StudentDAO studentDAO, long ttlMillis) {
+        this.studentDAO = studentDAO;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Current statistics, reloading first if they are missing or older than the TTL.
+     */
+    public DashboardStats getStats() {
+        long loadGeneration;
+        synchronized (this) {
+            if (loaded && System.currentTimeMillis() - loadedAt < ttlMillis) {
+                return snapshot();
+            }
+            loadGeneration = generation;
+        }
+
+        DashboardStats fresh;
+        try {
+            fresh = studentDAO.loadDashboardStats(windowStart(), RECENT_KEPT);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            synchronized (this) {
+                // Stale numbers beat an empty dashboard
+                return loaded ? snapshot() : snapshotOf(0, new HashMap<>(), new TreeMap<>(), new ArrayList<>());
+            }
+        }
+
+        synchronized (this) {
+            total = fresh.getTotalStudents();
+            byMajor.clear();
+            byMajor.putAll(fresh.getStudentsByMajor());
+            byWeek.clear();
+            byWeek.putAll(fresh.getNewStudentsByWeek());
+            recent.clear();
+            recent.addAll(fresh.getRecentStudents());
+            loaded = true;
+            // A write that raced with the query may or may not be in it; reload on the next view to be sure
+            loadedAt = generation == loadGeneration ? fresh.getComputedAt() : 0;
+            return snapshot();
+        }
+    }
+
+    /**
+     * Drop the statistics so the next view reloads them.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        loaded = false;
+    }
+
+    @Override
+    public synchronized void studentAdded(Student student) {
+        generation++;
+        if (!loaded) {
+            return;
+        }
+        total++;
+        byMajor.merge(student.getMajor(), 1, Integer::sum);
+        addToWeek(student, 1);
+
+        recent.addFirst(student);
+        while (recent.size() > RECENT_KEPT) {
+            recent.removeLast();
+        }
+    }
+
+    @Override
+    public synchronized void studentUpdated(Student before, Student after) {
+        generation++;
+        if (!loaded) {
+            return;
+        }
+        if (before == null) {
+            loaded = false;
+            return;
+        }
+        if (!equalsNullable(before.getMajor(), after.getMajor())) {
+            decrement(byMajor, before.getMajor());
+            byMajor.merge(after.getMajor(), 1, Integer::sum);
+        }
+        for (int i = 0; i < recent.size(); i++) {
+            if (recent.get(i).getId() == after.getId()) {
+                recent.set(i, after);
+                break;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void studentDeleted(Student before) {
+        generation++;
+        if (!loaded) {
+            return;
+        }
+        if (before.getMajor() == null) {
+            // Row details unknown, can't apply a precise delta
+            loaded = false;
+            return;
+        }
+        total--;
+        decrement(byMajor, before.getMajor());
+        addToWeek(before, -1);
+
+        Iterator<Student> it = recent.iterator();
+        while (it.hasNext()) {
+            if (it.next().getId() == before.getId()) {
+                it.remove();
+                break;
+            }
+        }
+        if (recent.size() < RECENT_SHOWN && total > recent.size()) {
+            loadedAt = 0;
+        }
+    }
+
+    private void addToWeek(Student student, int delta) {
+        if (student.getCreatedAt() == null) {
+            return;
+        }
+        LocalDate week = weekOf(student.getCreatedAt().toLocalDateTime().toLocalDate());
+        if (!week.isBefore(windowStart())) {
+            if (delta > 0) {
+                byWeek.merge(week, delta, Integer::sum);
+            } else {
+                decrement(byWeek, week);
+            }
+        }
+    }
+
+    private DashboardStats snapshot() {
+        return snapshotOf(total, byMajor, byWeek, recent);
+    }
+
+    private static DashboardStats snapshotOf(int total, Map<String, Integer> byMajor,
+                                             TreeMap<LocalDate, Integer> byWeek, List<Student> recent) {
+        // Largest majors first
+        List<Map.Entry<String, Integer>> majors = new ArrayList<>(byMajor.entrySet());
+        majors.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
+        Map<String, Integer> majorCounts = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : majors) {
+            majorCounts.put(entry.getKey(), entry.getValue());
+        }
+
+        // Every week of the window, including empty ones, oldest first
+        Map<LocalDate, Integer> weekCounts = new LinkedHashMap<>();
+        for (LocalDate week = windowStart(); !week.isAfter(LocalDate.now()); week = week.plusWeeks(1)) {
+            weekCounts.put(week, byWeek.getOrDefault(week, 0));
+        }
+
+        List<Student> recentShown = new ArrayList<>(recent.subList(0, Math.min(RECENT_SHOWN, recent.size())));
+
+        return new DashboardStats(total, Collections.unmodifiableMap(majorCounts),
+                Collections.unmodifiableMap(weekCounts), Collections.unmodifiableList(recentShown),
+                System.currentTimeMillis());
+    }
+
+    // Monday of the oldest week shown
+    private static LocalDate windowStart() {
+        return weekOf(LocalDate.now()).minusWeeks(WEEKS - 1);
+    }
+
+    private static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        Integer count = counts.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count <= 1) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count - 1);
+        }
+    }
+
+    private static boolean equalsNullable(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,78 @@
+package com.student.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Heap-only store: logins last until the application stops and are not shared between nodes.
+ * Used when no session file is configured or the file can't be opened.
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    // Expired logins are swept from create(), but at most once per interval rather than per login
+    private static final long PURGE_INTERVAL_MILLIS = 60_000;
+
+    private final Map<String, SessionPrincipal> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurge = new AtomicLong();
+
+    @Override
+    public String create(SessionPrincipal principal) {
+        long[] token = SessionTokens.generate();
+        String text = SessionTokens.format(token[0], token[1]);
+        sessions.put(text, principal);
+        purgeExpired();
+        return text;
+    }
+
+    @Override
+    public SessionPrincipal find(String token) {
+        if (token == null) {
+            return null;
+        }
+        SessionPrincipal principal = sessions.get(token);
+        if (principal == null || principal.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return principal;
+    }
+
+    @Override
+    public void update(String token, SessionPrincipal principal) {
+        sessions.replace(token, principal);
+    }
+
+    @Override
+    public void remove(String token) {
+        sessions.remove(token);
+    }
+
+    @Override
+    public void removeUser(int userId) {
+        sessions.values().removeIf(principal -> principal.getUserId() == userId);
+    }
+
+    @Override
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public String getDescription() {
+        return "In memory (logins end on restart)";
+    }
+
+    @Override
+    public void close() {
+        sessions.clear();
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long due = nextPurge.get();
+        if (now < due || !nextPurge.compareAndSet(due, now + PURGE_INTERVAL_MILLIS)) {
+            return;
+        }
+        sessions.values().removeIf(principal -> principal.isExpired(now));
+    }
+}
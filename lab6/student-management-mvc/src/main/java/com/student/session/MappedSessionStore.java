@@ -0,0 +1,433 @@
+package com.student.session;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Session store backed by an append-only log in a memory-mapped file, with an in-memory index
+ * rebuilt from the log. Several applications (e.g. two Tomcat nodes on one machine) can open the
+ * same file: each one replays the records the others append, so a login made on one node is
+ * valid on the other without sticky sessions, and survives a restart of either.
+ *
+ * File layout: a 64-byte header (magic, format, generation, tail) followed by fixed 40-byte
+ * records. Appends happen under an OS lock on the header; readers don't lock, they check the
+ * generation before and after reading, as a seqlock. When the file is full the live sessions are
+ * rewritten from the start, which bumps the generation so that every reader rebuilds its index.
+ * Within one JVM, find() reads a concurrent index and takes the monitor only when the file has
+ * moved on since the last catch-up; writes and catch-ups are serialised on the monitor.
+ *
+ * Records reach the page cache as soon as they are written, so they survive the JVM going down;
+ * they are not forced to disk per write and may be lost if the machine itself crashes.
+ * Open each file at most once per JVM.
+ */
+public class MappedSessionStore implements SessionStore {
+
+    private static final int MAGIC = 0x53534E31; // "SSN1"
+    private static final int FORMAT = 1;
+
+    private static final int HEADER = 64;
+    private static final int OFF_MAGIC = 0;
+    private static final int OFF_FORMAT = 4;
+    private static final int OFF_GENERATION = 8;
+    private static final int OFF_TAIL = 16;
+
+    private static final int RECORD = 40;
+    private static final int REC_TYPE = 0;
+    private static final int REC_ADMIN = 1;
+    private static final int REC_USER = 4;
+    private static final int REC_TOKEN_HI = 8;
+    private static final int REC_TOKEN_LO = 16;
+    private static final int REC_EXPIRES = 24;
+    private static final int REC_VERSION = 32;
+    private static final int REC_CRC = 36;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    // Header fields shared between processes are read with acquire and written with release
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+    private final int limit;
+
+    // Replaced, never cleared, on a new generation so that find() never sees a half-built index
+    private volatile Map<Key, SessionPrincipal> index = new ConcurrentHashMap<>();
+    private final byte[] record = new byte[RECORD];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+    private final CRC32 crc = new CRC32();
+
+    // Generation the index was built from and the offset it has been read up to;
+    // written under the monitor, read without it by find()
+    private volatile long generation = -1;
+    private volatile int position = HEADER;
+    private long badRecords;
+
+    /**
+     * Open the file, creating it with room for maxRecords records if it doesn't exist.
+     * An existing file keeps the size it was created with.
+     */
+    public MappedSessionStore(Path file, int maxRecords) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.lock(0, HEADER, false);
+            try {
+                long size = channel.size();
+                long requested = HEADER + (long) maxRecords * RECORD;
+                if (size == 0) {
+                    size = requested;
+                } else if (size < HEADER + RECORD) {
+                    throw new IOException(file + " is not a session file");
+                } else if (size != requested) {
+                    System.out.println("Session file " + file + " keeps its existing size of "
+                            + (size - HEADER) / RECORD + " records");
+                }
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Session file " + file + " is too large: " + size + " bytes");
+                }
+                this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                this.limit = HEADER + (int) ((size - HEADER) / RECORD) * RECORD;
+
+                int magic = map.getInt(OFF_MAGIC);
+                if (magic == 0) {
+                    map.putInt(OFF_FORMAT, FORMAT);
+                    map.putLong(OFF_GENERATION, 0L);
+                    LONGS.setRelease(map, OFF_TAIL, (long) HEADER);
+                    map.putInt(OFF_MAGIC, MAGIC);
+                } else if (magic != MAGIC || map.getInt(OFF_FORMAT) != FORMAT) {
+                    throw new IOException(file + " is not a session file of format " + FORMAT);
+                }
+                catchUpLocked();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized String create(SessionPrincipal principal) throws IOException {
+        long[] token = SessionTokens.generate();
+        append(PUT, new Key(token[0], token[1]), principal);
+        return SessionTokens.format(token[0], token[1]);
+    }
+
+    @Override
+    public SessionPrincipal find(String token) {
+        long[] parsed = SessionTokens.parse(token);
+        if (parsed == null) {
+            return null;
+        }
+        if (!isCurrent()) {
+            synchronized (this) {
+                catchUp();
+            }
+        }
+        SessionPrincipal principal = index.get(new Key(parsed[0], parsed[1]));
+        if (principal == null || principal.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return principal;
+    }
+
+    @Override
+    public synchronized void update(String token, SessionPrincipal principal) throws IOException {
+        long[] parsed = SessionTokens.parse(token);
+        if (parsed != null) {
+            Key key = new Key(parsed[0], parsed[1]);
+            FileLock lock = channel.lock(0, HEADER, false);
+            try {
+                catchUpLocked();
+                // Don't bring back a session another node has just removed
+                if (index.containsKey(key)) {
+                    appendLocked(PUT, key, principal);
+                    publishTail();
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void remove(String token) throws IOException {
+        long[] parsed = SessionTokens.parse(token);
+        if (parsed != null) {
+            append(REMOVE, new Key(parsed[0], parsed[1]), null);
+        }
+    }
+
+    @Override
+    public synchronized void removeUser(int userId) throws IOException {
+        FileLock lock = channel.lock(0, HEADER, false);
+        try {
+            catchUpLocked();
+            List<Key> keys = new ArrayList<>();
+            for (Map.Entry<Key, SessionPrincipal> entry : index.entrySet()) {
+                if (entry.getValue().getUserId() == userId) {
+                    keys.add(entry.getKey());
+                }
+            }
+            for (Key key : keys) {
+                appendLocked(REMOVE, key, null);
+            }
+            publishTail();
+        } finally {
+            lock.release();
+        }
+    }
+
+    @Override
+    public synchronized int getSessionCount() {
+        catchUp();
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (SessionPrincipal principal : index.values()) {
+            if (!principal.isExpired(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized String getDescription() {
+        catchUp();
+        String description = "Memory-mapped file " + file + " (" + (position - HEADER) / RECORD
+                + " of " + (limit - HEADER) / RECORD + " records used)";
+        if (badRecords > 0) {
+            description += ", " + badRecords + " damaged records skipped";
+        }
+        return description;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            map.force();
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("Error closing session file " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void append(byte type, Key key, SessionPrincipal principal) throws IOException {
+        FileLock lock = channel.lock(0, HEADER, false);
+        try {
+            catchUpLocked();
+            appendLocked(type, key, principal);
+            publishTail();
+        } finally {
+            lock.release();
+        }
+    }
+
+    // True when nothing has been appended or compacted since the index was last brought up to date
+    private boolean isCurrent() {
+        return (long) LONGS.getAcquire(map, OFF_GENERATION) == generation
+                && (long) LONGS.getAcquire(map, OFF_TAIL) == position;
+    }
+
+    /**
+     * Read the records other processes have appended since the last call, without the file lock.
+     * Falls back to the file lock while a compaction is running or if one ran during the read.
+     * Caller holds the monitor.
+     */
+    private void catchUp() {
+        long gen = (long) LONGS.getAcquire(map, OFF_GENERATION);
+        if ((gen & 1) == 0 && replay(gen, (long) LONGS.getAcquire(map, OFF_TAIL), true)) {
+            return;
+        }
+        try {
+            FileLock lock = channel.lock(0, HEADER, false);
+            try {
+                catchUpLocked();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            System.out.println("Error locking session file " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Caller holds the file lock
+    private void catchUpLocked() {
+        long gen = map.getLong(OFF_GENERATION);
+        if ((gen & 1) != 0) {
+            // The process compacting the file died; what it rewrote are live sessions and the
+            // rest of the old log replays in order after them
+            System.out.println("Recovering session file " + file + " after an interrupted compaction");
+            gen++;
+            LONGS.setRelease(map, OFF_GENERATION, gen);
+        }
+        replay(gen, map.getLong(OFF_TAIL), false);
+    }
+
+    /**
+     * Apply the records between the current position and tail. A new generation is replayed from
+     * the start into a fresh map, which find() keeps ignoring until it is complete. Without the
+     * file lock the read only counts if no compaction started while it ran.
+     */
+    private boolean replay(long gen, long tail, boolean unlocked) {
+        boolean fresh = gen != generation;
+        Map<Key, SessionPrincipal> target = fresh ? new ConcurrentHashMap<>() : index;
+        int end = readRecords(target, fresh ? HEADER : position, tail);
+        if (unlocked && (long) LONGS.getAcquire(map, OFF_GENERATION) != gen) {
+            return false;
+        }
+        // Index first: a find() that sees the new generation and position also sees their index
+        index = target;
+        position = end;
+        generation = gen;
+        return true;
+    }
+
+    private int readRecords(Map<Key, SessionPrincipal> target, int from, long tail) {
+        int end = (int) Math.min(tail, limit);
+        int offset = from;
+        while (offset + RECORD <= end) {
+            map.get(offset, record);
+            offset += RECORD;
+            crc.reset();
+            crc.update(record, 0, REC_CRC);
+            if ((int) crc.getValue() != recordBuffer.getInt(REC_CRC)) {
+                badRecords++;
+                continue;
+            }
+            Key key = new Key(recordBuffer.getLong(REC_TOKEN_HI), recordBuffer.getLong(REC_TOKEN_LO));
+            SessionPrincipal principal = null;
+            if (record[REC_TYPE] == PUT) {
+                principal = new SessionPrincipal(recordBuffer.getInt(REC_USER), record[REC_ADMIN] != 0,
+                        recordBuffer.getInt(REC_VERSION), recordBuffer.getLong(REC_EXPIRES));
+            }
+            apply(target, record[REC_TYPE], key, principal);
+        }
+        return offset;
+    }
+
+    private static void apply(Map<Key, SessionPrincipal> target, byte type, Key key, SessionPrincipal principal) {
+        if (type == PUT) {
+            target.put(key, principal);
+        } else if (type == REMOVE) {
+            target.remove(key);
+        }
+    }
+
+    // Caller holds the file lock and has caught up; the tail is published by publishTail()
+    private void appendLocked(byte type, Key key, SessionPrincipal principal) throws IOException {
+        if (type == REMOVE && !index.containsKey(key)) {
+            return;
+        }
+        if (position + RECORD > limit) {
+            if (type == REMOVE) {
+                // Leaving the session out of the compacted log removes it; logouts never fail
+                index.remove(key);
+                compactLocked();
+                return;
+            }
+            compactLocked();
+            if (position + RECORD > limit) {
+                throw new IOException("Session file " + file + " is full with "
+                        + index.size() + " live sessions");
+            }
+        }
+        writeRecord(position, type, key, principal);
+        position += RECORD;
+        apply(index, type, key, principal);
+    }
+
+    private void publishTail() {
+        LONGS.setRelease(map, OFF_TAIL, (long) position);
+    }
+
+    /**
+     * Rewrite the live sessions from the start of the file. The generation is odd while this
+     * runs, so readers in other processes wait for the lock instead of reading half-written records.
+     */
+    private void compactLocked() {
+        long start = System.currentTimeMillis();
+        int before = (position - HEADER) / RECORD;
+        LONGS.setRelease(map, OFF_GENERATION, generation + 1);
+        VarHandle.fullFence();
+
+        int offset = HEADER;
+        Iterator<Map.Entry<Key, SessionPrincipal>> it = index.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, SessionPrincipal> entry = it.next();
+            if (entry.getValue().isExpired(start)) {
+                it.remove();
+            } else {
+                writeRecord(offset, PUT, entry.getKey(), entry.getValue());
+                offset += RECORD;
+            }
+        }
+        position = offset;
+        generation += 2;
+        publishTail();
+        LONGS.setRelease(map, OFF_GENERATION, generation);
+
+        System.out.println("Compacted session file " + file + ": " + before + " -> "
+                + (position - HEADER) / RECORD + " records in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private void writeRecord(int offset, byte type, Key key, SessionPrincipal principal) {
+        recordBuffer.clear();
+        recordBuffer.put(REC_TYPE, type);
+        recordBuffer.put(REC_ADMIN, (byte) (principal != null && principal.isAdmin() ? 1 : 0));
+        recordBuffer.putShort(REC_ADMIN + 1, (short) 0);
+        recordBuffer.putInt(REC_USER, principal != null ? principal.getUserId() : 0);
+        recordBuffer.putLong(REC_TOKEN_HI, key.hi);
+        recordBuffer.putLong(REC_TOKEN_LO, key.lo);
+        recordBuffer.putLong(REC_EXPIRES, principal != null ? principal.getExpiresAt() : 0L);
+        recordBuffer.putInt(REC_VERSION, principal != null ? principal.getVersion() : 0);
+        crc.reset();
+        crc.update(record, 0, REC_CRC);
+        recordBuffer.putInt(REC_CRC, (int) crc.getValue());
+        map.put(offset, record);
+    }
+
+    private static final class Key {
+        private final long hi;
+        private final long lo;
+
+        Key(long hi, long lo) {
+            this.hi = hi;
+            this.lo = lo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hi == other.hi && lo == other.lo;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hi ^ lo);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.student.session;
+
+import com.student.dao.UserDAO;
+import com.student.model.User;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+
+/**
+ * Logs users in and out through a SessionStore.
+ * The browser holds a random token in a cookie; the store maps it to a SessionPrincipal.
+ * The HttpSession is kept as a per-node cache of the user (without its password hash) and of
+ * the attributes the views read, and is rebuilt from the store when a request arrives at a node
+ * that has never seen it or has been restarted since.
+ */
+public class SessionManager {
+
+    public static final String COOKIE_NAME = "STUDENT_SID";
+
+    private final SessionStore store;
+    private final UserDAO userDAO;
+    private final long ttlMillis;
+
+    public SessionManager(SessionStore store, UserDAO userDAO, long ttlMillis) {
+        this.store = store;
+        this.userDAO = userDAO;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public SessionStore getStore() {
+        return store;
+    }
+
+    /**
+     * Start a fresh session for a user who just authenticated
+     */
+    public void login(HttpServletRequest request, HttpServletResponse response, User user) {
+        // Invalidate old session (prevent session fixation)
+        HttpSession oldSession = request.getSession(false);
+        if (oldSession != null) {
+            oldSession.invalidate();
+        }
+        removeToken(readToken(request));
+
+        cacheInSession(request, user);
+        issueToken(request, response, user);
+    }
+
+    /**
+     * @return the logged-in user, or null. Restores the HttpSession from the store when needed.
+     */
+    public User currentUser(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        User cached = session != null ? (User) session.getAttribute("user") : null;
+
+        String token = readToken(request);
+        if (token == null) {
+            // Logged in while the store was unavailable
+            return cached;
+        }
+
+        SessionPrincipal principal = store.find(token);
+        if (principal == null) {
+            // Removed on another node, expired, or a token this store never issued
+            clearCookie(request, response);
+            if (session != null) {
+                session.invalidate();
+            }
+            return null;
+        }
+
+        if (cached == null || cached.getId() != principal.getUserId()) {
+            User user = userDAO.getUserById(principal.getUserId());
+            if (user == null) {
+                // Unknown user or database error; leave the token for the next request
+                return null;
+            }
+            if (!user.isActive() || user.isAdmin() != principal.isAdmin()
+                    || SessionPrincipal.versionOf(user) != principal.getVersion()) {
+                // Deactivated, role changed or password changed since this login
+                removeToken(token);
+                clearCookie(request, response);
+                return null;
+            }
+            cached = cacheInSession(request, user);
+        }
+
+        // Sliding expiry, written back only once half of it has been used
+        long now = System.currentTimeMillis();
+        if (principal.getExpiresAt() - now < ttlMillis / 2) {
+            try {
+                store.update(token, principal.withExpiry(now + ttlMillis));
+            } catch (IOException e) {
+                System.out.println("Could not extend session: " + e.getMessage());
+            }
+        }
+        return cached;
+    }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        removeToken(readToken(request));
+        clearCookie(request, response);
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    /**
+     * End every other login of the user after a password change and give this browser a new token.
+     * @param user the user as now stored in the database, including the new password hash
+     */
+    public void renew(HttpServletRequest request, HttpServletResponse response, User user) {
+        try {
+            store.removeUser(user.getId());
+        } catch (IOException e) {
+            System.out.println("Could not remove old sessions of user " + user.getId() + ": " + e.getMessage());
+        }
+        cacheInSession(request, user);
+        issueToken(request, response, user);
+    }
+
+    private void issueToken(HttpServletRequest request, HttpServletResponse response, User user) {
+        String token;
+        try {
+            token = store.create(SessionPrincipal.of(user, System.currentTimeMillis() + ttlMillis));
+        } catch (IOException e) {
+            // The HttpSession alone still works, on this node until it restarts
+            System.out.println("Could not persist session of user " + user.getId() + ": " + e.getMessage());
+            return;
+        }
+        response.addCookie(newCookie(request, token, -1));
+    }
+
+    private User cacheInSession(HttpServletRequest request, User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setFullName(user.getFullName());
+        copy.setRole(user.getRole());
+        copy.setActive(user.isActive());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setLastLogin(user.getLastLogin());
+
+        HttpSession session = request.getSession(true);
+        session.setAttribute("user", copy);
+        session.setAttribute("role", copy.getRole());
+        session.setAttribute("fullName", copy.getFullName());
+        session.setMaxInactiveInterval((int) (ttlMillis / 1000));
+        return copy;
+    }
+
+    private void removeToken(String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            store.remove(token);
+        } catch (IOException e) {
+            System.out.println("Could not remove session: " + e.getMessage());
+        }
+    }
+
+    private String readToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void clearCookie(HttpServletRequest request, HttpServletResponse response) {
+        response.addCookie(newCookie(request, "", 0));
+    }
+
+    private Cookie newCookie(HttpServletRequest request, String value, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_NAME, value);
+        String path = request.getContextPath();
+        cookie.setPath(path.isEmpty() ? "/" : path);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setAttribute("SameSite", "Lax");
+        cookie.setMaxAge(maxAge);
+        return cookie;
+    }
+}
@@ -0,0 +1,47 @@
+package com.student.session;
+
+import com.student.model.User;
+
+/**
+ * What a persisted login remembers about its user: id, role and credential version, plus when
+ * it expires. Everything else (name, username) is reloaded from the database when needed.
+ */
+public final class SessionPrincipal {
+
+    private final int userId;
+    private final boolean admin;
+    private final int version;
+    private final long expiresAt;
+
+    public SessionPrincipal(int userId, boolean admin, int version, long expiresAt) {
+        this.userId = userId;
+        this.admin = admin;
+        this.version = version;
+        this.expiresAt = expiresAt;
+    }
+
+    public static SessionPrincipal of(User user, long expiresAt) {
+        return new SessionPrincipal(user.getId(), user.isAdmin(), versionOf(user), expiresAt);
+    }
+
+    /**
+     * Credential version of a user as loaded from the database: a fingerprint of the password
+     * hash, so it changes whenever the password does and logins made with the old one stop working.
+     */
+    public static int versionOf(User user) {
+        return user.getPassword() == null ? 0 : user.getPassword().hashCode();
+    }
+
+    public int getUserId() { return userId; }
+    public boolean isAdmin() { return admin; }
+    public int getVersion() { return version; }
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    SessionPrincipal withExpiry(long expiresAt) {
+        return new SessionPrincipal(userId, admin, version, expiresAt);
+    }
+}
@@ -0,0 +1,42 @@
+package com.student.session;
+
+import java.io.IOException;
+
+/**
+ * Where logins are kept between requests, keyed by an opaque token sent as a cookie.
+ * Implementations must be thread safe.
+ */
+public interface SessionStore extends AutoCloseable {
+
+    /**
+     * @return a new random token now mapped to the principal
+     */
+    String create(SessionPrincipal principal) throws IOException;
+
+    /**
+     * @return the principal of a live token, or null if it is unknown, removed or expired
+     */
+    SessionPrincipal find(String token);
+
+    /**
+     * Replace the principal of an existing token, e.g. to push its expiry back.
+     */
+    void update(String token, SessionPrincipal principal) throws IOException;
+
+    void remove(String token) throws IOException;
+
+    /**
+     * Remove every token of the user, e.g. after a password change.
+     */
+    void removeUser(int userId) throws IOException;
+
+    int getSessionCount();
+
+    /**
+     * @return one line describing the store, for the admin stats page
+     */
+    String getDescription();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,39 @@
+package com.student.session;
+
+import java.security.SecureRandom;
+
+/**
+ * 128-bit random session tokens, written as 32 lowercase hex digits.
+ */
+final class SessionTokens {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private SessionTokens() {
+    }
+
+    static long[] generate() {
+        return new long[]{RANDOM.nextLong(), RANDOM.nextLong()};
+    }
+
+    static String format(long hi, long lo) {
+        return String.format("%016x%016x", hi, lo);
+    }
+
+    /**
+     * @return {hi, lo}, or null if the text is not a well-formed token
+     */
+    static long[] parse(String token) {
+        if (token == null || token.length() != 32) {
+            return null;
+        }
+        for (int i = 0; i < 32; i++) {
+            char c = token.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return null;
+            }
+        }
+        return new long[]{Long.parseUnsignedLong(token.substring(0, 16), 16),
+                Long.parseUnsignedLong(token.substring(16), 16)};
+    }
+}
@@ -0,0 +1,179 @@
+package com.student.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Push-style RFC 4180 CSV parser.
+ *
+ * Bytes are fed as they arrive (any chunk boundaries, including in the middle of a UTF-8
+ * sequence or a quoted field) and every completed record is handed to the {@link RowHandler}
+ * straight away, so the whole file is never held in memory.
+ */
+public class CsvRowParser {
+
+    public interface RowHandler {
+        /**
+         * @param lineNumber physical line on which the record starts, 1-based
+         * @param fields     the record's fields, unquoted
+         */
+        void row(int lineNumber, String[] fields);
+    }
+
+    private final RowHandler handler;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer pending = ByteBuffer.allocate(0);
+    private final CharBuffer chars = CharBuffer.allocate(8192);
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private boolean inQuotes;
+    private boolean quoteInQuotes;
+    private boolean afterCarriageReturn;
+    private boolean recordStarted;
+    private boolean firstChar = true;
+    private int line = 1;
+    private int recordLine = 1;
+
+    public CsvRowParser(RowHandler handler) {
+        this.handler = handler;
+    }
+
+    public void feed(byte[] bytes, int offset, int length) {
+        ByteBuffer input;
+        if (pending.hasRemaining()) {
+            input = ByteBuffer.allocate(pending.remaining() + length);
+            input.put(pending).put(bytes, offset, length).flip();
+        } else {
+            input = ByteBuffer.wrap(bytes, offset, length);
+        }
+
+        while (true) {
+            chars.clear();
+            decoder.decode(input, chars, false);
+            chars.flip();
+            consume(chars);
+            if (!input.hasRemaining() || chars.limit() == 0) {
+                break;
+            }
+        }
+
+        // Keep an incomplete multi-byte sequence for the next chunk
+        pending = ByteBuffer.allocate(input.remaining());
+        pending.put(input).flip();
+    }
+
+    /**
+     * Flush the last record if the input did not end with a newline.
+     */
+    public void finish() {
+        chars.clear();
+        decoder.decode(pending, chars, true);
+        decoder.flush(chars);
+        chars.flip();
+        consume(chars);
+        pending = ByteBuffer.allocate(0);
+
+        if (recordStarted || field.length() > 0 || !fields.isEmpty()) {
+            endRecord();
+        }
+    }
+
+    private void consume(CharBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            char c = buffer.get();
+
+            // Excel writes a UTF-8 byte order mark at the start of the file
+            if (firstChar) {
+                firstChar = false;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+
+            if (afterCarriageReturn) {
+                afterCarriageReturn = false;
+                if (c == '\n') {
+                    // Second half of a CRLF; inside quotes it is part of the value
+                    if (inQuotes && !quoteInQuotes) {
+                        field.append(c);
+                    }
+                    continue;
+                }
+            }
+
+            if (inQuotes) {
+                if (quoteInQuotes) {
+                    quoteInQuotes = false;
+                    if (c == '"') {
+                        field.append('"');
+                        continue;
+                    }
+                    inQuotes = false;
+                    // fall through and treat c as an unquoted character
+                } else if (c == '"') {
+                    quoteInQuotes = true;
+                    continue;
+                } else {
+                    if (c == '\n' || c == '\r') {
+                        line++;
+                        afterCarriageReturn = c == '\r';
+                    }
+                    field.append(c);
+                    continue;
+                }
+            }
+
+            switch (c) {
+                case '"':
+                    if (field.length() == 0) {
+                        inQuotes = true;
+                        recordStarted = true;
+                    } else {
+                        field.append(c);
+                    }
+                    break;
+                case ',':
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    recordStarted = true;
+                    break;
+                case '\r':
+                case '\n':
+                    afterCarriageReturn = c == '\r';
+                    endRecord();
+                    line++;
+                    recordLine = line;
+                    break;
+                default:
+                    field.append(c);
+                    recordStarted = true;
+                    break;
+            }
+        }
+    }
+
+    private void endRecord() {
+        if (quoteInQuotes) {
+            quoteInQuotes = false;
+            inQuotes = false;
+        }
+        fields.add(field.toString());
+        field.setLength(0);
+
+        // Blank lines are not records
+        boolean blank = fields.size() == 1 && fields.get(0).isEmpty() && !recordStarted;
+        if (!blank) {
+            handler.row(recordLine, fields.toArray(new String[0]));
+        }
+        fields.clear();
+        recordStarted = false;
+    }
+}
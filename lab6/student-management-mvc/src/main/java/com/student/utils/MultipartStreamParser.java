@@ -0,0 +1,210 @@
+package com.student.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Push-style multipart/form-data parser.
+ *
+ * Body bytes are fed in whatever chunks the container delivers them and part content is
+ * passed straight through to the {@link PartHandler}; only a boundary-sized tail is ever
+ * buffered, so uploads of any size are parsed in constant memory.
+ */
+public class MultipartStreamParser {
+
+    public interface PartHandler {
+        /**
+         * @param name     form field name
+         * @param filename uploaded file name, or null for a plain form field
+         */
+        void partStarted(String name, String filename);
+
+        void partData(byte[] data, int offset, int length);
+
+        void partEnded();
+    }
+
+    private enum State { PREAMBLE, AFTER_DELIMITER, HEADERS, BODY, EPILOGUE }
+
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+
+    private final PartHandler handler;
+    private final byte[] delimiter;
+    private byte[] buffer = new byte[16 * 1024];
+    private int length;
+    private State state = State.PREAMBLE;
+
+    public MultipartStreamParser(String boundary, PartHandler handler) {
+        this.handler = handler;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+
+        // The first delimiter is not preceded by CRLF; pretend it is so every delimiter looks the same
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        length = 2;
+    }
+
+    /**
+     * Extract the boundary parameter from a multipart Content-Type header.
+     *
+     * @return the boundary, or null if the content type is not multipart
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return null;
+        }
+        for (String param : contentType.split(";")) {
+            String p = param.trim();
+            if (p.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                String value = p.substring("boundary=".length());
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public boolean isComplete() {
+        return state == State.EPILOGUE;
+    }
+
+    public void feed(byte[] data, int offset, int count) {
+        if (state == State.EPILOGUE) {
+            return;
+        }
+        if (length + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+        }
+        System.arraycopy(data, offset, buffer, length, count);
+        length += count;
+        process();
+    }
+
+    private void process() {
+        int pos = 0;
+        boolean progress = true;
+
+        while (progress && state != State.EPILOGUE) {
+            progress = false;
+            switch (state) {
+                case PREAMBLE: {
+                    int idx = indexOf(buffer, pos, length, delimiter);
+                    if (idx >= 0) {
+                        pos = idx + delimiter.length;
+                        state = State.AFTER_DELIMITER;
+                        progress = true;
+                    } else {
+                        pos = Math.max(pos, length - delimiter.length + 1);
+                    }
+                    break;
+                }
+                case AFTER_DELIMITER: {
+                    if (length - pos >= 2) {
+                        if (buffer[pos] == '-' && buffer[pos + 1] == '-') {
+                            state = State.EPILOGUE;
+                        } else {
+                            // Skip transport padding up to the CRLF that ends the delimiter line
+                            int eol = indexOf(buffer, pos, length, new byte[]{'\r', '\n'});
+                            if (eol < 0) {
+                                break;
+                            }
+                            pos = eol + 2;
+                            state = State.HEADERS;
+                        }
+                        progress = true;
+                    }
+                    break;
+                }
+                case HEADERS: {
+                    int idx = indexOf(buffer, pos, length, HEADER_END);
+                    if (idx >= 0) {
+                        startPart(new String(buffer, pos, idx - pos, StandardCharsets.UTF_8));
+                        pos = idx + HEADER_END.length;
+                        state = State.BODY;
+                        progress = true;
+                    } else if (length - pos > MAX_HEADER_BYTES) {
+                        throw new IllegalStateException("Multipart part headers are too large");
+                    }
+                    break;
+                }
+                case BODY: {
+                    int idx = indexOf(buffer, pos, length, delimiter);
+                    if (idx >= 0) {
+                        if (idx > pos) {
+                            handler.partData(buffer, pos, idx - pos);
+                        }
+                        handler.partEnded();
+                        pos = idx + delimiter.length;
+                        state = State.AFTER_DELIMITER;
+                        progress = true;
+                    } else {
+                        // Everything except a possible partial delimiter at the end is content
+                        int safe = length - delimiter.length + 1;
+                        if (safe > pos) {
+                            handler.partData(buffer, pos, safe - pos);
+                            pos = safe;
+                        }
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+
+        // Drop consumed bytes, keep the unprocessed tail at the front of the buffer
+        if (state == State.EPILOGUE) {
+            length = 0;
+        } else if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, length - pos);
+            length -= pos;
+        }
+    }
+
+    private void startPart(String headers) {
+        String name = null;
+        String filename = null;
+        for (String header : headers.split("\r\n")) {
+            int colon = header.indexOf(':');
+            if (colon < 0 || !header.substring(0, colon).trim().equalsIgnoreCase("Content-Disposition")) {
+                continue;
+            }
+            for (String param : header.substring(colon + 1).split(";")) {
+                String p = param.trim();
+                int eq = p.indexOf('=');
+                if (eq < 0) {
+                    continue;
+                }
+                String key = p.substring(0, eq).trim().toLowerCase(Locale.ROOT);
+                String value = p.substring(eq + 1).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                if (key.equals("name")) {
+                    name = value;
+                } else if (key.equals("filename")) {
+                    filename = value;
+                }
+            }
+        }
+        handler.partStarted(name, filename);
+    }
+
+    private static int indexOf(byte[] haystack, int from, int to, byte[] needle) {
+        int last = to - needle.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
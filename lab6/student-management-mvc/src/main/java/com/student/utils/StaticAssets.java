@@ -0,0 +1,174 @@
+package com.student.utils;
+
+import jakarta.servlet.ServletContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The files under /assets/, loaded once at startup and served from memory.
+ *
+ * Every asset gets a fingerprinted URL with a hash of its content in the file name
+ * (css/login.css becomes /assets/css/login.3f2a9c1b7e.css). Pages link to that URL, so it
+ * can be cached forever: a changed file gets a new URL on the next deploy.
+ * Text assets also keep a gzipped copy, compressed once instead of on every request.
+ */
+public class StaticAssets {
+
+    public static final String PREFIX = "/assets/";
+
+    private static final int HASH_LENGTH = 10;
+
+    /**
+     * One loaded file.
+     */
+    public static final class Asset {
+        private final String contentType;
+        private final byte[] content;
+        private final byte[] gzipped;
+        private final String etag;
+        private final boolean fingerprinted;
+
+        private Asset(String contentType, byte[] content, byte[] gzipped, String etag, boolean fingerprinted) {
+            this.contentType = contentType;
+            this.content = content;
+            this.gzipped = gzipped;
+            this.etag = etag;
+            this.fingerprinted = fingerprinted;
+        }
+
+        private Asset withFingerprint() {
+            return new Asset(contentType, content, gzipped, etag, true);
+        }
+
+        public String getContentType() { return contentType; }
+        public byte[] getContent() { return content; }
+        public String getEtag() { return etag; }
+
+        /**
+         * @return the gzipped content, or null if compressing doesn't pay off for this file
+         */
+        public byte[] getGzipped() { return gzipped; }
+
+        /**
+         * @return true if requested by its fingerprinted URL, which never changes content
+         */
+        public boolean isFingerprinted() { return fingerprinted; }
+    }
+
+    // Path below PREFIX (plain and fingerprinted) -> asset
+    private final Map<String, Asset> assets;
+
+    // Path below PREFIX -> fingerprinted URL, relative to the context path
+    private final Map<String, String> urls;
+
+    private StaticAssets(Map<String, Asset> assets, Map<String, String> urls) {
+        this.assets = assets;
+        this.urls = urls;
+    }
+
+    public static StaticAssets load(ServletContext context) {
+        Map<String, Asset> assets = new HashMap<>();
+        Map<String, String> urls = new TreeMap<>();
+        loadDirectory(context, PREFIX, assets, urls);
+        return new StaticAssets(Collections.unmodifiableMap(assets), Collections.unmodifiableMap(urls));
+    }
+
+    private static void loadDirectory(ServletContext context, String directory,
+                                      Map<String, Asset> assets, Map<String, String> urls) {
+        Set<String> paths = context.getResourcePaths(directory);
+        if (paths == null) {
+            return;
+        }
+        for (String resourcePath : paths) {
+            if (resourcePath.endsWith("/")) {
+                loadDirectory(context, resourcePath, assets, urls);
+                continue;
+            }
+            try (InputStream in = context.getResourceAsStream(resourcePath)) {
+                if (in == null) {
+                    continue;
+                }
+                byte[] content = in.readAllBytes();
+                String hash = hash(content);
+
+                String contentType = context.getMimeType(resourcePath);
+                if (contentType == null) {
+                    contentType = "application/octet-stream";
+                }
+                boolean text = contentType.startsWith("text/") || contentType.endsWith("javascript")
+                        || contentType.endsWith("json") || contentType.endsWith("svg+xml");
+                if (text) {
+                    contentType += ";charset=UTF-8";
+                }
+                Asset asset = new Asset(contentType, content, text ? gzip(content) : null,
+                        '"' + hash + '"', false);
+
+                String path = resourcePath.substring(PREFIX.length());
+                String fingerprintedPath = fingerprint(path, hash);
+                assets.put(path, asset);
+                assets.put(fingerprintedPath, asset.withFingerprint());
+                urls.put(path, PREFIX + fingerprintedPath);
+            } catch (IOException e) {
+                System.out.println("Could not load asset " + resourcePath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @param path the request path below PREFIX, plain or fingerprinted
+     * @return the asset, or null if there is none at that path
+     */
+    public Asset find(String path) {
+        return assets.get(path);
+    }
+
+    /**
+     * Fingerprinted URL of every asset by its plain path, for pages:
+     * ${pageContext.request.contextPath}${assets.urls['css/login.css']}
+     */
+    public Map<String, String> getUrls() {
+        return urls;
+    }
+
+    // css/login.css -> css/login.<hash>.css
+    private static String fingerprint(String path, String hash) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot <= slash) {
+            return path + '.' + hash;
+        }
+        return path.substring(0, dot) + '.' + hash + path.substring(dot);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; hex.length() < HASH_LENGTH; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        byte[] gzipped = out.toByteArray();
+        return gzipped.length < content.length ? gzipped : null;
+    }
+}
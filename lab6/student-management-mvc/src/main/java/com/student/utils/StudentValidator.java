@@ -0,0 +1,60 @@
+package com.student.utils;
+
+import com.student.model.Student;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Validation rules for a student record, shared by the student form and the CSV import.
+ */
+public final class StudentValidator {
+
+    // Keys match the request attributes student-form.jsp displays next to each field
+    public static final String ERROR_CODE = "errorCode";
+    public static final String ERROR_NAME = "errorName";
+    public static final String ERROR_EMAIL = "errorEmail";
+    public static final String ERROR_MAJOR = "errorMajor";
+
+    private static final Pattern CODE_PATTERN = Pattern.compile("[A-Z]{2}[0-9]{3,}");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private StudentValidator() {
+    }
+
+    /**
+     * @return error messages keyed by field, empty if the student is valid
+     */
+    public static Map<String, String> validate(Student student) {
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        String code = student.getStudentCode();
+        if (code == null || code.trim().isEmpty()) {
+            errors.put(ERROR_CODE, "Student code is required");
+        } else if (!CODE_PATTERN.matcher(code).matches()) {
+            errors.put(ERROR_CODE, "Invalid format. Use 2 letters + 3+ digits (e.g., SV001)");
+        }
+
+        String name = student.getFullName();
+        if (name == null || name.trim().isEmpty()) {
+            errors.put(ERROR_NAME, "Full name is required");
+        } else if (name.trim().length() < 2) {
+            errors.put(ERROR_NAME, "Name must be at least 2 characters");
+        }
+
+        String email = student.getEmail();
+        if (email != null && !email.trim().isEmpty()) {
+            if (!EMAIL_PATTERN.matcher(email).matches()) {
+                errors.put(ERROR_EMAIL, "Invalid email format");
+            }
+        }
+
+        String major = student.getMajor();
+        if (major == null || major.trim().isEmpty()) {
+            errors.put(ERROR_MAJOR, "Major is required");
+        }
+
+        return errors;
+    }
+}
@@ -0,0 +1,133 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="jakarta.tags.core" prefix="c" %>
+<%@ taglib uri="jakarta.tags.fmt" prefix="fmt" %>
+<%@ taglib uri="jakarta.tags.functions" prefix="fn" %>
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8">
+    <meta http-equiv="refresh" content="10">
+    <title>Runtime Statistics</title>
+    <link rel="stylesheet" href="${pageContext.request.contextPath}${assets.urls['css/admin-stats.css']}">
+</head>
+<body>
+<div class="navbar">
+    <h2>📊 Runtime Statistics</h2>
+    <a href="${pageContext.request.contextPath}/dashboard" class="btn-nav">Dashboard</a>
+</div>
+
+<div class="container">
+    <div class="card">
+        <h2>Connection Pool</h2>
+        <table>
+            <tr><th>Active connections</th><td>${poolStats.active}</td></tr>
+            <tr><th>Idle connections</th><td>${poolStats.idle}</td></tr>
+            <tr><th>Max connections</th><td>${poolStats.maxTotal}</td></tr>
+            <tr><th>Threads waiting</th><td>${poolStats.waiting}</td></tr>
+            <tr><th>Borrows</th><td>${poolStats.borrowCount}</td></tr>
+            <tr><th>Average wait (ms)</th><td><fmt:formatNumber value="${poolStats.averageWaitMillis}" maxFractionDigits="3"/></td></tr>
+            <tr><th>Max wait (ms)</th><td><fmt:formatNumber value="${poolStats.maxWaitMillis}" maxFractionDigits="3"/></td></tr>
+            <tr><th>Borrow timeouts</th><td>${poolStats.timeoutCount}</td></tr>
+            <tr><th>Suspected leaks</th><td>${poolStats.leakCount}</td></tr>
+            <tr><th>Connections created / retired</th><td>${poolStats.createdCount} / ${poolStats.retiredCount}</td></tr>
+            <tr><th>Idle range</th><td>${poolConfig.minIdle} &ndash; ${poolConfig.maxIdle}</td></tr>
+            <tr><th>Max lifetime (ms)</th><td>${poolConfig.maxLifetimeMillis}</td></tr>
+        </table>
+    </div>
+
+    <div class="card">
+        <h2>Search Index</h2>
+        <table>
+            <tr><th>Status</th><td>${searchIndex.ready ? 'Ready' : 'Building (searches use LIKE)'}</td></tr>
+            <tr><th>Indexed students</th><td>${searchIndex.documentCount}</td></tr>
+            <tr><th>Distinct trigrams</th><td>${searchIndex.termCount}</td></tr>
+        </table>
+    </div>
+
+    <div class="card">
+        <h2>Last Login Writer</h2>
+        <table>
+            <tr><th>Pending users</th><td>${lastLoginWriter.pendingCount}</td></tr>
+            <tr><th>Logins recorded</th><td>${lastLoginWriter.recordedCount}</td></tr>
+            <tr><th>Rows written</th><td>${lastLoginWriter.writtenCount}</td></tr>
+            <tr><th>Flushes (failed)</th><td>${lastLoginWriter.flushCount} (${lastLoginWriter.failedFlushCount})</td></tr>
+            <tr><th>Flush interval (ms)</th><td>${lastLoginWriter.flushIntervalMillis}</td></tr>
+        </table>
+    </div>
+
+    <div class="card">
+        <h2>Login</h2>
+        <table>
+            <tr><th>Verifier threads (busy)</th><td>${loginExecutor.threads} (${loginExecutor.activeCount})</td></tr>
+            <tr><th>Queue depth</th><td>${loginExecutor.queueDepth} / ${loginExecutor.queueCapacity}</td></tr>
+            <tr><th>Verifications completed</th><td>${loginExecutor.completedCount}</td></tr>
+            <tr><th>Rejected (server busy)</th><td>${loginExecutor.rejectedCount}</td></tr>
+            <tr><th>Failed logins</th><td>${loginThrottle.failureCount}</td></tr>
+            <tr><th>Throttled by username / IP</th><td>${loginThrottle.usernameRejectCount} / ${loginThrottle.ipRejectCount}</td></tr>
+            <tr><th>Tracked usernames / IPs</th><td>${loginThrottle.trackedUsernames} / ${loginThrottle.trackedIps}</td></tr>
+            <tr><th>Live sessions</th><td>${sessionStore.sessionCount}</td></tr>
+            <tr><th>Session store</th><td>${fn:escapeXml(sessionStore.description)}</td></tr>
+        </table>
+    </div>
+
+    <div class="card">
+        <h2>Student Cache</h2>
+        <table class="grid">
+            <tr>
+                <th>Region</th>
+                <th>Entries</th>
+                <th>Hits</th>
+                <th>Misses</th>
+                <th>Hit ratio</th>
+                <th>Evicted</th>
+                <th>Expired</th>
+                <th>Invalidated</th>
+            </tr>
+            <c:forEach var="region" items="${cacheStats}">
+                <tr>
+                    <td>${region.name}</td>
+                    <td>${region.size} / ${region.maxSize}</td>
+                    <td>${region.hits}</td>
+                    <td>${region.misses}</td>
+                    <td><fmt:formatNumber value="${region.hitRatio}" type="percent" maxFractionDigits="1"/></td>
+                    <td>${region.evictions}</td>
+                    <td>${region.expirations}</td>
+                    <td>${region.invalidations}</td>
+                </tr>
+            </c:forEach>
+        </table>
+    </div>
+
+    <div class="card">
+        <h2>Slow Queries</h2>
+        <p class="note">Statements slower than ${slowQueryMillis} ms, newest first. Full request and query
+            metrics: <a href="${pageContext.request.contextPath}/metrics">/metrics</a></p>
+        <c:choose>
+            <c:when test="${empty slowQueries}">
+                <p class="note">None recorded.</p>
+            </c:when>
+            <c:otherwise>
+                <table class="grid">
+                    <tr>
+                        <th>Time</th>
+                        <th>DAO</th>
+                        <th>Duration (ms)</th>
+                        <th>Rows</th>
+                        <th>Statement</th>
+                    </tr>
+                    <c:forEach var="query" items="${slowQueries}">
+                        <tr>
+                            <td><fmt:formatDate value="${query.loggedAt}" pattern="HH:mm:ss"/></td>
+                            <td>${query.dao}</td>
+                            <td><fmt:formatNumber value="${query.millis}" maxFractionDigits="1"/>${query.failed ? ' (failed)' : ''}</td>
+                            <td>${query.rows}</td>
+                            <td class="sql"><c:out value="${query.sql}"/></td>
+                        </tr>
+                    </c:forEach>
+                </table>
+            </c:otherwise>
+        </c:choose>
+    </div>
+</div>
+</body>
+</html>
@@ -5,191 +5,7 @@
 <head>
     <meta charset="UTF-8">
     <title>Dashboard</title>
-    <style>
-        * {
-            margin: 0;
-            padding: 0;
-            box-sizing: border-box;
-        }
-
-        body {
-            font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-            background: #f5f5f5;
-        }
-
-        .navbar {
-            background: #2c3e50;
-            color: white;
-            padding: 15px 30px;
-            display: flex;
-            justify-content: space-between;
-            align-items: center;
-        }
-
-        .navbar h2 {
-            font-size: 20px;
-        }
-
-        .navbar-right {
-            display: flex;
-            align-items: center;
-            gap: 20px;
-        }
-
-        .user-info {
-            display: flex;
-            align-items: center;
-            gap: 10px;
-        }
-
-        .role-badge {
-            padding: 4px 12px;
-            border-radius: 12px;
-            font-size: 12px;
-            font-weight: 600;
-        }
-
-        .role-admin {
-            background: #e74c3c;
-        }
-
-        .role-user {
-            background: #3498db;
-        }
-
-        .btn-logout {
-            padding: 8px 20px;
-            background: #e74c3c;
-            color: white;
-            text-decoration: none;
-            border-radius: 5px;
-            font-size: 14px;
-            transition: background 0.3s;
-        }
-
-        .btn-logout:hover {
-            background: #c0392b;
-        }
-
-        .container {
-            max-width: 1200px;
-            margin: 30px auto;
-            padding: 0 20px;
-        }
-
-        .welcome-card {
-            background: white;
-            padding: 30px;
-            border-radius: 10px;
-            box-shadow: 0 2px 10px rgba(0,0,0,0.1);
-            margin-bottom: 30px;
-        }
-
-        .welcome-card h1 {
-            color: #2c3e50;
-            margin-bottom: 10px;
-        }
-
-        .welcome-card p {
-            color: #7f8c8d;
-        }
-
-        .stats-grid {
-            display: grid;
-            grid-template-columns: repeat(auto-fit, minmax(250px, 1fr));
-            gap: 20px;
-            margin-bottom: 30px;
-        }
-
-        .stat-card {
-            background: white;
-            padding: 25px;
-            border-radius: 10px;
-            box-shadow: 0 2px 10px rgba(0,0,0,0.1);
-            display: flex;
-            align-items: center;
-            gap: 20px;
-        }
-
-        .stat-icon {
-            font-size: 40px;
-            width: 60px;
-            height: 60px;
-            display: flex;
-            align-items: center;
-            justify-content: center;
-            border-radius: 10px;
-        }
-
-        .stat-icon-students {
-            background: #e8f4fd;
-        }
-
-        .stat-content h3 {
-            font-size: 28px;
-            color: #2c3e50;
-            margin-bottom: 5px;
-        }
-
-        .stat-content p {
-            color: #7f8c8d;
-            font-size: 14px;
-        }
-
-        .quick-actions {
-            background: white;
-            padding: 30px;
-            border-radius: 10px;
-            box-shadow: 0 2px 10px rgba(0,0,0,0.1);
-        }
-
-        .quick-actions h2 {
-            color: #2c3e50;
-            margin-bottom: 20px;
-        }
-
-        .action-grid {
-            display: grid;
-            grid-template-columns: repeat(auto-fit, minmax(200px, 1fr));
-            gap: 15px;
-        }
-
-        .action-btn {
-            padding: 20px;
-            background: #3498db;
-            color: white;
-            text-decoration: none;
-            border-radius: 8px;
-            text-align: center;
-            transition: all 0.3s;
-            display: block;
-        }
-
-        .action-btn:hover {
-            background: #2980b9;
-            transform: translateY(-2px);
-        }
-
-        .action-btn-primary {
-            background: #3498db;
-        }
-
-        .action-btn-success {
-            background: #27ae60;
-        }
-
-        .action-btn-warning {
-            background: #f39c12;
-        }
-
-        .action-btn-password {
-            background: #8e44ad;
-        }
-
-        .action-btn-password:hover {
-            background: #732d91;
-        }
-    </style>
+    <link rel="stylesheet" href="${pageContext.request.contextPath}${assets.urls['css/dashboard.css']}">
 </head>
 <body>
 <!-- Navigation Bar -->
@@ -225,6 +41,72 @@
                 <p>Total Students</p>
             </div>
         </div>
+
+        <div class="stat-card">
+            <div class="stat-icon stat-icon-new">
+                🆕
+            </div>
+            <div class="stat-content">
+                <h3>${stats.newStudentsThisWeek}</h3>
+                <p>New This Week</p>
+            </div>
+        </div>
+
+        <div class="stat-card">
+            <div class="stat-icon stat-icon-majors">
+                🎓
+            </div>
+            <div class="stat-content">
+                <h3>${stats.studentsByMajor.size()}</h3>
+                <p>Majors</p>
+            </div>
+        </div>
+    </div>
+
+    <!-- Breakdowns -->
+    <div class="panel-grid">
+        <div class="panel">
+            <h2>Students by Major</h2>
+            <table>
+                <c:forEach var="entry" items="${stats.studentsByMajor}">
+                    <tr>
+                        <td><c:out value="${entry.key}" /></td>
+                        <td class="count">${entry.value}</td>
+                    </tr>
+                </c:forEach>
+            </table>
+        </div>
+
+        <div class="panel">
+            <h2>New Students per Week</h2>
+            <table>
+                <c:forEach var="entry" items="${stats.newStudentsByWeek}">
+                    <tr>
+                        <td class="week">${entry.key}</td>
+                        <td>
+                            <div class="bar" style="width: ${stats.maxWeeklyCount == 0 ? 0 : entry.value * 100 / stats.maxWeeklyCount}%"></div>
+                        </td>
+                        <td class="count">${entry.value}</td>
+                    </tr>
+                </c:forEach>
+            </table>
+        </div>
+
+        <div class="panel">
+            <h2>Recently Added</h2>
+            <table>
+                <c:forEach var="student" items="${stats.recentStudents}">
+                    <tr>
+                        <td><c:out value="${student.studentCode}" /></td>
+                        <td><c:out value="${student.fullName}" /></td>
+                        <td><c:out value="${student.major}" /></td>
+                    </tr>
+                </c:forEach>
+                <c:if test="${empty stats.recentStudents}">
+                    <tr><td>No students yet</td></tr>
+                </c:if>
+            </table>
+        </div>
     </div>
 
     <!-- Quick Actions -->
@@ -241,13 +123,19 @@
                 </a>
             </c:if>
 
-            <a href="student?action=search" class="action-btn action-btn-warning">
+            <a href="student?action=query" class="action-btn action-btn-warning">
                 🔍 Search Students
             </a>
 
             <a href="change-password" class="action-btn action-btn-password">
                 🔐 Change Password
             </a>
+
+            <c:if test="${sessionScope.role eq 'admin'}">
+                <a href="admin/stats" class="action-btn action-btn-primary">
+                    📊 Runtime Statistics
+                </a>
+            </c:if>
         </div>
     </div>
 </div>
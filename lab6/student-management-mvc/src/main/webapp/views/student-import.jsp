@@ -0,0 +1,76 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="jakarta.tags.core" prefix="c" %>
+<!DOCTYPE html>
+<html>
+<head>
+  <meta charset="UTF-8">
+  <meta name="viewport" content="width=device-width, initial-scale=1.0">
+  <title>Import Students</title>
+  <link rel="stylesheet" href="${pageContext.request.contextPath}${assets.urls['css/student-import.css']}">
+</head>
+<body>
+<div class="container">
+  <h1>📥 Import Students from CSV</h1>
+
+  <c:if test="${not empty error}">
+    <div class="message error">❌ ${error}</div>
+  </c:if>
+
+  <c:if test="${not empty report}">
+    <c:choose>
+      <c:when test="${not empty report.fatalError}">
+        <div class="message error">❌ ${report.fatalError}</div>
+      </c:when>
+      <c:otherwise>
+        <div class="message ${report.failedRows == 0 ? 'success' : 'error'}">
+          ${report.importedRows} of ${report.totalRows} students imported in ${report.elapsedMillis} ms.
+          <c:if test="${report.failedRows > 0}">${report.failedRows} row(s) rejected.</c:if>
+        </div>
+      </c:otherwise>
+    </c:choose>
+
+    <c:if test="${not empty report.errors}">
+      <h2>Rejected rows</h2>
+      <table>
+        <thead>
+        <tr>
+          <th>Line</th>
+          <th>Student Code</th>
+          <th>Reason</th>
+        </tr>
+        </thead>
+        <tbody>
+        <c:forEach var="rowError" items="${report.errors}">
+          <tr>
+            <td>${rowError.lineNumber}</td>
+            <td><c:out value="${rowError.studentCode}" /></td>
+            <td><c:out value="${rowError.message}" /></td>
+          </tr>
+        </c:forEach>
+        </tbody>
+      </table>
+      <c:if test="${report.errorsTruncated}">
+        <p class="info-text">Only the first ${report.errors.size()} rejected rows are listed.</p>
+      </c:if>
+    </c:if>
+  </c:if>
+
+  <h2>Upload</h2>
+  <form action="import-students" method="POST" enctype="multipart/form-data">
+    <div class="form-group">
+      <label for="file">CSV file</label>
+      <input type="file" id="file" name="file" accept=".csv,text/csv" required>
+      <p class="info-text">
+        Columns: student_code, full_name, email, major. A header row is optional;
+        rows are checked with the same rules as the student form.
+      </p>
+    </div>
+
+    <div class="button-group">
+      <button type="submit" class="btn btn-primary">Import</button>
+      <a href="student?action=list" class="btn btn-secondary">Back to list</a>
+    </div>
+  </form>
+</div>
+</body>
+</html>
@@ -0,0 +1,135 @@
+package com.student.bench;
+
+import com.student.model.Student;
+import com.student.model.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates the students and users tables if they are missing and fills empty ones with
+ * generated rows. Existing data is never dropped or changed, so the harness can also be
+ * pointed at a MySQL copy of production.
+ */
+class BenchDatabase {
+
+    // Also accepted by H2 in MySQL mode
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS students ("
+                    + "id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "student_code VARCHAR(20) NOT NULL UNIQUE, "
+                    + "full_name VARCHAR(100) NOT NULL, "
+                    + "email VARCHAR(100), "
+                    + "major VARCHAR(50), "
+                    + "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+            "CREATE TABLE IF NOT EXISTS users ("
+                    + "id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "username VARCHAR(50) NOT NULL UNIQUE, "
+                    + "password VARCHAR(255) NOT NULL, "
+                    + "full_name VARCHAR(100) NOT NULL, "
+                    + "role VARCHAR(10) NOT NULL DEFAULT 'user', "
+                    + "is_active BOOLEAN DEFAULT TRUE, "
+                    + "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+                    + "last_login TIMESTAMP NULL)"
+    };
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchDatabase() {
+    }
+
+    static void createSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String ddl : SCHEMA) {
+                stmt.execute(ddl);
+            }
+        }
+    }
+
+    /**
+     * @return number of students inserted, 0 if the table already had rows
+     */
+    static int seedStudents(Connection conn, int count, long seed) throws SQLException {
+        if (countRows(conn, "students") > 0) {
+            return 0;
+        }
+        StudentDataGenerator generator = new StudentDataGenerator(seed);
+        String sql = "INSERT INTO students (student_code, full_name, email, major, created_at) VALUES (?, ?, ?, ?, ?)";
+        return insertBatched(conn, sql, count, (pstmt, sequence) -> {
+            Student s = generator.next(sequence);
+            pstmt.setString(1, s.getStudentCode());
+            pstmt.setString(2, s.getFullName());
+            pstmt.setString(3, s.getEmail());
+            pstmt.setString(4, s.getMajor());
+            pstmt.setTimestamp(5, s.getCreatedAt());
+        });
+    }
+
+    /**
+     * @return number of users inserted, 0 if the table already had rows
+     */
+    static int seedUsers(Connection conn, int count, String passwordHash, long seed) throws SQLException {
+        if (countRows(conn, "users") > 0) {
+            return 0;
+        }
+        StudentDataGenerator generator = new StudentDataGenerator(seed);
+        String sql = "INSERT INTO users (username, password, full_name, role, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+        return insertBatched(conn, sql, count, (pstmt, sequence) -> {
+            User u = generator.nextUser(sequence, passwordHash);
+            pstmt.setString(1, u.getUsername());
+            pstmt.setString(2, u.getPassword());
+            pstmt.setString(3, u.getFullName());
+            pstmt.setString(4, u.getRole());
+            pstmt.setBoolean(5, u.isActive());
+            pstmt.setTimestamp(6, u.getCreatedAt());
+        });
+    }
+
+    static int countRows(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Remove what the write benchmarks left behind, recognisable by its prefix
+     */
+    static void deleteGenerated(Connection conn, String codePrefix, String usernamePrefix) throws SQLException {
+        try (PreparedStatement students = conn.prepareStatement("DELETE FROM students WHERE student_code LIKE ?");
+             PreparedStatement users = conn.prepareStatement("DELETE FROM users WHERE username LIKE ?")) {
+            students.setString(1, codePrefix + "%");
+            students.executeUpdate();
+            users.setString(1, usernamePrefix + "%");
+            users.executeUpdate();
+        }
+    }
+
+    private interface RowBinder {
+        void bind(PreparedStatement pstmt, int sequence) throws SQLException;
+    }
+
+    private static int insertBatched(Connection conn, String sql, int count, RowBinder binder) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int sequence = 1; sequence <= count; sequence++) {
+                binder.bind(pstmt, sequence);
+                pstmt.addBatch();
+                if (sequence % BATCH_SIZE == 0) {
+                    pstmt.executeBatch();
+                    conn.commit();
+                }
+            }
+            pstmt.executeBatch();
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        return count;
+    }
+}
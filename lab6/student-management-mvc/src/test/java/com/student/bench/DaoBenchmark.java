@@ -0,0 +1,618 @@
+package com.student.bench;
+
+import com.student.cache.StudentCache;
+import com.student.controller.DashboardController;
+import com.student.controller.StudentApiController;
+import com.student.controller.StudentController;
+import com.student.dao.ConnectionPool;
+import com.student.dao.LastLoginWriter;
+import com.student.dao.StudentDAO;
+import com.student.dao.UserDAO;
+import com.student.listener.AppContextListener;
+import com.student.metrics.AppMetrics;
+import com.student.model.Student;
+import com.student.model.StudentPage;
+import com.student.model.StudentQuery;
+import com.student.model.User;
+import com.student.search.StudentSearchIndex;
+import com.student.service.DashboardStatsService;
+import org.mindrot.jbcrypt.BCrypt;
+
+import jakarta.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives every StudentDAO and UserDAO method, and the main controller actions, against a seeded
+ * database under concurrency, and reports throughput and p50/p99/p999 latency per operation.
+ *
+ * By default the database is an in-memory H2 in MySQL mode, created and seeded on each run.
+ * Pointed at MySQL (url=...), missing tables are created and empty ones seeded; existing rows are
+ * left alone and write operations only touch rows they created, which are deleted at the end.
+ * Operations the database can't run (e.g. MySQL date functions on H2) are reported as errors.
+ *
+ * Each operation runs on its own: warm-up, then a timed phase with every thread calling it in a loop.
+ * Controllers run in-process through ServletHarness, without view rendering.
+ *
+ * Run with the bench profile, which adds H2:
+ *   mvn -Pbench test-compile exec:java -Dexec.args="students=100000 threads=8 save=baseline.csv"
+ *   mvn -Pbench test-compile exec:java -Dexec.args="students=100000 threads=8 compare=baseline.csv"
+ *
+ * Options (name=value): url, user, password, students, users, threads, pool, warmup and seconds
+ * (per operation), ops (comma-separated names or prefixes, e.g. dao.queryStudents,ctl), cache and
+ * index (true/false), bcryptCost, seed, save (CSV file to write), compare (CSV file to diff against).
+ */
+public class DaoBenchmark {
+
+    private static final String DEFAULT_URL =
+            "jdbc:h2:mem:studentbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String PASSWORD = "password";
+    private static final String CODE_PREFIX = "BN";
+    private static final String USERNAME_PREFIX = "bench_";
+    private static final double[] PERCENTILES = {0.50, 0.99, 0.999};
+
+    private interface Task {
+        void run(Worker worker) throws Exception;
+    }
+
+    private static final class Operation {
+        final String name;
+        final Task task;
+        final Runnable before;
+
+        Operation(String name, Runnable before, Task task) {
+            this.name = name;
+            this.before = before;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Per-thread state: its own random source and latency samples, so threads share nothing
+     */
+    private static final class Worker {
+        final int index;
+        final StudentDataGenerator generator;
+        long[] samples = new long[1 << 14];
+        int count;
+        int errors;
+
+        Worker(int index, long seed) {
+            this.index = index;
+            this.generator = new StudentDataGenerator(seed + index);
+        }
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        int nextInt(int bound) {
+            return generator.nextInt(bound);
+        }
+    }
+
+    private static final class Result {
+        final String name;
+        final double throughput;
+        final double[] percentileMillis;
+        final double maxMillis;
+        final int errors;
+
+        Result(String name, double throughput, double[] percentileMillis, double maxMillis, int errors) {
+            this.name = name;
+            this.throughput = throughput;
+            this.percentileMillis = percentileMillis;
+            this.maxMillis = maxMillis;
+            this.errors = errors;
+        }
+    }
+
+    private final Map<String, String> options;
+    private final int threads;
+    private final long seed;
+
+    private ConnectionPool pool;
+    private StudentDAO studentDAO;
+    private UserDAO userDAO;
+    private LastLoginWriter lastLoginWriter;
+    private ServletHarness harness;
+    private StudentController studentController;
+    private StudentApiController apiController;
+    private DashboardController dashboardController;
+
+    // Filled in before the phases that need them
+    private int minId;
+    private int maxId;
+    private int userCount;
+    private User sessionUser;
+    private volatile String nextCursor;
+    private final ConcurrentLinkedQueue<Integer> ownedStudentIds = new ConcurrentLinkedQueue<>();
+    private final List<Integer> ownedUserIds = new ArrayList<>();
+    private final AtomicInteger codeSequence = new AtomicInteger();
+
+    private DaoBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.threads = intOption("threads", Runtime.getRuntime().availableProcessors());
+        this.seed = intOption("seed", 42);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected name=value, got: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        new DaoBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        setUp();
+        try {
+            List<Result> results = new ArrayList<>();
+            for (Operation operation : selectOperations()) {
+                results.add(measure(operation));
+            }
+            report(results);
+        } finally {
+            tearDown();
+        }
+    }
+
+    private void setUp() throws Exception {
+        String url = options.getOrDefault("url", DEFAULT_URL);
+        ConnectionPool.Config config = new ConnectionPool.Config();
+        config.setUrl(url);
+        config.setUser(options.getOrDefault("user", url.startsWith("jdbc:h2:") ? "sa" : config.getUser()));
+        config.setPassword(options.getOrDefault("password", url.startsWith("jdbc:h2:") ? "" : config.getPassword()));
+        config.setMaxTotal(intOption("pool", config.getMaxTotal()));
+        config.setMaxIdle(config.getMaxTotal());
+        pool = new ConnectionPool(config);
+
+        int students = intOption("students", 100_000);
+        int users = intOption("users", 1_000);
+        try (Connection conn = pool.getConnection()) {
+            BenchDatabase.createSchema(conn);
+            BenchDatabase.deleteGenerated(conn, CODE_PREFIX, USERNAME_PREFIX);
+
+            long start = System.currentTimeMillis();
+            int seededStudents = BenchDatabase.seedStudents(conn, students, seed);
+            String hash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(intOption("bcryptCost", 10)));
+            int seededUsers = BenchDatabase.seedUsers(conn, users, hash, seed);
+            System.out.println("Seeded " + seededStudents + " students and " + seededUsers + " users in "
+                    + (System.currentTimeMillis() - start) + " ms");
+
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MIN(id), MAX(id) FROM students")) {
+                rs.next();
+                minId = rs.getInt(1);
+                maxId = rs.getInt(2);
+            }
+            userCount = BenchDatabase.countRows(conn, "users");
+        }
+
+        // Wired as AppContextListener does; the slow query log is off so it doesn't flood the output
+        AppMetrics metrics = new AppMetrics(Long.MAX_VALUE);
+        studentDAO = new StudentDAO(pool);
+        studentDAO.setMetrics(metrics);
+        if (booleanOption("index", true)) {
+            StudentSearchIndex index = new StudentSearchIndex();
+            index.beginBuild();
+            studentDAO.scanStudents(index::addFromScan);
+            index.finishBuild();
+            studentDAO.setSearchIndex(index);
+        }
+        if (booleanOption("cache", true)) {
+            studentDAO.setCache(new StudentCache(10_000, 60_000));
+        }
+        DashboardStatsService dashboardStats = new DashboardStatsService(studentDAO, 60_000);
+        studentDAO.addChangeListener(dashboardStats);
+
+        userDAO = new UserDAO(pool);
+        userDAO.setMetrics(metrics);
+        lastLoginWriter = new LastLoginWriter(pool, 2000);
+        userDAO.setLastLoginWriter(lastLoginWriter);
+
+        harness = new ServletHarness();
+        harness.setAttribute(AppContextListener.STUDENT_DAO, studentDAO);
+        harness.setAttribute(AppContextListener.USER_DAO, userDAO);
+        harness.setAttribute(AppContextListener.DASHBOARD_STATS, dashboardStats);
+        harness.setAttribute(AppContextListener.METRICS, metrics);
+        studentController = harness.init(new StudentController());
+        apiController = harness.init(new StudentApiController());
+        dashboardController = harness.init(new DashboardController());
+
+        sessionUser = new User("bench", null, "Bench Admin", "admin");
+
+        System.out.println("Database: " + url.replaceAll("password=[^&;]*", "password=***"));
+        System.out.println("Students " + (maxId - minId + 1) + " (id range), users " + userCount
+                + ", threads " + threads + ", pool " + config.getMaxTotal()
+                + ", cache " + booleanOption("cache", true) + ", index " + booleanOption("index", true)
+                + ", Java " + System.getProperty("java.version"));
+    }
+
+    private void tearDown() {
+        try (Connection conn = pool.getConnection()) {
+            BenchDatabase.deleteGenerated(conn, CODE_PREFIX, USERNAME_PREFIX);
+        } catch (SQLException e) {
+            System.out.println("Could not delete generated rows: " + e.getMessage());
+        }
+        lastLoginWriter.close();
+        pool.close();
+    }
+
+    private List<Operation> operations() {
+        List<Operation> ops = new ArrayList<>();
+
+        // Reads
+        ops.add(new Operation("dao.getStudentById", null, w -> studentDAO.getStudentById(randomId(w))));
+        ops.add(new Operation("dao.getStudentsByIds", null, w -> {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ids.add(randomId(w));
+            }
+            studentDAO.getStudentsByIds(ids);
+        }));
+        ops.add(new Operation("dao.queryStudents.first", null,
+                w -> studentDAO.queryStudents(new StudentQuery(null, null, "id", "desc", null, null, 20))));
+        ops.add(new Operation("dao.queryStudents.next", this::loadNextCursor,
+                w -> studentDAO.queryStudents(new StudentQuery(null, null, "id", "desc", nextCursor, null, 20))));
+        ops.add(new Operation("dao.queryStudents.keyword", null,
+                w -> studentDAO.queryStudents(new StudentQuery(searchTerm(w), null, "id", "desc", null, null, 20))));
+        ops.add(new Operation("dao.queryStudents.majorSorted", null,
+                w -> studentDAO.queryStudents(new StudentQuery(null, w.generator.pickMajor(), "full_name", "asc",
+                        null, null, 20))));
+        ops.add(new Operation("dao.getStudentsPage", null,
+                w -> studentDAO.getStudentsPage(w.generator.pickMajor(), "email", "desc", null, null, 50)));
+        ops.add(new Operation("dao.searchStudents", null, w -> studentDAO.searchStudents(searchTerm(w))));
+        ops.add(new Operation("dao.streamStudents", null, w -> {
+            long[] rows = {0};
+            studentDAO.streamStudents(new StudentQuery(null, w.generator.pickMajor(), "id", "asc", null, null, 0),
+                    1000, s -> rows[0]++);
+        }));
+        ops.add(new Operation("dao.getTotalStudents", null, w -> studentDAO.getTotalStudents()));
+        ops.add(new Operation("dao.loadDashboardStats", null,
+                w -> studentDAO.loadDashboardStats(LocalDate.now().minusWeeks(DashboardStatsService.WEEKS),
+                        DashboardStatsService.RECENT_SHOWN)));
+        // Whole-table reads
+        ops.add(new Operation("dao.getStudentsByMajor", null,
+                w -> studentDAO.getStudentsByMajor(w.generator.pickMajor())));
+        ops.add(new Operation("dao.getStudentsFiltered", null,
+                w -> studentDAO.getStudentsFiltered(w.generator.pickMajor(), "full_name", "asc")));
+        ops.add(new Operation("dao.getStudentsSorted", null, w -> studentDAO.getStudentsSorted("student_code", "asc")));
+        ops.add(new Operation("dao.getAllStudents", null, w -> studentDAO.getAllStudents()));
+        ops.add(new Operation("dao.scanStudents", null, w -> {
+            long[] rows = {0};
+            studentDAO.scanStudents(s -> rows[0]++);
+        }));
+
+        // Writes, on rows the benchmark creates itself
+        ops.add(new Operation("dao.addStudent", null, w -> check(studentDAO.addStudent(newStudent(w)))));
+        ops.add(new Operation("dao.addStudentsBatch", null, w -> {
+            List<Student> batch = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                batch.add(newStudent(w));
+            }
+            for (String error : studentDAO.addStudentsBatch(batch)) {
+                check(error == null);
+            }
+        }));
+        ops.add(new Operation("dao.updateStudent", this::loadOwnedStudents, w -> {
+            Integer id = ownedStudentIds.poll();
+            check(id != null);
+            Student student = newStudent(w);
+            student.setId(id);
+            boolean updated = studentDAO.updateStudent(student);
+            ownedStudentIds.add(id);
+            check(updated);
+        }));
+        ops.add(new Operation("dao.deleteStudent", this::loadOwnedStudents, w -> {
+            Integer id = ownedStudentIds.poll();
+            check(id != null);
+            check(studentDAO.deleteStudent(id));
+        }));
+
+        // Users
+        ops.add(new Operation("user.getUserById", null, w -> userDAO.getUserById(1 + w.nextInt(userCount))));
+        ops.add(new Operation("user.getUserByUsername", null,
+                w -> userDAO.getUserByUsername(String.format("user%06d", 1 + w.nextInt(userCount)))));
+        ops.add(new Operation("user.authenticate", null,
+                w -> userDAO.authenticate(String.format("user%06d", 1 + w.nextInt(userCount)), PASSWORD)));
+        ops.add(new Operation("user.createUser", null, w -> check(userDAO.createUser(new User(
+                USERNAME_PREFIX + codeSequence.incrementAndGet(), PASSWORD, "Bench User", "user")))));
+        ops.add(new Operation("user.updatePassword", this::loadOwnedUsers, w -> {
+            check(!ownedUserIds.isEmpty());
+            check(userDAO.updatePassword(ownedUserIds.get(w.nextInt(ownedUserIds.size())),
+                    "$2a$10$abcdefghijklmnopqrstuu5Ff9PmnOcyLa7KxE2hy3pKQeQWJQ3yi"));
+        }));
+
+        // Controller actions
+        ops.add(new Operation("ctl.student.list", null,
+                w -> expectStatus(studentController, "GET", "/student", null)));
+        ops.add(new Operation("ctl.student.search", null,
+                w -> expectStatus(studentController, "GET", "/student", null, "keyword", searchTerm(w))));
+        ops.add(new Operation("ctl.student.filterSort", null,
+                w -> expectStatus(studentController, "GET", "/student", null,
+                        "major", w.generator.pickMajor(), "sortBy", "full_name", "order", "asc")));
+        ops.add(new Operation("ctl.student.nextPage", this::loadNextCursor,
+                w -> expectStatus(studentController, "GET", "/student", null, "after", nextCursor)));
+        ops.add(new Operation("ctl.student.edit", null,
+                w -> expectStatus(studentController, "GET", "/student", null,
+                        "action", "edit", "id", String.valueOf(randomId(w)))));
+        ops.add(new Operation("ctl.student.insert", null, w -> {
+            Student s = newStudent(w);
+            expectStatus(studentController, "POST", "/student", null, "action", "insert",
+                    "studentCode", s.getStudentCode(), "fullName", s.getFullName(),
+                    "email", s.getEmail(), "major", s.getMajor());
+        }));
+        ops.add(new Operation("ctl.api.students", null,
+                w -> expectStatus(apiController, "GET", "/api/students", null,
+                        "keyword", searchTerm(w), "limit", "100")));
+        ops.add(new Operation("ctl.dashboard", null,
+                w -> expectStatus(dashboardController, "GET", "/dashboard", sessionUser)));
+        return ops;
+    }
+
+    private List<Operation> selectOperations() {
+        List<Operation> all = operations();
+        String selection = options.get("ops");
+        if (selection == null || selection.equals("all")) {
+            return all;
+        }
+        List<Operation> selected = new ArrayList<>();
+        for (Operation op : all) {
+            for (String prefix : selection.split(",")) {
+                if (op.name.startsWith(prefix.trim())) {
+                    selected.add(op);
+                    break;
+                }
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("No operation matches ops=" + selection);
+        }
+        return selected;
+    }
+
+    private Result measure(Operation operation) throws InterruptedException {
+        if (operation.before != null) {
+            operation.before.run();
+        }
+        double warmupSeconds = doubleOption("warmup", 2);
+        double seconds = doubleOption("seconds", 5);
+        runPhase(operation, warmupSeconds);
+        Worker[] workers = runPhase(operation, seconds);
+
+        int total = 0;
+        int errors = 0;
+        for (Worker worker : workers) {
+            total += worker.count;
+            errors += worker.errors;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.samples, 0, all, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(all);
+
+        double[] percentiles = new double[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            percentiles[i] = total == 0 ? Double.NaN : nearestRank(all, PERCENTILES[i]) / 1e6;
+        }
+        double max = total == 0 ? Double.NaN : all[total - 1] / 1e6;
+        Result result = new Result(operation.name, total / seconds, percentiles, max, errors);
+        System.out.println(formatRow(result, null));
+        return result;
+    }
+
+    private Worker[] runPhase(Operation operation, double seconds) throws InterruptedException {
+        Worker[] workers = new Worker[threads];
+        Thread[] pool = new Thread[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        long durationNanos = (long) (seconds * 1e9);
+
+        for (int t = 0; t < threads; t++) {
+            Worker worker = new Worker(t, seed * 31 + t);
+            workers[t] = worker;
+            pool[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long deadline = System.nanoTime() + durationNanos;
+                long now;
+                while ((now = System.nanoTime()) < deadline) {
+                    try {
+                        operation.task.run(worker);
+                        worker.record(System.nanoTime() - now);
+                    } catch (Exception e) {
+                        if (worker.errors++ == 0 && worker.index == 0) {
+                            System.out.println("  " + operation.name + " failed: " + e);
+                        }
+                    }
+                }
+            }, "bench-" + t);
+            pool[t].start();
+        }
+        start.countDown();
+        for (Thread thread : pool) {
+            thread.join();
+        }
+        return workers;
+    }
+
+    private void report(List<Result> results) throws IOException {
+        Map<String, Result> baseline = null;
+        String compare = options.get("compare");
+        if (compare != null) {
+            baseline = readResults(Paths.get(compare));
+        }
+
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "%-30s %11s %9s %9s %9s %9s %7s%s",
+                "operation", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors",
+                baseline != null ? "   ops/s vs base   p99 vs base" : ""));
+        for (Result result : results) {
+            System.out.println(formatRow(result, baseline != null ? baseline.get(result.name) : null));
+        }
+
+        String save = options.get("save");
+        if (save != null) {
+            writeResults(Paths.get(save), results);
+            System.out.println("Results saved to " + save);
+        }
+    }
+
+    private static String formatRow(Result r, Result base) {
+        String row = String.format(Locale.ROOT, "%-30s %11.1f %9.3f %9.3f %9.3f %9.3f %7d",
+                r.name, r.throughput, r.percentileMillis[0], r.percentileMillis[1], r.percentileMillis[2],
+                r.maxMillis, r.errors);
+        if (base != null) {
+            row += String.format(Locale.ROOT, "   %+12.1f%%   %+10.1f%%",
+                    change(r.throughput, base.throughput), change(r.percentileMillis[1], base.percentileMillis[1]));
+        }
+        return row;
+    }
+
+    private static double change(double value, double base) {
+        return base == 0 ? Double.NaN : (value - base) * 100 / base;
+    }
+
+    private static void writeResults(Path file, List<Result> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("operation,ops_per_second,p50_ms,p99_ms,p999_ms,max_ms,errors");
+            for (Result r : results) {
+                out.println(String.format(Locale.ROOT, "%s,%.3f,%.6f,%.6f,%.6f,%.6f,%d", r.name, r.throughput,
+                        r.percentileMillis[0], r.percentileMillis[1], r.percentileMillis[2], r.maxMillis, r.errors));
+            }
+        }
+    }
+
+    private static Map<String, Result> readResults(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] f = line.split(",");
+            results.put(f[0], new Result(f[0], Double.parseDouble(f[1]),
+                    new double[]{Double.parseDouble(f[2]), Double.parseDouble(f[3]), Double.parseDouble(f[4])},
+                    Double.parseDouble(f[5]), Integer.parseInt(f[6])));
+        }
+        return results;
+    }
+
+    private static long nearestRank(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // Hooks run once before a phase
+
+    private void loadNextCursor() {
+        StudentPage first = studentDAO.queryStudents(new StudentQuery(null, null, "id", "desc", null, null, 20));
+        nextCursor = first.getNextCursor();
+    }
+
+    private void loadOwnedStudents() {
+        ownedStudentIds.clear();
+        ownedStudentIds.addAll(selectIds("SELECT id FROM students WHERE student_code LIKE ?", CODE_PREFIX + "%"));
+        if (ownedStudentIds.isEmpty()) {
+            System.out.println("  no generated students to work on; run dao.addStudent first");
+        }
+    }
+
+    private void loadOwnedUsers() {
+        ownedUserIds.clear();
+        ownedUserIds.addAll(selectIds("SELECT id FROM users WHERE username LIKE ?", USERNAME_PREFIX + "%"));
+        if (ownedUserIds.isEmpty()) {
+            System.out.println("  no generated users to work on; run user.createUser first");
+        }
+    }
+
+    private List<Integer> selectIds(String sql, String pattern) {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, pattern);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("  could not load ids: " + e.getMessage());
+        }
+        return ids;
+    }
+
+    // Helpers used by the tasks
+
+    private int randomId(Worker w) {
+        return minId + w.nextInt(maxId - minId + 1);
+    }
+
+    private String searchTerm(Worker w) {
+        return w.generator.randomSearchTerm(maxId - minId + 1);
+    }
+
+    private Student newStudent(Worker w) {
+        Student student = w.generator.next(1 + w.nextInt(maxId - minId + 1));
+        student.setStudentCode(String.format("%s%08d", CODE_PREFIX, codeSequence.incrementAndGet()));
+        student.setCreatedAt(null);
+        return student;
+    }
+
+    private void expectStatus(HttpServlet servlet, String method, String path, User user, String... params)
+            throws Exception {
+        int status = harness.service(servlet, method, path, user, params);
+        check(status < 400);
+    }
+
+    private static void check(boolean ok) {
+        if (!ok) {
+            throw new IllegalStateException("operation reported failure");
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private double doubleOption(String name, double defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private boolean booleanOption(String name, boolean defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
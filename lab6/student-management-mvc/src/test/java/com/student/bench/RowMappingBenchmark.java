@@ -0,0 +1,138 @@
+package com.student.bench;
+
+import com.student.dao.StudentRowMapper;
+import com.student.model.Student;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Row mapping throughput over 1M-row scans: the old per-row by-name mapping loop against
+ * StudentRowMapper, which reads columns by position.
+ *
+ * Rows come from an in-memory ResultSet (a dynamic proxy over generated students), so the numbers
+ * isolate mapping cost from the network. The by-name side pays a label lookup per column per row,
+ * as Connector/J's findColumn does; both sides pay the same proxy dispatch overhead, which makes
+ * the measured difference a lower bound.
+ *
+ * Run after "mvn test-compile":
+ *   java -cp target/classes:target/test-classes com.student.bench.RowMappingBenchmark [rows] [rounds]
+ */
+public class RowMappingBenchmark {
+
+    private static final String[] LABELS = {"id", "student_code", "full_name", "email", "major", "created_at"};
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        StudentDataGenerator generator = new StudentDataGenerator(42);
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            Student s = generator.next(i + 1);
+            data[i] = new Object[]{s.getId(), s.getStudentCode(), s.getFullName(), s.getEmail(),
+                    s.getMajor(), s.getCreatedAt()};
+        }
+
+        // Warm up both paths so the JIT has compiled them before measuring
+        for (int i = 0; i < 2; i++) {
+            mapByName(resultSet(data));
+            mapByIndex(resultSet(data));
+        }
+
+        long[] byName = new long[rounds];
+        long[] byIndex = new long[rounds];
+        long checksum = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            checksum += mapByName(resultSet(data));
+            byName[r] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            checksum += mapByIndex(resultSet(data));
+            byIndex[r] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(byName);
+        Arrays.sort(byIndex);
+        long nameMedian = byName[rounds / 2];
+        long indexMedian = byIndex[rounds / 2];
+
+        System.out.printf(Locale.ROOT, "%,d rows x %d rounds (checksum %d)%n", rows, rounds, checksum);
+        System.out.printf(Locale.ROOT, "  by name : %8.1f ms/scan  %,12.0f rows/s%n",
+                nameMedian / 1e6, rows / (nameMedian / 1e9));
+        System.out.printf(Locale.ROOT, "  by index: %8.1f ms/scan  %,12.0f rows/s%n",
+                indexMedian / 1e6, rows / (indexMedian / 1e9));
+        System.out.printf(Locale.ROOT, "  speed-up: %.2fx%n", (double) nameMedian / indexMedian);
+    }
+
+    // The loop every StudentDAO method used to carry
+    private static long mapByName(ResultSet rs) throws SQLException {
+        long sum = 0;
+        while (rs.next()) {
+            Student student = new Student();
+            student.setId(rs.getInt("id"));
+            student.setStudentCode(rs.getString("student_code"));
+            student.setFullName(rs.getString("full_name"));
+            student.setEmail(rs.getString("email"));
+            student.setMajor(rs.getString("major"));
+            student.setCreatedAt(rs.getTimestamp("created_at"));
+            sum += student.getId();
+        }
+        return sum;
+    }
+
+    private static long mapByIndex(ResultSet rs) throws SQLException {
+        long sum = 0;
+        while (rs.next()) {
+            sum += StudentRowMapper.INSTANCE.mapRow(rs).getId();
+        }
+        return sum;
+    }
+
+    /**
+     * Forward-only ResultSet over the given rows. Only next() and the int/String/Timestamp
+     * getters by index or label are supported.
+     */
+    private static ResultSet resultSet(Object[][] data) {
+        Map<String, Integer> labelIndex = new HashMap<>();
+        for (int i = 0; i < LABELS.length; i++) {
+            labelIndex.put(LABELS[i], i + 1);
+        }
+        int[] cursor = {-1};
+
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("next")) {
+                        return ++cursor[0] < data.length;
+                    }
+                    if (name.equals("close")) {
+                        return null;
+                    }
+                    if (name.startsWith("get") && args != null && args.length == 1) {
+                        int column;
+                        if (args[0] instanceof String) {
+                            Integer index = labelIndex.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                            if (index == null) {
+                                throw new SQLException("Column '" + args[0] + "' not found");
+                            }
+                            column = index;
+                        } else {
+                            column = (Integer) args[0];
+                        }
+                        Object value = data[cursor[0]][column - 1];
+                        if (name.equals("getInt")) {
+                            return value == null ? 0 : value;
+                        }
+                        return value;
+                    }
+                    throw new UnsupportedOperationException(name);
+                });
+    }
+}
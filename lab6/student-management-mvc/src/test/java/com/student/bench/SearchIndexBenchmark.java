@@ -0,0 +1,118 @@
+package com.student.bench;
+
+import com.student.model.Student;
+import com.student.search.StudentSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares StudentSearchIndex with the LIKE '%q%' search at 100k and 1M students.
+ *
+ * The LIKE side is modelled as the scan MySQL performs for a leading wildcard with
+ * ORDER BY id DESC LIMIT 500: newest row first until 500 rows match. It runs over
+ * pre-lower-cased rows already in memory and excludes disk and network I/O, so the reported
+ * speed-up is a lower bound of what the real query sees.
+ *
+ * Run after "mvn test-compile":
+ *   java -Xmx3g -cp target/classes:target/test-classes com.student.bench.SearchIndexBenchmark [sizes] [queries]
+ */
+public class SearchIndexBenchmark {
+
+    private static final int LIMIT = 500;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100_000, 1_000_000};
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        for (int size : sizes) {
+            run(size, queries);
+        }
+    }
+
+    private static void run(int size, int queryCount) {
+        StudentDataGenerator generator = new StudentDataGenerator(42);
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            students.add(generator.next(i));
+        }
+
+        long buildStart = System.nanoTime();
+        StudentSearchIndex index = new StudentSearchIndex();
+        index.beginBuild();
+        for (Student student : students) {
+            index.addFromScan(student);
+        }
+        index.finishBuild();
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[][] rows = new String[size][];
+        for (int i = 0; i < size; i++) {
+            Student s = students.get(i);
+            rows[i] = new String[]{lower(s.getStudentCode()), lower(s.getFullName()), lower(s.getEmail())};
+        }
+
+        String[] terms = new String[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            terms[i] = generator.randomSearchTerm(size);
+        }
+
+        // Warm up both paths so the JIT has compiled them before measuring
+        for (int i = 0; i < Math.min(20, queryCount); i++) {
+            index.search(terms[i], LIMIT);
+            likeScan(rows, lower(terms[i]));
+        }
+
+        long[] indexNanos = new long[queryCount];
+        long[] likeNanos = new long[queryCount];
+        long indexMatches = 0;
+        long likeMatches = 0;
+        for (int i = 0; i < queryCount; i++) {
+            long start = System.nanoTime();
+            indexMatches += index.search(terms[i], LIMIT).size();
+            indexNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            likeMatches += likeScan(rows, lower(terms[i]));
+            likeNanos[i] = System.nanoTime() - start;
+        }
+
+        System.out.printf("%,d students: index built in %,d ms (%,d trigrams)%n",
+                size, buildMillis, index.getTermCount());
+        report("  trigram index", indexNanos, indexMatches);
+        report("  LIKE scan    ", likeNanos, likeMatches);
+        System.out.printf("  median speed-up: %.1fx%n%n",
+                (double) percentile(likeNanos, 50) / Math.max(1, percentile(indexNanos, 50)));
+    }
+
+    private static int likeScan(String[][] rows, String q) {
+        int matches = 0;
+        for (int i = rows.length - 1; i >= 0 && matches < LIMIT; i--) {
+            String[] row = rows[i];
+            if (row[0].contains(q) || row[1].contains(q) || (row[2] != null && row[2].contains(q))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static void report(String label, long[] nanos, long matches) {
+        System.out.printf("%s  p50 %8.3f ms  p99 %8.3f ms  max %8.3f ms  (%,d matches)%n", label,
+                percentile(nanos, 50) / 1e6, percentile(nanos, 99) / 1e6, percentile(nanos, 100) / 1e6, matches);
+    }
+
+    private static long percentile(long[] values, double p) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
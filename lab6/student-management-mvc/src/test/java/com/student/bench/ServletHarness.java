@@ -0,0 +1,220 @@
+package com.student.bench;
+
+import com.student.model.User;
+
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Just enough of a servlet container to call controllers in-process: requests, responses,
+ * sessions and a context are dynamic proxies backed by maps. Forwards to JSPs do nothing and
+ * response bodies are discarded, so a call measures the controller and everything below it,
+ * not view rendering or the network.
+ */
+class ServletHarness {
+
+    private final Map<String, Object> contextAttributes = new ConcurrentHashMap<>();
+    private final ServletContext context;
+
+    ServletHarness() {
+        context = proxy(ServletContext.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getAttribute":
+                    return contextAttributes.get((String) args[0]);
+                case "setAttribute":
+                    contextAttributes.put((String) args[0], args[1]);
+                    return null;
+                case "getContextPath":
+                    return "";
+                case "getAttributeNames":
+                case "getInitParameterNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    void setAttribute(String name, Object value) {
+        contextAttributes.put(name, value);
+    }
+
+    <T extends HttpServlet> T init(T servlet) throws ServletException {
+        ServletConfig config = proxy(ServletConfig.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getServletContext":
+                    return context;
+                case "getServletName":
+                    return servlet.getClass().getSimpleName();
+                case "getInitParameterNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        servlet.init(config);
+        return servlet;
+    }
+
+    /**
+     * Run one request through the servlet.
+     * @param user logged-in user, or null for a request without a session
+     * @param params name, value, name, value...
+     * @return the response status; redirects count as 302
+     */
+    int service(HttpServlet servlet, String method, String path, User user, String... params)
+            throws ServletException, IOException {
+        Map<String, String[]> parameters = new HashMap<>();
+        for (int i = 0; i + 1 < params.length; i += 2) {
+            if (params[i + 1] != null) {
+                parameters.put(params[i], new String[]{params[i + 1]});
+            }
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        HttpSession session = user == null ? null : session(user);
+        int[] status = {HttpServletResponse.SC_OK};
+
+        RequestDispatcher dispatcher = proxy(RequestDispatcher.class,
+                (proxy, m, args) -> defaultValue(m.getReturnType()));
+
+        HttpServletRequest request = proxy(HttpServletRequest.class, (proxy, m, args) -> {
+            switch (m.getName()) {
+                case "getMethod":
+                    return method;
+                case "getProtocol":
+                    return "HTTP/1.1";
+                case "getRequestURI":
+                case "getServletPath":
+                    return path;
+                case "getContextPath":
+                    return "";
+                case "getServletContext":
+                    return context;
+                case "getParameter": {
+                    String[] values = parameters.get((String) args[0]);
+                    return values == null ? null : values[0];
+                }
+                case "getParameterValues":
+                    return parameters.get((String) args[0]);
+                case "getParameterMap":
+                    return parameters;
+                case "getParameterNames":
+                    return Collections.enumeration(parameters.keySet());
+                case "getAttribute":
+                    return attributes.get((String) args[0]);
+                case "setAttribute":
+                    attributes.put((String) args[0], args[1]);
+                    return null;
+                case "removeAttribute":
+                    attributes.remove((String) args[0]);
+                    return null;
+                case "getSession":
+                    return session;
+                case "getRequestDispatcher":
+                    return dispatcher;
+                case "getCharacterEncoding":
+                    return "UTF-8";
+                case "getHeaders":
+                case "getHeaderNames":
+                case "getAttributeNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+
+        PrintWriter writer = new PrintWriter(Writer.nullWriter());
+        ServletOutputStream output = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        HttpServletResponse response = proxy(HttpServletResponse.class, (proxy, m, args) -> {
+            switch (m.getName()) {
+                case "getWriter":
+                    return writer;
+                case "getOutputStream":
+                    return output;
+                case "setStatus":
+                case "sendError":
+                    status[0] = (Integer) args[0];
+                    return null;
+                case "sendRedirect":
+                    status[0] = HttpServletResponse.SC_FOUND;
+                    return null;
+                case "getStatus":
+                    return status[0];
+                case "getCharacterEncoding":
+                    return "UTF-8";
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+
+        servlet.service(request, response);
+        writer.flush();
+        return status[0];
+    }
+
+    private static HttpSession session(User user) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("user", user);
+        attributes.put("role", user.getRole());
+        attributes.put("fullName", user.getFullName());
+        return proxy(HttpSession.class, (proxy, m, args) -> {
+            switch (m.getName()) {
+                case "getAttribute":
+                    return attributes.get((String) args[0]);
+                case "setAttribute":
+                    attributes.put((String) args[0], args[1]);
+                    return null;
+                case "removeAttribute":
+                    attributes.remove((String) args[0]);
+                    return null;
+                case "getId":
+                    return "bench";
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ServletHarness.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    // null for objects, zero or false for primitives
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.student.bench;
+
+import com.student.model.Student;
+import com.student.model.User;
+
+import java.sql.Timestamp;
+import java.util.Random;
+
+/**
+ * Produces realistic-looking synthetic students and users for benchmarks.
+ * Deterministic for a given seed so runs can be compared with each other.
+ */
+public class StudentDataGenerator {
+
+    static final String[] MAJORS = {
+            "Computer Science",
+            "Information Technology",
+            "Software Engineering",
+            "Business Administration"
+    };
+
+    // Skewed towards the first majors, like a real enrolment
+    private static final int[] MAJOR_WEIGHTS = {40, 30, 20, 10};
+
+    private static final String[] FAMILY_NAMES = {
+            "Nguyen", "Tran", "Le", "Pham", "Hoang", "Huynh", "Phan", "Vu", "Vo", "Dang",
+            "Bui", "Do", "Ho", "Ngo", "Duong", "Ly", "Smith", "Johnson", "Brown", "Garcia"
+    };
+
+    private static final String[] MIDDLE_NAMES = {
+            "Van", "Thi", "Minh", "Duc", "Ngoc", "Thanh", "Quoc", "Hoai", "Gia", "Bao"
+    };
+
+    private static final String[] GIVEN_NAMES = {
+            "An", "Binh", "Chau", "Dung", "Giang", "Hai", "Hanh", "Hung", "Khanh", "Lan",
+            "Linh", "Long", "Mai", "Nam", "Nhung", "Phuc", "Quang", "Son", "Thao", "Thien",
+            "Trang", "Tuan", "Viet", "Yen", "John", "Emma", "Liam", "Olivia", "Noah", "Mia"
+    };
+
+    private static final String[] DOMAINS = {"student.edu.vn", "gmail.com", "outlook.com", "yahoo.com"};
+
+    private final Random random;
+
+    public StudentDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param sequence 1-based position, used for the id and a unique student code
+     */
+    public Student next(int sequence) {
+        String family = pick(FAMILY_NAMES);
+        String given = pick(GIVEN_NAMES);
+        String fullName = family + " " + pick(MIDDLE_NAMES) + " " + given;
+
+        Student student = new Student();
+        student.setId(sequence);
+        student.setStudentCode(String.format("SV%06d", sequence));
+        student.setFullName(fullName);
+        // About one in ten students has no email on file
+        if (random.nextInt(10) != 0) {
+            student.setEmail((given + "." + family + sequence).toLowerCase() + "@" + pick(DOMAINS));
+        }
+        student.setMajor(pickMajor());
+        student.setCreatedAt(new Timestamp(System.currentTimeMillis() - (long) random.nextInt(365) * 86_400_000L));
+        return student;
+    }
+
+    /**
+     * @param sequence 1-based position, used for a unique username
+     * @param passwordHash BCrypt hash shared by every generated user; hashing one per user would
+     *                     make seeding take minutes
+     */
+    public User nextUser(int sequence, String passwordHash) {
+        String family = pick(FAMILY_NAMES);
+        String given = pick(GIVEN_NAMES);
+
+        // Roughly one admin per hundred accounts, and a few accounts switched off
+        User user = new User(String.format("user%06d", sequence), passwordHash,
+                family + " " + pick(MIDDLE_NAMES) + " " + given,
+                random.nextInt(100) == 0 ? "admin" : "user");
+        user.setId(sequence);
+        user.setActive(random.nextInt(50) != 0);
+        user.setCreatedAt(new Timestamp(System.currentTimeMillis() - (long) random.nextInt(730) * 86_400_000L));
+        return user;
+    }
+
+    public String pickMajor() {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < MAJORS.length; i++) {
+            roll -= MAJOR_WEIGHTS[i];
+            if (roll < 0) {
+                return MAJORS[i];
+            }
+        }
+        return MAJORS[MAJORS.length - 1];
+    }
+
+    /**
+     * A mix of what people type into the search box: mostly selective terms
+     * (a code, a full name, an email local part) and some broad ones.
+     */
+    public String randomSearchTerm(int population) {
+        int sequence = 1 + random.nextInt(population);
+        switch (random.nextInt(6)) {
+            case 0:
+                return String.format("SV%06d", sequence);
+            case 1:
+                return String.format("sv%04d", sequence / 100);
+            case 2:
+                return pick(GIVEN_NAMES).toLowerCase() + "." + pick(FAMILY_NAMES).toLowerCase() + sequence;
+            case 3:
+                return pick(FAMILY_NAMES) + " " + pick(MIDDLE_NAMES) + " " + pick(GIVEN_NAMES);
+            case 4:
+                return pick(GIVEN_NAMES);
+            default:
+                return pick(DOMAINS);
+        }
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -3,63 +3,254 @@ package com.example.productmanagement.controller;
 import com.example.productmanagement.entity.Product;
 import com.example.productmanagement.service.ProductService;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
 @Controller
 @RequestMapping("/export")
 public class ExportController {
-    
+
+    // Rows kept in memory by the workbook; older rows are flushed to a temp file
+    private static final int ROW_WINDOW = 100;
+
+    // Products read from the database per query
+    private static final int PAGE_SIZE = 500;
+
+    // Column widths are estimated from the first rows instead of measuring every cell
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int MAX_COLUMN_CHARS = 60;
+
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+
     @Autowired
     private ProductService productService;
-    
+
     @GetMapping("/excel")
     public void exportToExcel(HttpServletResponse response) throws IOException {
-        // Create Excel workbook
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Products");
-        
-        // Create header row
-        Row headerRow = sheet.createRow(0);
         String[] columns = {"ID", "Product Code", "Name", "Price", "Quantity", "Category", "Description"};
-        
-        for (int i = 0; i < columns.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(columns[i]);
-        }
-        
-        // Write data
-        List<Product> products = productService.getAllProducts();
-        int rowNum = 1;
-        
-        for (Product product : products) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(product.getId());
-            row.createCell(1).setCellValue(product.getProductCode());
-            row.createCell(2).setCellValue(product.getName());
-            row.createCell(3).setCellValue(product.getPrice().doubleValue());
-            row.createCell(4).setCellValue(product.getQuantity());
-            row.createCell(5).setCellValue(product.getCategory());
-            row.createCell(6).setCellValue(product.getDescription() != null ? product.getDescription() : "");
-        }
-        
-        // Auto-size columns
-        for (int i = 0; i < columns.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
-        
+
         // Send to browser
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         response.setHeader("Content-Disposition", "attachment; filename=products.xlsx");
-        
-        workbook.write(response.getOutputStream());
-        workbook.close();
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet("Products");
+
+            // Create header row
+            Row headerRow = sheet.createRow(0);
+            int[] widths = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                headerRow.createCell(i).setCellValue(columns[i]);
+                widths[i] = columns[i].length();
+            }
+
+            // Write data one page at a time, so only a page of products is loaded at once
+            int rowNum = 1;
+            Long lastId = 0L;
+            Slice<Product> page;
+            do {
+                page = productService.getProductsAfter(lastId, PAGE_SIZE);
+                for (Product product : page) {
+                    Row row = sheet.createRow(rowNum);
+                    row.createCell(0).setCellValue(product.getId());
+                    row.createCell(1).setCellValue(product.getProductCode());
+                    row.createCell(2).setCellValue(product.getName());
+                    row.createCell(3).setCellValue(product.getPrice().doubleValue());
+                    row.createCell(4).setCellValue(product.getQuantity());
+                    row.createCell(5).setCellValue(product.getCategory());
+                    row.createCell(6).setCellValue(product.getDescription() != null ? product.getDescription() : "");
+
+                    if (rowNum <= WIDTH_SAMPLE_ROWS) {
+                        for (Cell cell : row) {
+                            int length = cell.getCellType() == CellType.NUMERIC
+                                    ? String.valueOf(cell.getNumericCellValue()).length()
+                                    : cell.getStringCellValue().length();
+                            widths[cell.getColumnIndex()] = Math.max(widths[cell.getColumnIndex()], length);
+                        }
+                    }
+                    rowNum++;
+                    lastId = product.getId();
+                }
+            } while (page.hasNext());
+
+            // Width is in 1/256ths of a character, plus a little padding
+            for (int i = 0; i < columns.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(widths[i], MAX_COLUMN_CHARS) + 2) * 256);
+            }
+
+            workbook.write(response.getOutputStream());
+        } finally {
+            // Deletes the temp files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @GetMapping("/csv")
+    public void exportToCsv(@RequestParam(required = false) String name,
+                            @RequestParam(required = false) String category,
+                            @RequestParam(required = false) BigDecimal minPrice,
+                            @RequestParam(required = false) BigDecimal maxPrice,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        try (Writer out = openWriter(response, "text/csv", "products.csv", gzip)) {
+            out.write("id,product_code,name,price,quantity,category,description,created_at\r\n");
+            forEachProduct(name, category, minPrice, maxPrice, product -> {
+                out.write(String.valueOf(product.getId()));
+                out.write(',');
+                writeCsv(out, product.getProductCode());
+                out.write(',');
+                writeCsv(out, product.getName());
+                out.write(',');
+                out.write(product.getPrice().toPlainString());
+                out.write(',');
+                out.write(String.valueOf(product.getQuantity()));
+                out.write(',');
+                writeCsv(out, product.getCategory());
+                out.write(',');
+                writeCsv(out, product.getDescription());
+                out.write(',');
+                if (product.getCreatedAt() != null) {
+                    out.write(product.getCreatedAt().toString());
+                }
+                out.write("\r\n");
+            });
+        }
+    }
+
+    // One JSON object per line
+    @GetMapping("/ndjson")
+    public void exportToNdjson(@RequestParam(required = false) String name,
+                               @RequestParam(required = false) String category,
+                               @RequestParam(required = false) BigDecimal minPrice,
+                               @RequestParam(required = false) BigDecimal maxPrice,
+                               @RequestParam(defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        try (Writer out = openWriter(response, "application/x-ndjson", "products.ndjson", gzip)) {
+            forEachProduct(name, category, minPrice, maxPrice, product -> {
+                out.write("{\"id\":");
+                out.write(String.valueOf(product.getId()));
+                out.write(",\"productCode\":");
+                writeJson(out, product.getProductCode());
+                out.write(",\"name\":");
+                writeJson(out, product.getName());
+                out.write(",\"price\":");
+                out.write(product.getPrice().toPlainString());
+                out.write(",\"quantity\":");
+                out.write(String.valueOf(product.getQuantity()));
+                out.write(",\"category\":");
+                writeJson(out, product.getCategory());
+                out.write(",\"description\":");
+                writeJson(out, product.getDescription());
+                out.write(",\"createdAt\":");
+                writeJson(out, product.getCreatedAt() != null ? product.getCreatedAt().toString() : null);
+                out.write("}\n");
+            });
+        }
+    }
+
+    private interface ProductWriter {
+        void write(Product product) throws IOException;
+    }
+
+    private void forEachProduct(String name, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                ProductWriter writer) throws IOException {
+        try {
+            productService.forEachProduct(emptyToNull(name), emptyToNull(category), minPrice, maxPrice, product -> {
+                try {
+                    writer.write(product);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; stops the query instead of reading the rest
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * With gzip=true the download is a .gz file, compressed here rather than by the server,
+     * so it stays compressed when saved.
+     */
+    private Writer openWriter(HttpServletResponse response, String contentType, String filename, boolean gzip)
+            throws IOException {
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setContentType("application/gzip");
+            response.setHeader("Content-Disposition", "attachment; filename=" + filename + ".gz");
+            out = new GZIPOutputStream(out, WRITE_BUFFER_CHARS);
+        } else {
+            response.setContentType(contentType + ";charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=" + filename);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+    }
+
+    // Quoted only when needed, doubling embedded quotes (RFC 4180)
+    private static void writeCsv(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static void writeJson(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 }
@@ -4,7 +4,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductSummary;
+import com.example.productmanagement.service.ProductListing;
 import com.example.productmanagement.service.ProductService;
+import com.example.productmanagement.service.ProductSlice;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,9 +15,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.validation.BindingResult;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Controller
@@ -28,42 +32,32 @@ public class ProductController {
         this.productService = productService;
     }
 
-    // List all products
+    // List products a page at a time, following the after/before cursors of the page shown
     @GetMapping
     public String listProducts(
-            @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String category,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "false") boolean count,
             Model model) {
-        
-        Pageable pageable;
-        Page<Product> productPage;
-        
-        // Create sort if sortBy is specified
-        if (sortBy != null && !sortBy.isEmpty()) {
-            Sort sort = sortDir.equals("asc") ? 
-                Sort.by(sortBy).ascending() : 
-                Sort.by(sortBy).descending();
-            pageable = PageRequest.of(page, size, sort);
-        } else {
-            pageable = PageRequest.of(page, size);
-        }
-        
-        // Filter by category if specified
-        if (category != null && !category.isEmpty()) {
-            productPage = productService.getProductsByCategory(category, pageable);
-        } else {
-            productPage = productService.getAllProducts(pageable);
+
+        if (category != null && category.isEmpty()) {
+            category = null;
         }
-        
-        model.addAttribute("products", productPage.getContent());
-        model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", productPage.getTotalPages());
-        model.addAttribute("pageSize", size);
-        model.addAttribute("sortBy", sortBy);
-        model.addAttribute("sortDir", sortDir);
+        int pageSize = ProductListing.pageSize(size);
+        ProductSlice<ProductSummary> slice = productService.listProducts(category, sortBy, sortDir, after, before,
+                pageSize, count);
+
+        model.addAttribute("products", slice.getItems());
+        model.addAttribute("nextCursor", slice.getNextCursor());
+        model.addAttribute("previousCursor", slice.getPreviousCursor());
+        model.addAttribute("total", slice.getTotal());
+        model.addAttribute("pageSize", pageSize);
+        model.addAttribute("sortBy", sortBy == null ? null : ProductListing.sortProperty(sortBy));
+        model.addAttribute("sortDir", "desc".equalsIgnoreCase(sortDir) ? "desc" : "asc");
         model.addAttribute("selectedCategory", category);
         model.addAttribute("categories", productService.getAllCategories());
         
@@ -128,24 +122,47 @@ public class ProductController {
         return "redirect:/products";
     }
 
-    // Search products
+    // Search products, best match first, optionally within a category and price range
     @GetMapping("/search")
     public String searchProducts(
             @RequestParam(value = "keyword", required = false, defaultValue = "") String keyword,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             Model model) {
-    
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productPage = productService.searchProducts(keyword, pageable);
-        
+
+        if (category != null && category.trim().isEmpty()) {
+            category = null;
+        }
+        int pageSize = ProductListing.pageSize(size);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        Page<ProductSummary> productPage = productService.searchProducts(keyword, category, minPrice, maxPrice, pageable);
+
+        // Repeated on the pagination links
+        StringBuilder searchParams = new StringBuilder("keyword=").append(URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+        if (category != null) {
+            searchParams.append("&category=").append(URLEncoder.encode(category, StandardCharsets.UTF_8));
+        }
+        if (minPrice != null) {
+            searchParams.append("&minPrice=").append(minPrice.toPlainString());
+        }
+        if (maxPrice != null) {
+            searchParams.append("&maxPrice=").append(maxPrice.toPlainString());
+        }
+
         model.addAttribute("products", productPage.getContent());
         model.addAttribute("currentPage", page);
         model.addAttribute("totalPages", productPage.getTotalPages());
         model.addAttribute("keyword", keyword);
-        model.addAttribute("pageSize", size);
+        model.addAttribute("searchParams", searchParams.toString());
+        model.addAttribute("selectedCategory", category);
+        model.addAttribute("minPrice", minPrice);
+        model.addAttribute("maxPrice", maxPrice);
+        model.addAttribute("pageSize", pageSize);
         model.addAttribute("categories", productService.getAllCategories());
-        
+
         return "product-list";
     }
 
@@ -164,7 +181,7 @@ public class ProductController {
             category = null;
         }
         
-        List<Product> products = productService.searchProducts(name, category, minPrice, maxPrice);
+        List<ProductSummary> products = productService.searchProducts(name, category, minPrice, maxPrice);
         model.addAttribute("products", products);
         model.addAttribute("categories", productService.getAllCategories());
         model.addAttribute("selectedCategory", category);
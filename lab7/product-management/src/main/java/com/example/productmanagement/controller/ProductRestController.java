@@ -1,13 +1,17 @@
 package com.example.productmanagement.controller;
 
 import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.search.ProductSuggester;
+import com.example.productmanagement.service.ProductListing;
 import com.example.productmanagement.service.ProductService;
+import com.example.productmanagement.service.ProductSlice;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/products")
@@ -15,12 +19,36 @@ public class ProductRestController {
     
     @Autowired
     private ProductService productService;
+
+    @Autowired
+    private ProductSuggester productSuggester;
     
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        // Return JSON
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<ProductSlice<Map<String, Object>>> getAllProducts(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        // One page at most MAX_PAGE_SIZE long; pass nextCursor back as after for the next one.
+        // fields=id,name,... selects just those properties; without it, the summary columns.
+        if (category != null && category.isEmpty()) {
+            category = null;
+        }
+        return ResponseEntity.ok(productService.listProductFields(ProductListing.fields(fields), category,
+                sortBy, sortDir, after, before, ProductListing.pageSize(size), count));
+    }
+    
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggester.Suggestion>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        // Products whose code, name or a word of the name starts with q, most in stock first
+        int capped = Math.max(1, Math.min(limit, ProductSuggester.MAX_SUGGESTIONS));
+        return ResponseEntity.ok(productSuggester.suggest(q, capped));
     }
     
     @GetMapping("/{id}")
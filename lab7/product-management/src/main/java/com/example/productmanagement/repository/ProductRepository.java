@@ -3,22 +3,37 @@ package com.example.productmanagement.repository;
 import com.example.productmanagement.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    // Select list for queries returning ProductSummary; the aliases name its getters
+    String SUMMARY_COLUMNS = "p.id AS id, p.productCode AS productCode, p.name AS name, p.price AS price, " +
+            "p.quantity AS quantity, p.category AS category";
 
     List<Product> findByCategory(String category);
     
     Page<Product> findByCategory(String category, Pageable pageable);
 
-    Page<Product> findByNameContaining(String keyword, Pageable pageable);
+    Page<ProductSummary> findByNameContaining(String keyword, Pageable pageable);
+
+    List<ProductSummary> findByIdIn(Collection<Long> ids);
 
     List<Product> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
 
@@ -26,16 +41,58 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     boolean existsByProductCode(String productCode);
 
-    @Query("SELECT p FROM Product p WHERE " +
+    // Keyset paging by id: each call seeks straight to the next rows instead of skipping an OFFSET
+    Slice<Product> findByIdGreaterThan(Long id, Pageable pageable);
+
+    // Keyset paging on any sort: a KeysetScrollPosition becomes WHERE (sort key, id) > (…), no OFFSET and no COUNT
+    Window<ProductSummary> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<ProductSummary> findByCategory(String category, ScrollPosition position, Sort sort, Limit limit);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Product p WHERE " +
        "(:name IS NULL OR p.name LIKE %:name%) AND " +  
        "(:category IS NULL OR p.category = :category) AND " +
        "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
        "(:maxPrice IS NULL OR p.price <= :maxPrice)")
-    List<Product> searchProducts(@Param("name") String name,
+    List<ProductSummary> searchProducts(@Param("name") String name,
                                 @Param("category") String category,
                                 @Param("minPrice") BigDecimal minPrice,
                                 @Param("maxPrice") BigDecimal maxPrice);
 
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM Product p WHERE " +
+       "(:name IS NULL OR p.name LIKE %:name%) AND " +
+       "(:category IS NULL OR p.category = :category) AND " +
+       "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+       "(:maxPrice IS NULL OR p.price <= :maxPrice)",
+       countQuery = "SELECT COUNT(p) FROM Product p WHERE " +
+       "(:name IS NULL OR p.name LIKE %:name%) AND " +
+       "(:category IS NULL OR p.category = :category) AND " +
+       "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+       "(:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<ProductSummary> searchProducts(@Param("name") String name,
+                                @Param("category") String category,
+                                @Param("minPrice") BigDecimal minPrice,
+                                @Param("maxPrice") BigDecimal maxPrice,
+                                Pageable pageable);
+
+    // Same filters as searchProducts, streamed row by row: a fetch size of Integer.MIN_VALUE makes
+    // Connector/J read the result incrementally instead of buffering it. Close the stream; the
+    // connection can't run other statements until it is.
+    @Query("SELECT p FROM Product p WHERE " +
+       "(:name IS NULL OR p.name LIKE %:name%) AND " +
+       "(:category IS NULL OR p.category = :category) AND " +
+       "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+       "(:maxPrice IS NULL OR p.price <= :maxPrice) " +
+       "ORDER BY p.id")
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Product> streamProducts(@Param("name") String name,
+                                   @Param("category") String category,
+                                   @Param("minPrice") BigDecimal minPrice,
+                                   @Param("maxPrice") BigDecimal maxPrice);
+
 
    @Query("SELECT DISTINCT p.category FROM Product p ORDER BY p.category")
    List<String> findAllCategories();
@@ -51,5 +108,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
    @Query("SELECT p FROM Product p WHERE p.quantity < :threshold")
    List<Product> findLowStockProducts(@Param("threshold") int threshold);
+
+   // Each row is {category, count, sum of price, sum of price * quantity}
+   @Query("SELECT p.category, COUNT(p), SUM(p.price), SUM(p.price * p.quantity) FROM Product p GROUP BY p.category")
+   List<Object[]> summarizeByCategory();
+
+   List<Product> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
 }
 
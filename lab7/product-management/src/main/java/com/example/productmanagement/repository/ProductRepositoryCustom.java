@@ -0,0 +1,25 @@
+package com.example.productmanagement.repository;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Queries that Spring Data can't derive, implemented in ProductRepositoryCustomImpl.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Keyset-paged read of just the given product properties. Each row is a map from property
+     * name to value, in the order the properties were given.
+     *
+     * @param properties entity properties to select; must include the sort properties
+     * @param category   exact category, or null for any
+     * @param position   where to continue from; a KeysetScrollPosition over the sort properties
+     */
+    Window<Map<String, Object>> findFields(Collection<String> properties, String category,
+                                           ScrollPosition position, Sort sort, int limit);
+}
@@ -0,0 +1,106 @@
+package com.example.productmanagement.repository;
+
+import com.example.productmanagement.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // A tuple query, so rows come back as plain values and nothing enters the persistence context
+    @Override
+    public Window<Map<String, Object>> findFields(Collection<String> properties, String category,
+                                                  ScrollPosition position, Sort sort, int limit) {
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        boolean backward = keyset.scrollsBackward();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String property : properties) {
+            selections.add(product.get(property).alias(property));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> where = new ArrayList<>();
+        if (category != null) {
+            where.add(cb.equal(product.get("category"), category));
+        }
+        if (!keyset.getKeys().isEmpty()) {
+            where.add(seek(cb, product, sort, keyset.getKeys(), backward));
+        }
+        query.where(where.toArray(new Predicate[0]));
+
+        // Backward reads run the sort in reverse from the cursor, then flip the page back
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression<?> path = product.get(order.getProperty());
+            orders.add(order.isAscending() != backward ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+
+        List<Tuple> tuples = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = tuples.size() > limit;
+        List<Map<String, Object>> rows = new ArrayList<>(Math.min(tuples.size(), limit));
+        for (Tuple tuple : tuples.subList(0, Math.min(tuples.size(), limit))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String property : properties) {
+                row.put(property, tuple.get(property));
+            }
+            rows.add(row);
+        }
+        if (backward) {
+            Collections.reverse(rows);
+        }
+        return Window.from(rows, i -> ScrollPosition.forward(keysOf(rows.get(i), sort)), hasNext);
+    }
+
+    // (k1, k2, ...) after (v1, v2, ...) in sort order: k1 past v1, or k1 = v1 and k2 past v2, and so on
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(CriteriaBuilder cb, Root<Product> product, Sort sort, Map<String, ?> keys,
+                                  boolean backward) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression<Comparable> path = product.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            Predicate past = order.isAscending() != backward ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            List<Predicate> terms = new ArrayList<>(equalSoFar);
+            terms.add(past);
+            alternatives.add(cb.and(terms.toArray(new Predicate[0])));
+            equalSoFar.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    private static Map<String, Object> keysOf(Map<String, Object> row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), row.get(order.getProperty()));
+        }
+        return keys;
+    }
+}
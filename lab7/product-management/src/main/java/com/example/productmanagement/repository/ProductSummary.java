@@ -0,0 +1,22 @@
+package com.example.productmanagement.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * The columns a product list shows. Returned by the list queries of ProductRepository, which then
+ * select only these columns (no description or image path) and build no managed entities.
+ */
+public interface ProductSummary {
+
+    Long getId();
+
+    String getProductCode();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    Integer getQuantity();
+
+    String getCategory();
+}
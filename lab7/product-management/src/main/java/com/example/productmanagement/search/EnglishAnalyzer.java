@@ -0,0 +1,98 @@
+package com.example.productmanagement.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns text into search terms: lower-cased runs of letters and digits, common English words
+ * dropped, and each word reduced to a stem so "charging" and "charged" match "charge" and
+ * "chargers" matches "charger". The stemmer is deliberately light (plurals, -ed, -ing, -ly) and
+ * leaves -er alone ("power", "paper"): it never merges unrelated words, which matters more for
+ * product names than catching every form.
+ */
+public final class EnglishAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "its", "of", "on", "or", "that", "the", "this", "to", "with");
+
+    private EnglishAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!STOP_WORDS.contains(word)) {
+                    terms.add(stem(word));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word; // short words and codes like "p001" or "usb3" stay as they are
+        }
+
+        // Plurals
+        if (word.endsWith("ies") && word.length() > 4) {
+            word = word.substring(0, word.length() - 3) + "y";
+        } else if (word.endsWith("sses") || word.endsWith("shes") || word.endsWith("ches")
+                || word.endsWith("xes") || word.endsWith("zes")) {
+            word = word.substring(0, word.length() - 2);
+        } else if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            word = word.substring(0, word.length() - 1);
+        }
+
+        // Verb forms, only when a real stem is left behind
+        if (word.endsWith("ing") && hasVowel(word, word.length() - 3) && word.length() > 5) {
+            word = restoreStem(word.substring(0, word.length() - 3));
+        } else if (word.endsWith("ed") && !word.endsWith("eed") && hasVowel(word, word.length() - 2) && word.length() > 4) {
+            word = restoreStem(word.substring(0, word.length() - 2));
+        } else if (word.endsWith("ly") && word.length() > 5) {
+            word = word.substring(0, word.length() - 2);
+        }
+        return word;
+    }
+
+    // "charg" -> "charge", "stopp" -> "stop", "fix" -> "fix"
+    private static String restoreStem(String stem) {
+        int n = stem.length();
+        char last = stem.charAt(n - 1);
+        if (n >= 2 && last == stem.charAt(n - 2) && !isVowel(last) && last != 'l' && last != 's' && last != 'z') {
+            return stem.substring(0, n - 1);
+        }
+        if (stem.endsWith("at") || stem.endsWith("bl") || stem.endsWith("iz") || stem.endsWith("rg")
+                || stem.endsWith("dg") || stem.endsWith("nc") || stem.endsWith("rv")) {
+            return stem + "e";
+        }
+        return stem;
+    }
+
+    private static boolean hasVowel(String word, int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+}
@@ -0,0 +1,392 @@
+package com.example.productmanagement.search;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import com.example.productmanagement.service.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over product name and description, ranked with BM25.
+ *
+ * Name matches count NAME_WEIGHT times as much as description matches (the fields are folded
+ * into one weighted term frequency and length). Category and price are kept per document so
+ * searches can be filtered without touching the database; the database is only asked for the
+ * products on the requested page.
+ *
+ * Built from ProductRepository once the application is ready and then kept current from
+ * ProductChangedEvent after each commit. An updated product is indexed again under a new
+ * document number and the old one is marked deleted; deleted documents are purged once they
+ * make up a large part of the index.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int NAME_WEIGHT = 3;
+
+    private static final int BUILD_PAGE_SIZE = 1000;
+    private static final int MIN_DELETED_TO_COMPACT = 10_000;
+
+    /**
+     * One page of ranked results
+     */
+    public static class Hits {
+        private final List<Long> productIds;
+        private final long total;
+
+        Hits(List<Long> productIds, long total) {
+            this.productIds = productIds;
+            this.total = total;
+        }
+
+        // Best match first
+        public List<Long> getProductIds() {
+            return productIds;
+        }
+
+        // Number of matching products, across all pages
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    // Document numbers and weighted term frequencies, in the order documents were added
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Long, Integer> docByProduct = new HashMap<>();
+    private long[] productIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private String[] categories = new String[1024];
+    private BigDecimal[] prices = new BigDecimal[1024];
+    private BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    // Products changed while build() is scanning; the scan's copy of them may be stale
+    private Set<Long> touchedDuringBuild;
+    private volatile boolean ready;
+
+    @Autowired
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            long lastId = 0;
+            Slice<Product> page;
+            do {
+                page = productRepository.findByIdGreaterThan(lastId, PageRequest.of(0, BUILD_PAGE_SIZE, Sort.by("id")));
+                for (Product product : page) {
+                    add(product, true);
+                    lastId = product.getId();
+                }
+            } while (page.hasNext());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        touch(event.getProductId());
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+        } else {
+            productRepository.findById(event.getProductId()).ifPresent(this::add);
+        }
+    }
+
+    /**
+     * Index a product, replacing what was indexed for it before
+     */
+    public void add(Product product) {
+        add(product, false);
+    }
+
+    private void add(Product product, boolean fromScan) {
+        // Analysed outside the lock
+        Map<String, Integer> freqs = new LinkedHashMap<>();
+        int length = 0;
+        for (String term : EnglishAnalyzer.analyze(product.getName())) {
+            freqs.merge(term, NAME_WEIGHT, Integer::sum);
+            length += NAME_WEIGHT;
+        }
+        for (String term : EnglishAnalyzer.analyze(product.getDescription())) {
+            freqs.merge(term, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fromScan && touchedDuringBuild != null && touchedDuringBuild.contains(product.getId())) {
+                return;
+            }
+            removeLocked(product.getId());
+            int doc = docCount++;
+            if (doc == productIds.length) {
+                int capacity = doc * 2;
+                productIds = Arrays.copyOf(productIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+            productIds[doc] = product.getId();
+            lengths[doc] = length;
+            categories[doc] = product.getCategory();
+            prices[doc] = product.getPrice();
+            totalLength += length;
+            docByProduct.put(product.getId(), doc);
+            for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param category exact category, or null for any
+     * @param minPrice lowest price, or null
+     * @param maxPrice highest price, or null
+     * @param offset   number of ranked results to skip
+     * @param limit    page size
+     * @return an empty result when the query has no searchable words
+     */
+    public Hits search(String query, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                       long offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(EnglishAnalyzer.analyze(query)));
+        if (terms.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int live = docCount - deletedCount;
+            if (live == 0) {
+                return new Hits(List.of(), 0);
+            }
+            float averageLength = Math.max(1f, (float) totalLength / live);
+
+            // Dense scores by document number, plus the list of documents that got one
+            float[] scores = new float[docCount];
+            int[] matched = new int[64];
+            int matchCount = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                int df = 0;
+                for (int i = 0; i < list.size; i++) {
+                    if (!deleted.get(list.docs[i])) {
+                        df++;
+                    }
+                }
+                if (df == 0) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (live - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc) || !matches(doc, category, minPrice, maxPrice)) {
+                        continue;
+                    }
+                    float tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (matchCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchCount * 2);
+                        }
+                        matched[matchCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            if (offset >= matchCount) {
+                return new Hits(List.of(), matchCount);
+            }
+            int wanted = (int) Math.min(matchCount, offset + limit);
+
+            // Keep the best `wanted` documents; the head is the weakest of them. Ties go to the lower id.
+            PriorityQueue<Integer> best = new PriorityQueue<>(wanted + 1,
+                    (a, b) -> scores[a] != scores[b]
+                            ? Float.compare(scores[a], scores[b])
+                            : Long.compare(productIds[b], productIds[a]));
+            for (int i = 0; i < matchCount; i++) {
+                best.add(matched[i]);
+                if (best.size() > wanted) {
+                    best.poll();
+                }
+            }
+            Long[] ranked = new Long[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = productIds[best.poll()];
+            }
+            return new Hits(List.of(ranked).subList((int) offset, ranked.length), matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(int doc, String category, BigDecimal minPrice, BigDecimal maxPrice) {
+        if (category != null && !category.equals(categories[doc])) {
+            return false;
+        }
+        BigDecimal price = prices[doc];
+        if (minPrice != null && (price == null || price.compareTo(minPrice) < 0)) {
+            return false;
+        }
+        return maxPrice == null || (price != null && price.compareTo(maxPrice) <= 0);
+    }
+
+    private void touch(Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringBuild != null) {
+                touchedDuringBuild.add(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long productId) {
+        Integer doc = docByProduct.remove(productId);
+        if (doc != null) {
+            deleted.set(doc);
+            deletedCount++;
+            totalLength -= lengths[doc];
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount >= MIN_DELETED_TO_COMPACT && deletedCount > docCount / 2) {
+            compact();
+        }
+    }
+
+    // Renumber the live documents and drop deleted ones from every postings list
+    private void compact() {
+        int[] newNumber = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                newNumber[doc] = -1;
+            } else {
+                newNumber[doc] = live;
+                productIds[live] = productIds[doc];
+                lengths[live] = lengths[doc];
+                categories[live] = categories[doc];
+                prices[live] = prices[doc];
+                live++;
+            }
+        }
+        Arrays.fill(categories, live, docCount, null);
+        Arrays.fill(prices, live, docCount, null);
+
+        Map<String, Postings> compacted = new HashMap<>();
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            Postings old = entry.getValue();
+            Postings kept = new Postings();
+            for (int i = 0; i < old.size; i++) {
+                int doc = newNumber[old.docs[i]];
+                if (doc >= 0) {
+                    kept.add(doc, old.freqs[i]);
+                }
+            }
+            if (kept.size > 0) {
+                compacted.put(entry.getKey(), kept);
+            }
+        }
+        postings = compacted;
+
+        Map<Long, Integer> byProduct = new HashMap<>();
+        for (int doc = 0; doc < live; doc++) {
+            byProduct.put(productIds[doc], doc);
+        }
+        docByProduct = byProduct;
+        deleted = new BitSet();
+        docCount = live;
+        deletedCount = 0;
+    }
+}
@@ -0,0 +1,423 @@
+package com.example.productmanagement.search;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import com.example.productmanagement.service.ProductChangedEvent;
+import com.example.productmanagement.service.ProductSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over product names and codes: a radix tree (a trie with single-child chains merged
+ * into one edge) whose every node keeps its best MAX_SUGGESTIONS products, most in stock first.
+ * A lookup walks at most the length of the query and returns that list, so it costs the same
+ * however many products share the prefix and allocates only the result.
+ *
+ * Each product is reachable by its code, its full name and the rest of its name from each word,
+ * so "mouse" finds "Wireless Mouse". Kept current from ProductChangedEvent; a write updates the
+ * best-of lists only along the paths of the keys it touched.
+ */
+@Component
+public class ProductSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int BUILD_PAGE_SIZE = 1000;
+
+    private static final Suggestion[] NONE = new Suggestion[0];
+
+    // Most stock first, then by name so equal stock reads alphabetically
+    private static final Comparator<Suggestion> ORDER = Comparator.comparingInt(Suggestion::getQuantity).reversed()
+            .thenComparing(Suggestion::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Suggestion::getId);
+
+    /**
+     * What the endpoint returns for each match
+     */
+    public static class Suggestion {
+        private final Long id;
+        private final String productCode;
+        private final String name;
+        private final int quantity;
+
+        Suggestion(Long id, String productCode, String name, int quantity) {
+            this.id = id;
+            this.productCode = productCode;
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getProductCode() {
+            return productCode;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+
+    private static final class Node {
+        String label;
+        char[] firstChars = new char[0];
+        Node[] children = new Node[0];
+        // Products whose key ends exactly here
+        List<Suggestion> values = new ArrayList<>(1);
+        // Best of values and of every child's best
+        Suggestion[] best = NONE;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int find(char c) {
+            return Arrays.binarySearch(firstChars, c);
+        }
+
+        void addChild(Node child) {
+            int at = -(find(child.label.charAt(0)) + 1);
+            char[] chars = new char[firstChars.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, chars, 0, at);
+            System.arraycopy(children, 0, nodes, 0, at);
+            chars[at] = child.label.charAt(0);
+            nodes[at] = child;
+            System.arraycopy(firstChars, at, chars, at + 1, firstChars.length - at);
+            System.arraycopy(children, at, nodes, at + 1, children.length - at);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        void removeChild(int index) {
+            char[] chars = new char[firstChars.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+            System.arraycopy(firstChars, 0, chars, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            System.arraycopy(firstChars, index + 1, chars, index, chars.length - index);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        void recomputeBest() {
+            List<Suggestion> candidates = new ArrayList<>(values);
+            for (Node child : children) {
+                for (Suggestion s : child.best) {
+                    candidates.add(s);
+                }
+            }
+            candidates.sort(ORDER);
+            List<Suggestion> top = new ArrayList<>(MAX_SUGGESTIONS);
+            for (Suggestion s : candidates) {
+                if (top.size() == MAX_SUGGESTIONS) {
+                    break;
+                }
+                // A product can sit under a prefix through several keys
+                if (top.stream().noneMatch(t -> t.id.equals(s.id))) {
+                    top.add(s);
+                }
+            }
+            best = top.toArray(NONE);
+        }
+
+        // Adding a product can only push it into the list, so no full recompute is needed
+        void offer(Suggestion s) {
+            int at = 0;
+            for (Suggestion current : best) {
+                if (current.id.equals(s.id)) {
+                    return;
+                }
+            }
+            while (at < best.length && ORDER.compare(best[at], s) < 0) {
+                at++;
+            }
+            if (at >= MAX_SUGGESTIONS) {
+                return;
+            }
+            int size = Math.min(best.length + 1, MAX_SUGGESTIONS);
+            Suggestion[] updated = new Suggestion[size];
+            System.arraycopy(best, 0, updated, 0, at);
+            updated[at] = s;
+            System.arraycopy(best, at, updated, at + 1, size - at - 1);
+            best = updated;
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, Suggestion> byProduct = new HashMap<>();
+
+    // Products changed while build() is scanning; the scan's copy of them may be stale
+    private Set<Long> touchedDuringBuild;
+
+    @Autowired
+    public ProductSuggester(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * @return up to limit products with a code, name or name word starting with prefix (case-insensitive)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int index = node.find(key.charAt(i));
+                if (index < 0) {
+                    return List.of();
+                }
+                Node child = node.children[index];
+                String label = child.label;
+                int n = Math.min(label.length(), key.length() - i);
+                if (!key.regionMatches(i, label, 0, n)) {
+                    return List.of();
+                }
+                i += n;
+                node = child;
+            }
+            Suggestion[] best = node.best;
+            return List.of(best.length <= limit ? best : Arrays.copyOf(best, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            long lastId = 0;
+            Slice<Product> page;
+            do {
+                page = productRepository.findByIdGreaterThan(lastId, PageRequest.of(0, BUILD_PAGE_SIZE, Sort.by("id")));
+                for (Product product : page) {
+                    put(ProductSnapshot.of(product), true);
+                    lastId = product.getId();
+                }
+            } while (page.hasNext());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        touch(event.getProductId());
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+        } else {
+            put(event.getAfter());
+        }
+    }
+
+    public void put(ProductSnapshot product) {
+        put(product, false);
+    }
+
+    private void put(ProductSnapshot product, boolean fromScan) {
+        Suggestion suggestion = new Suggestion(product.getId(), product.getProductCode(), product.getName(),
+                product.getQuantity());
+        lock.writeLock().lock();
+        try {
+            if (fromScan && touchedDuringBuild != null && touchedDuringBuild.contains(product.getId())) {
+                return;
+            }
+            removeLocked(product.getId());
+            byProduct.put(product.getId(), suggestion);
+            for (String key : keys(suggestion)) {
+                insert(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void touch(Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringBuild != null) {
+                touchedDuringBuild.add(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long productId) {
+        Suggestion old = byProduct.remove(productId);
+        if (old != null) {
+            for (String key : keys(old)) {
+                delete(key, old);
+            }
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.find(key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                node = leaf;
+                path.add(leaf);
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // Split the edge where the key leaves it
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                middle.best = child.best;
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(child);
+            i += common;
+        }
+        if (node.values.stream().noneMatch(v -> v.id.equals(suggestion.id))) {
+            node.values.add(suggestion);
+        }
+        for (Node onPath : path) {
+            onPath.offer(suggestion);
+        }
+    }
+
+    private void delete(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.find(key.charAt(i));
+            if (index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            path.add(child);
+            i += child.label.length();
+        }
+        node.values.removeIf(v -> v.id.equals(suggestion.id));
+
+        for (int p = path.size() - 1; p >= 1; p--) {
+            Node current = path.get(p);
+            Node parent = path.get(p - 1);
+            if (current.values.isEmpty() && current.children.length == 0) {
+                parent.removeChild(parent.find(current.label.charAt(0)));
+            } else if (current.values.isEmpty() && current.children.length == 1) {
+                // Fold a node that no longer branches into its only child
+                Node only = current.children[0];
+                only.label = current.label + only.label;
+                parent.children[parent.find(current.label.charAt(0))] = only;
+            } else {
+                current.recomputeBest();
+            }
+        }
+        root.recomputeBest();
+    }
+
+    // Code, full name, and the name from each later word on
+    private static List<String> keys(Suggestion suggestion) {
+        List<String> keys = new ArrayList<>();
+        if (suggestion.productCode != null) {
+            keys.add(normalize(suggestion.productCode));
+        }
+        String name = normalize(suggestion.name);
+        if (!name.isEmpty()) {
+            keys.add(name);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                keys.add(name.substring(i + 1));
+            }
+        }
+        keys.removeIf(String::isEmpty);
+        return keys;
+    }
+
+    // Lower case, single spaces, trimmed; returns the text itself when it already is, as typed queries usually are
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        int length = text.length();
+        boolean clean = length == 0 || (text.charAt(0) != ' ' && text.charAt(length - 1) != ' ');
+        for (int i = 0; i < length && clean; i++) {
+            char c = text.charAt(i);
+            if (Character.toLowerCase(c) != c || (Character.isWhitespace(c) && (c != ' ' || text.charAt(i - 1) == ' '))) {
+                clean = false;
+            }
+        }
+        if (clean) {
+            return text;
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int n = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < n && label.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+}
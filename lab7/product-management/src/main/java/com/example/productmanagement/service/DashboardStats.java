@@ -0,0 +1,72 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the dashboard shows, computed up front so the template only renders it.
+ */
+public class DashboardStats {
+
+    private final long totalProducts;
+    private final Map<String, Long> categoryCounts;
+    private final BigDecimal totalValue;
+    private final BigDecimal averagePrice;
+    private final long lowStockCount;
+    private final List<ProductSnapshot> lowStockProducts;
+    private final List<Product> recentProducts;
+    private final LocalDateTime computedAt;
+
+    public DashboardStats(long totalProducts, Map<String, Long> categoryCounts, BigDecimal totalValue,
+                          BigDecimal averagePrice, long lowStockCount, List<ProductSnapshot> lowStockProducts,
+                          List<Product> recentProducts, LocalDateTime computedAt) {
+        this.totalProducts = totalProducts;
+        this.categoryCounts = Collections.unmodifiableMap(new LinkedHashMap<>(categoryCounts));
+        this.totalValue = totalValue;
+        this.averagePrice = averagePrice;
+        this.lowStockCount = lowStockCount;
+        this.lowStockProducts = List.copyOf(lowStockProducts);
+        this.recentProducts = List.copyOf(recentProducts);
+        this.computedAt = computedAt;
+    }
+
+    public long getTotalProducts() {
+        return totalProducts;
+    }
+
+    // In category name order
+    public Map<String, Long> getCategoryCounts() {
+        return categoryCounts;
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    public BigDecimal getAveragePrice() {
+        return averagePrice;
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    // At most DashboardStatsService.LOW_STOCK_SHOWN, lowest quantity first
+    public List<ProductSnapshot> getLowStockProducts() {
+        return lowStockProducts;
+    }
+
+    public List<Product> getRecentProducts() {
+        return recentProducts;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+}
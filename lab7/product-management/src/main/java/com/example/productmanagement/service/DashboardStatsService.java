@@ -0,0 +1,90 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the dashboard from the running ProductStatistics plus one query for the most recent
+ * products, and keeps the result for a short TTL, so opening the dashboard never loads the
+ * catalogue. Committed product changes drop the cached copy.
+ */
+@Service
+public class DashboardStatsService {
+
+    public static final int LOW_STOCK_SHOWN = 50;
+    public static final int RECENT_SHOWN = 5;
+
+    private final ProductRepository productRepository;
+    private final ProductStatistics productStatistics;
+    private final long ttlMillis;
+
+    private volatile DashboardStats cached;
+    private volatile long expiresAt;
+    // Bumped by every write, so a snapshot computed across a write isn't cached
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public DashboardStatsService(ProductRepository productRepository, ProductStatistics productStatistics,
+                                 @Value("${dashboard.stats.ttl-seconds:30}") long ttlSeconds) {
+        this.productRepository = productRepository;
+        this.productStatistics = productStatistics;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public DashboardStats getStats() {
+        DashboardStats stats = cached;
+        if (stats != null && System.currentTimeMillis() < expiresAt) {
+            return stats;
+        }
+        return refresh();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        cached = null;
+    }
+
+    // After commit, so a refresh can't read and cache the data from before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate();
+    }
+
+    // One request recomputes while others wait and then reuse its result
+    private synchronized DashboardStats refresh() {
+        DashboardStats stats = cached;
+        if (stats != null && System.currentTimeMillis() < expiresAt) {
+            return stats;
+        }
+        long loadedVersion = version.get();
+        stats = load();
+        if (loadedVersion == version.get()) {
+            expiresAt = System.currentTimeMillis() + ttlMillis;
+            cached = stats;
+        }
+        return stats;
+    }
+
+    private DashboardStats load() {
+        ProductStatistics.Snapshot totals = productStatistics.getSnapshot();
+        Map<String, Long> categoryCounts = new LinkedHashMap<>();
+        totals.getByCategory().forEach((category, t) -> categoryCounts.put(category, t.getCount()));
+
+        List<Product> recent = productRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(0, RECENT_SHOWN));
+
+        return new DashboardStats(totals.getTotal().getCount(), categoryCounts, totals.getTotal().getValueSum(),
+                totals.getTotal().getAveragePrice(), totals.getLowStockCount(), totals.getLowStock(LOW_STOCK_SHOWN),
+                recent, LocalDateTime.now());
+    }
+}
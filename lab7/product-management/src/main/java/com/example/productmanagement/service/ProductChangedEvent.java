@@ -0,0 +1,34 @@
+package com.example.productmanagement.service;
+
+/**
+ * Published by ProductServiceImpl when a product is saved or deleted, with the product as it was
+ * before (null for a new product) and after (null when deleted).
+ * Listeners that cache derived data should use @TransactionalEventListener so they only react
+ * once the change is committed.
+ */
+public class ProductChangedEvent {
+
+    private final ProductSnapshot before;
+    private final ProductSnapshot after;
+
+    public ProductChangedEvent(ProductSnapshot before, ProductSnapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Long getProductId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public ProductSnapshot getBefore() {
+        return before;
+    }
+
+    public ProductSnapshot getAfter() {
+        return after;
+    }
+
+    public boolean isDeleted() {
+        return after == null;
+    }
+}
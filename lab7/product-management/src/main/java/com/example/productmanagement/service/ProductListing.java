@@ -0,0 +1,135 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.repository.ProductSummary;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Rules for keyset-paged product listings: which columns can be sorted on, page size limits,
+ * the fields an API client can ask for, and the cursor format. A cursor holds the sort column, the id and the sort value of the row
+ * to continue from, so the next page is a seek on (sort value, id) rather than an OFFSET.
+ */
+public final class ProductListing {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Request value -> entity property. Only non-null columns, so (value, id) always orders rows.
+    private static final Map<String, Function<ProductSummary, Object>> SORTABLE = new LinkedHashMap<>();
+
+    static {
+        SORTABLE.put("id", ProductSummary::getId);
+        SORTABLE.put("name", ProductSummary::getName);
+        SORTABLE.put("productCode", ProductSummary::getProductCode);
+        SORTABLE.put("price", ProductSummary::getPrice);
+        SORTABLE.put("quantity", ProductSummary::getQuantity);
+    }
+
+    // Product properties that can be requested with fields=
+    private static final Set<String> FIELDS = Set.of("id", "productCode", "name", "price", "quantity", "category",
+            "description", "imagePath", "createdAt");
+
+    // What a list returns when no fields are requested: the ProductSummary columns
+    public static final List<String> SUMMARY_FIELDS = List.of("id", "productCode", "name", "price", "quantity",
+            "category");
+
+    private ProductListing() {
+    }
+
+    /**
+     * @return sortBy if it is a sortable column, otherwise id
+     */
+    public static String sortProperty(String sortBy) {
+        return sortBy != null && SORTABLE.containsKey(sortBy) ? sortBy : "id";
+    }
+
+    public static int pageSize(int requested) {
+        return requested < 1 ? DEFAULT_PAGE_SIZE : Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    // The sort column, then id to break ties
+    public static Sort sort(String property, String sortDir) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, property);
+        return property.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * @param fields comma-separated property names, e.g. "id,name,price"
+     * @return the known ones in the order given, or SUMMARY_FIELDS when there are none
+     */
+    public static List<String> fields(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                if (FIELDS.contains(field.trim())) {
+                    requested.add(field.trim());
+                }
+            }
+        }
+        return requested.isEmpty() ? SUMMARY_FIELDS : new ArrayList<>(requested);
+    }
+
+    public static String cursorFor(ProductSummary product, String property) {
+        return cursorFor(property, product.getId(), SORTABLE.get(property).apply(product));
+    }
+
+    // For rows read with ProductRepository.findFields, which always include id and the sort property
+    public static String cursorFor(Map<String, Object> row, String property) {
+        return cursorFor(property, row.get("id"), row.get(property));
+    }
+
+    private static String cursorFor(String property, Object id, Object value) {
+        String raw = property + "\n" + id + "\n" + (value instanceof BigDecimal
+                ? ((BigDecimal) value).toPlainString() : String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param backward true to read the rows before the cursor
+     * @return the position to scroll from; the start when the cursor is missing, malformed or
+     *         made for a different sort column
+     */
+    public static ScrollPosition position(String cursor, String property, boolean backward) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length != 3 || !parts[0].equals(property)) {
+                return ScrollPosition.keyset();
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (!property.equals("id")) {
+                keys.put(property, parseValue(property, parts[2]));
+            }
+            keys.put("id", Long.valueOf(parts[1]));
+            return backward ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException e) {
+            return ScrollPosition.keyset();
+        }
+    }
+
+    private static Object parseValue(String property, String value) {
+        switch (property) {
+            case "price":
+                return new BigDecimal(value);
+            case "quantity":
+                return Integer.valueOf(value);
+            default:
+                return value;
+        }
+    }
+}
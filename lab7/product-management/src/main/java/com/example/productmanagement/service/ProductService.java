@@ -1,12 +1,16 @@
 package com.example.productmanagement.service;
 
 import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductSummary;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 public interface ProductService {
@@ -16,19 +20,32 @@ public interface ProductService {
     
     List<Product> getAllProducts(Sort sort);
 
+    Slice<Product> getProductsAfter(Long lastId, int size);
+
+    ProductSlice<ProductSummary> listProducts(String category, String sortBy, String sortDir, String after,
+                                              String before, int size, boolean count);
+
+    ProductSlice<Map<String, Object>> listProductFields(List<String> fields, String category, String sortBy,
+                                                        String sortDir, String after, String before, int size,
+                                                        boolean count);
+
     Optional<Product> getProductById(Long id);
 
     Product saveProduct(Product product);
 
     void deleteProduct(Long id);
 
-    Page<Product> searchProducts(String keyword, Pageable pageable);
+    Page<ProductSummary> searchProducts(String keyword, Pageable pageable);
+
+    Page<ProductSummary> searchProducts(String keyword, String category, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
 
     List<Product> getProductsByCategory(String category);
     
     Page<Product> getProductsByCategory(String category, Pageable pageable);
     
-    List<Product> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice);
+    List<ProductSummary> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice);
+
+    void forEachProduct(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Consumer<Product> action);
 
     List<String> getAllCategories();
     
@@ -1,27 +1,59 @@
 package com.example.productmanagement.service;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import com.example.productmanagement.entity.Product;
 import com.example.productmanagement.repository.ProductRepository;
+import com.example.productmanagement.repository.ProductSummary;
+import com.example.productmanagement.search.ProductSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    // The best matches an unpaged search returns; also bounds the id list sent to findByIdIn
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductStatistics productStatistics;
+    private final ProductSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, ApplicationEventPublisher eventPublisher,
+                              ProductStatistics productStatistics, ProductSearchIndex searchIndex) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.productStatistics = productStatistics;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -39,6 +71,86 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.findAll(sort);
     }
 
+    // The page is detached before it is returned. With open-in-view every call in a request shares
+    // one persistence context, which would otherwise keep every page read so far.
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> getProductsAfter(Long lastId, int size) {
+        Slice<Product> page = productRepository.findByIdGreaterThan(lastId, PageRequest.of(0, size, Sort.by("id")));
+        page.forEach(entityManager::detach);
+        return page;
+    }
+
+    /**
+     * One page of the product list, sorted on a whitelisted column with id breaking ties and read
+     * by seeking past the cursor row, so every page costs the same however deep it is. Only the
+     * ProductSummary columns are selected.
+     *
+     * @param after  cursor of the last row already shown, to read the next page
+     * @param before cursor of the first row already shown, to read the page before it
+     * @param count  whether to also count the matching products
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSlice<ProductSummary> listProducts(String category, String sortBy, String sortDir, String after,
+                                                     String before, int size, boolean count) {
+        String property = ProductListing.sortProperty(sortBy);
+        Sort sort = ProductListing.sort(property, sortDir);
+        boolean backward = before != null && !before.isBlank();
+        ScrollPosition position = ProductListing.position(backward ? before : after, property, backward);
+        Limit limit = Limit.of(ProductListing.pageSize(size));
+
+        Window<ProductSummary> window = category == null
+                ? productRepository.findAllBy(position, sort, limit)
+                : productRepository.findByCategory(category, position, sort, limit);
+        return slice(window.getContent(), window.hasNext(), position, backward,
+                p -> ProductListing.cursorFor(p, property), category, count);
+    }
+
+    /**
+     * Like listProducts, but selects only the requested properties. The id and sort column are
+     * read as well for the cursors and dropped again unless they were asked for.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSlice<Map<String, Object>> listProductFields(List<String> fields, String category, String sortBy,
+                                                               String sortDir, String after, String before, int size,
+                                                               boolean count) {
+        String property = ProductListing.sortProperty(sortBy);
+        Sort sort = ProductListing.sort(property, sortDir);
+        boolean backward = before != null && !before.isBlank();
+        ScrollPosition position = ProductListing.position(backward ? before : after, property, backward);
+
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add("id");
+        selected.add(property);
+        Window<Map<String, Object>> window = productRepository.findFields(selected, category, position, sort,
+                ProductListing.pageSize(size));
+        ProductSlice<Map<String, Object>> slice = slice(window.getContent(), window.hasNext(), position, backward,
+                row -> ProductListing.cursorFor(row, property), category, count);
+        if (selected.size() > fields.size()) {
+            for (Map<String, Object> row : slice.getItems()) {
+                row.keySet().retainAll(fields);
+            }
+        }
+        return slice;
+    }
+
+    private <T> ProductSlice<T> slice(List<T> items, boolean windowHasNext, ScrollPosition position,
+                                      boolean backward, Function<T, String> cursor, String category, boolean count) {
+        // Reading backward, the window's "next" is the page further back
+        boolean hasNext = backward || windowHasNext;
+        boolean hasPrevious = backward ? windowHasNext : !position.isInitial();
+        String nextCursor = hasNext && !items.isEmpty() ? cursor.apply(items.get(items.size() - 1)) : null;
+        String previousCursor = hasPrevious && !items.isEmpty() ? cursor.apply(items.get(0)) : null;
+
+        Long total = null;
+        if (count) {
+            total = category == null ? productRepository.count() : productRepository.countByCategory(category);
+        }
+        return new ProductSlice<>(items, nextCursor, previousCursor, total);
+    }
+
     @Override
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
@@ -46,17 +158,44 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        // The stored row, read before the form values are merged into it
+        ProductSnapshot before = product.getId() == null ? null
+                : productRepository.findById(product.getId()).map(ProductSnapshot::of).orElse(null);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(before, ProductSnapshot.of(saved)));
+        return saved;
     }
 
     @Override
     public void deleteProduct(Long id) {
-        productRepository.deleteById(id);
+        Optional<Product> existing = productRepository.findById(id);
+        if (existing.isPresent()) {
+            ProductSnapshot before = ProductSnapshot.of(existing.get());
+            productRepository.delete(existing.get());
+            eventPublisher.publishEvent(new ProductChangedEvent(before, null));
+        }
+    }
+
+    @Override
+    public Page<ProductSummary> searchProducts(String keyword, Pageable pageable) {
+        return searchProducts(keyword, null, null, null, pageable);
     }
 
+    // Ranked search over name and description; LIKE on the name until the index has been built
     @Override
-    public Page<Product> searchProducts(String keyword, Pageable pageable) {
-        return productRepository.findByNameContaining(keyword, pageable);
+    public Page<ProductSummary> searchProducts(String keyword, String category, BigDecimal minPrice,
+                                               BigDecimal maxPrice, Pageable pageable) {
+        String name = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        if (name == null || !searchIndex.isReady()) {
+            if (category == null && minPrice == null && maxPrice == null) {
+                return productRepository.findByNameContaining(name == null ? "" : name, pageable);
+            }
+            return productRepository.searchProducts(name, category, minPrice, maxPrice, pageable);
+        }
+
+        ProductSearchIndex.Hits hits = searchIndex.search(name, category, minPrice, maxPrice,
+                pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllInOrder(hits.getProductIds()), pageable, hits.getTotal());
     }
 
     @Override
@@ -70,8 +209,44 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public List<Product> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice) {
-        return productRepository.searchProducts(name, category, minPrice, maxPrice);
+    public List<ProductSummary> searchProducts(String name, String category, BigDecimal minPrice,
+                                               BigDecimal maxPrice) {
+        if (name == null || !searchIndex.isReady()) {
+            return productRepository.searchProducts(name, category, minPrice, maxPrice);
+        }
+        ProductSearchIndex.Hits hits = searchIndex.search(name, category, minPrice, maxPrice, 0,
+                MAX_SEARCH_RESULTS);
+        return findAllInOrder(hits.getProductIds());
+    }
+
+    // findByIdIn doesn't keep the order of the ids
+    private List<ProductSummary> findAllInOrder(List<Long> ids) {
+        Map<Long, ProductSummary> byId = new HashMap<>();
+        for (ProductSummary product : productRepository.findByIdIn(ids)) {
+            byId.put(product.getId(), product);
+        }
+        List<ProductSummary> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductSummary product = byId.get(id);
+            if (product != null) {
+                ordered.add(product);
+            }
+        }
+        return ordered;
+    }
+
+    // The stream only lives inside this transaction. Each product is detached once handled so the
+    // persistence context doesn't grow with the result set.
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachProduct(String name, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                               Consumer<Product> action) {
+        try (Stream<Product> products = productRepository.streamProducts(name, category, minPrice, maxPrice)) {
+            products.forEach(product -> {
+                action.accept(product);
+                entityManager.detach(product);
+            });
+        }
     }
 
     @Override
@@ -81,17 +256,17 @@ public class ProductServiceImpl implements ProductService {
     
     @Override
     public long countByCategory(String category) {
-        return productRepository.countByCategory(category);
+        return productStatistics.getSnapshot().getCategory(category).getCount();
     }
     
     @Override
     public BigDecimal calculateTotalValue() {
-        return productRepository.calculateTotalValue();
+        return productStatistics.getSnapshot().getTotal().getValueSum();
     }
     
     @Override
     public BigDecimal calculateAveragePrice() {
-        return productRepository.calculateAveragePrice();
+        return productStatistics.getSnapshot().getTotal().getAveragePrice();
     }
     
     @Override
@@ -0,0 +1,39 @@
+package com.example.productmanagement.service;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paged listing. Cursors are opaque strings for the after/before
+ * parameters; null when there is nothing further in that direction.
+ */
+public class ProductSlice<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final String previousCursor;
+    private final Long total;
+
+    public ProductSlice(List<T> items, String nextCursor, String previousCursor, Long total) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+        this.total = total;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    // Only counted when asked for; null otherwise
+    public Long getTotal() {
+        return total;
+    }
+}
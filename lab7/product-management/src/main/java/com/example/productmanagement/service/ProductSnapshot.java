@@ -0,0 +1,61 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * The fields of a product that statistics depend on, copied so they can't change underneath.
+ */
+public class ProductSnapshot {
+
+    private final Long id;
+    private final String productCode;
+    private final String name;
+    private final BigDecimal price;
+    private final int quantity;
+    private final String category;
+
+    public ProductSnapshot(Long id, String productCode, String name, BigDecimal price, int quantity, String category) {
+        this.id = id;
+        this.productCode = productCode;
+        this.name = name;
+        this.price = price != null ? price : BigDecimal.ZERO;
+        this.quantity = quantity;
+        this.category = category;
+    }
+
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(product.getId(), product.getProductCode(), product.getName(), product.getPrice(),
+                product.getQuantity() != null ? product.getQuantity() : 0, product.getCategory());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    // price × quantity
+    public BigDecimal getValue() {
+        return price.multiply(BigDecimal.valueOf(quantity));
+    }
+}
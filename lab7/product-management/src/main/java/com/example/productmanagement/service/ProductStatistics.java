@@ -0,0 +1,255 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running catalogue aggregates: product count, total value (price × quantity), price sums per
+ * category and the set of low-stock products. Updated from ProductChangedEvent after each commit,
+ * so reads are a field access however large the catalogue is. Writes that bypass
+ * ProductService (SQL scripts, other apps) are picked up by a periodic reconcile against the DB.
+ */
+@Service
+public class ProductStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductStatistics.class);
+
+    public static final int LOW_STOCK_THRESHOLD = 10;
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+
+    private static final Comparator<ProductSnapshot> LOW_STOCK_ORDER =
+            Comparator.comparingInt(ProductSnapshot::getQuantity).thenComparing(ProductSnapshot::getId);
+
+    /**
+     * Totals for one category, or for the whole catalogue
+     */
+    public static class Totals {
+        private final long count;
+        private final BigDecimal priceSum;
+        private final BigDecimal valueSum;
+
+        Totals(long count, BigDecimal priceSum, BigDecimal valueSum) {
+            this.count = count;
+            this.priceSum = priceSum;
+            this.valueSum = valueSum;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public BigDecimal getPriceSum() {
+            return priceSum;
+        }
+
+        public BigDecimal getValueSum() {
+            return valueSum;
+        }
+
+        // null when empty, like AVG() over no rows
+        public BigDecimal getAveragePrice() {
+            return count == 0 ? null : priceSum.divide(BigDecimal.valueOf(count), 6, RoundingMode.HALF_UP);
+        }
+
+        Totals plus(ProductSnapshot p, int sign) {
+            return new Totals(count + sign,
+                    sign > 0 ? priceSum.add(p.getPrice()) : priceSum.subtract(p.getPrice()),
+                    sign > 0 ? valueSum.add(p.getValue()) : valueSum.subtract(p.getValue()));
+        }
+
+        boolean sameAs(Totals other) {
+            return count == other.count && priceSum.compareTo(other.priceSum) == 0
+                    && valueSum.compareTo(other.valueSum) == 0;
+        }
+    }
+
+    private static final Totals EMPTY = new Totals(0, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    /**
+     * Immutable view handed to readers; a write builds a new one
+     */
+    public static class Snapshot {
+        private final Totals total;
+        private final Map<String, Totals> byCategory;
+        private final Map<Long, ProductSnapshot> lowStock;
+
+        Snapshot(Totals total, Map<String, Totals> byCategory, Map<Long, ProductSnapshot> lowStock) {
+            this.total = total;
+            this.byCategory = Collections.unmodifiableMap(byCategory);
+            this.lowStock = Collections.unmodifiableMap(lowStock);
+        }
+
+        public Totals getTotal() {
+            return total;
+        }
+
+        // In category name order
+        public Map<String, Totals> getByCategory() {
+            return byCategory;
+        }
+
+        public Totals getCategory(String category) {
+            return byCategory.getOrDefault(category, EMPTY);
+        }
+
+        public int getLowStockCount() {
+            return lowStock.size();
+        }
+
+        // Lowest quantity first
+        public List<ProductSnapshot> getLowStock(int limit) {
+            List<ProductSnapshot> products = new ArrayList<>(lowStock.values());
+            products.sort(LOW_STOCK_ORDER);
+            return products.size() > limit ? products.subList(0, limit) : products;
+        }
+    }
+
+    private final ProductRepository productRepository;
+
+    private volatile Snapshot snapshot;
+    // Counts applied changes, so a reconcile that ran across one doesn't overwrite it
+    private long version;
+
+    @Autowired
+    public ProductStatistics(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reconcile();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // Ahead of the listeners that read these totals
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (this) {
+            version++;
+            Snapshot current = snapshot;
+            if (current == null) {
+                return; // not loaded yet; the first read loads everything
+            }
+            Totals total = current.total;
+            Map<String, Totals> byCategory = new TreeMap<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+            byCategory.putAll(current.byCategory);
+            Map<Long, ProductSnapshot> lowStock = new HashMap<>(current.lowStock);
+
+            ProductSnapshot before = event.getBefore();
+            if (before != null) {
+                total = total.plus(before, -1);
+                Totals category = byCategory.getOrDefault(before.getCategory(), EMPTY).plus(before, -1);
+                if (category.count <= 0) {
+                    byCategory.remove(before.getCategory());
+                } else {
+                    byCategory.put(before.getCategory(), category);
+                }
+                lowStock.remove(before.getId());
+            }
+
+            ProductSnapshot after = event.getAfter();
+            if (after != null) {
+                total = total.plus(after, 1);
+                byCategory.put(after.getCategory(), byCategory.getOrDefault(after.getCategory(), EMPTY).plus(after, 1));
+                if (after.getQuantity() < LOW_STOCK_THRESHOLD) {
+                    lowStock.put(after.getId(), after);
+                }
+            }
+            snapshot = new Snapshot(total, byCategory, lowStock);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    /**
+     * Recompute everything from the database and replace the running totals, logging any drift.
+     */
+    @Scheduled(fixedDelayString = "${product.stats.reconcile-ms:300000}",
+               initialDelayString = "${product.stats.reconcile-ms:300000}")
+    public void reconcile() {
+        // Changes that commit before the first snapshot exists aren't applied anywhere, so if one
+        // lands while the first load reads, read again rather than install totals that may miss it
+        for (int attempt = 1; !reconcileOnce(attempt >= MAX_LOAD_ATTEMPTS); attempt++) {
+            log.debug("Product statistics changed while loading; reading them again");
+        }
+    }
+
+    /**
+     * @param force install the result even if this is the first load and a change landed during it
+     * @return false if the first load has to be read again
+     */
+    private boolean reconcileOnce(boolean force) {
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+
+        Totals total = EMPTY;
+        Map<String, Totals> byCategory = new TreeMap<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        for (Object[] row : productRepository.summarizeByCategory()) {
+            Totals category = new Totals(((Number) row[1]).longValue(), decimal(row[2]), decimal(row[3]));
+            byCategory.put((String) row[0], category);
+            total = new Totals(total.count + category.count, total.priceSum.add(category.priceSum),
+                    total.valueSum.add(category.valueSum));
+        }
+        Map<Long, ProductSnapshot> lowStock = new HashMap<>();
+        for (Product product : productRepository.findLowStockProducts(LOW_STOCK_THRESHOLD)) {
+            lowStock.put(product.getId(), ProductSnapshot.of(product));
+        }
+
+        synchronized (this) {
+            if (version != startVersion) {
+                if (snapshot != null) {
+                    // A change landed while reading; the totals may or may not include it. Try again next time.
+                    return true;
+                }
+                if (!force) {
+                    return false;
+                }
+                log.warn("Product statistics kept changing while loading; the next reconcile will correct any drift");
+            }
+            Snapshot previous = snapshot;
+            if (previous != null && (!previous.total.sameAs(total) || previous.lowStock.size() != lowStock.size())) {
+                log.warn("Product statistics drifted from the database ({} products, value {}; database has {}, {})",
+                        previous.total.count, previous.total.valueSum, total.count, total.valueSum);
+            }
+            snapshot = new Snapshot(total, byCategory, lowStock);
+            return true;
+        }
+    }
+
+    private static BigDecimal decimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+}
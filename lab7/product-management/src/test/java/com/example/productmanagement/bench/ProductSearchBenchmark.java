@@ -0,0 +1,160 @@
+package com.example.productmanagement.bench;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.search.ProductSearchIndex;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares ProductSearchIndex with the LIKE '%keyword%' path on a synthetic catalogue.
+ *
+ * The LIKE path is modelled in memory: every product's name is checked case-insensitively, as
+ * MySQL does for each row of the scan, plus a second pass for the page COUNT. That leaves out
+ * disk reads and row decoding, so the real query is slower than shown here.
+ *
+ * Run from the product-management directory after test-compile:
+ *   java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *       com.example.productmanagement.bench.ProductSearchBenchmark [products] [queries]
+ * where cp.txt comes from mvn dependency:build-classpath -Dmdep.outputFile=cp.txt
+ */
+public class ProductSearchBenchmark {
+
+    private static final String[] BRANDS = {"Acme", "Zenith", "Nova", "Orion", "Vertex", "Lumen", "Apex", "Pulse"};
+    private static final String[] ADJECTIVES = {"Wireless", "Portable", "Compact", "Smart", "Ergonomic", "Rechargeable",
+            "Waterproof", "Premium", "Mechanical", "Ultra", "Slim", "Gaming", "Professional", "Mini"};
+    private static final String[] NOUNS = {"Keyboard", "Mouse", "Headphones", "Speaker", "Charger", "Monitor", "Laptop",
+            "Camera", "Router", "Tablet", "Watch", "Drone", "Printer", "Microphone", "Lamp", "Backpack"};
+    private static final String[] DESCRIPTION_WORDS = {"battery", "lasts", "hours", "with", "fast", "charging",
+            "durable", "aluminium", "body", "designed", "for", "travel", "office", "and", "home", "use", "includes",
+            "cable", "adapter", "warranty", "bluetooth", "connection", "noise", "cancelling", "lightweight", "comfortable",
+            "high", "resolution", "display", "storage", "memory", "quiet", "keys", "backlit", "adjustable", "stand"};
+    private static final String[] CATEGORIES = {"Electronics", "Accessories", "Computers", "Audio", "Office", "Outdoor"};
+
+    public static void main(String[] args) {
+        int productCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int queryCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Random random = new Random(42);
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 1; i <= productCount; i++) {
+            products.add(generate(i, random));
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        for (Product product : products) {
+            index.add(product);
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf(Locale.ROOT, "Indexed %,d products in %,d ms, about %,d MB of heap%n",
+                productCount, buildMillis, (heapAfter - heapBefore) >> 20);
+
+        String[] queries = new String[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            queries[i] = random.nextBoolean()
+                    ? pick(ADJECTIVES, random) + " " + pick(NOUNS, random)
+                    : pick(NOUNS, random);
+        }
+
+        // Warm up both paths
+        for (int i = 0; i < Math.min(20, queryCount); i++) {
+            index.search(queries[i], null, null, null, 0, 10);
+            likeSearch(products, queries[i], null, null, 0, 10);
+        }
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-28s %10s %10s %10s%n", "path", "p50 ms", "p99 ms", "mean ms");
+        report("index", measure(queries, q -> index.search(q, null, null, null, 0, 10).getTotal()));
+        report("index + category/price", measure(queries,
+                q -> index.search(q, "Audio", new BigDecimal("20"), new BigDecimal("200"), 0, 10).getTotal()));
+        report("index, page 50", measure(queries, q -> index.search(q, null, null, null, 490, 10).getTotal()));
+        report("LIKE scan", measure(queries, q -> likeSearch(products, q, null, null, 0, 10)));
+        report("LIKE scan + category/price", measure(queries,
+                q -> likeSearch(products, q, "Audio", new BigDecimal("20"), 0, 10)));
+    }
+
+    private interface Query {
+        long run(String query);
+    }
+
+    private static long[] measure(String[] queries, Query query) {
+        long[] nanos = new long[queries.length];
+        long sink = 0;
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            sink += query.run(queries[i]);
+            nanos[i] = System.nanoTime() - start;
+        }
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink); // keeps the results alive
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void report(String name, long[] sortedNanos) {
+        long sum = 0;
+        for (long n : sortedNanos) {
+            sum += n;
+        }
+        System.out.printf(Locale.ROOT, "%-28s %10.3f %10.3f %10.3f%n", name,
+                sortedNanos[(int) Math.ceil(0.50 * sortedNanos.length) - 1] / 1e6,
+                sortedNanos[(int) Math.ceil(0.99 * sortedNanos.length) - 1] / 1e6,
+                sum / 1e6 / sortedNanos.length);
+    }
+
+    // What findByNameContaining + its COUNT query do: scan for the page, scan again to count
+    private static long likeSearch(List<Product> products, String keyword, String category, BigDecimal minPrice,
+                                   int offset, int limit) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        List<Product> page = new ArrayList<>(limit);
+        int seen = 0;
+        for (Product p : products) {
+            if (likeMatches(p, needle, category, minPrice) && seen++ >= offset && page.size() < limit) {
+                page.add(p);
+            }
+        }
+        long count = 0;
+        for (Product p : products) {
+            if (likeMatches(p, needle, category, minPrice)) {
+                count++;
+            }
+        }
+        return count + page.size();
+    }
+
+    private static boolean likeMatches(Product p, String needle, String category, BigDecimal minPrice) {
+        return p.getName().toLowerCase(Locale.ROOT).contains(needle)
+                && (category == null || category.equals(p.getCategory()))
+                && (minPrice == null || p.getPrice().compareTo(minPrice) >= 0);
+    }
+
+    private static Product generate(int id, Random random) {
+        String name = pick(BRANDS, random) + " " + pick(ADJECTIVES, random) + " " + pick(NOUNS, random)
+                + " " + (100 + random.nextInt(900));
+        StringBuilder description = new StringBuilder();
+        int words = 10 + random.nextInt(30);
+        for (int w = 0; w < words; w++) {
+            description.append(pick(DESCRIPTION_WORDS, random)).append(' ');
+        }
+        Product product = new Product(String.format("P%07d", id), name,
+                BigDecimal.valueOf(100 + random.nextInt(99_900), 2), random.nextInt(200),
+                pick(CATEGORIES, random), description.toString().trim());
+        product.setId((long) id);
+        return product;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}